@@ -0,0 +1,85 @@
+package com.example.v4.benchmark;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 Summernote 스타일 HTML 생성기.
+ *
+ * <p>
+ * 고정 시드로 생성하므로 실행마다 같은 입력이 만들어진다. 문단, 서식, 목록, 표, 이미지 태그와
+ * YouTube 링크/텍스트 URL을 섞어 실제 게시글과 비슷한 구성으로 만든다.
+ */
+public final class HtmlCorpus {
+
+    /** 본문 언어 */
+    public enum Language {
+        KO, EN, MIXED
+    }
+
+    private static final String[] KO_WORDS = { "안녕하세요", "게시판", "오늘은", "날씨가", "좋아서", "산책을", "했습니다",
+            "스프링", "부트", "성능", "측정", "결과를", "공유합니다", "댓글", "환영합니다", "정리", "그리고", "다음", "영상" };
+
+    private static final String[] EN_WORDS = { "hello", "board", "today", "the", "weather", "was", "nice", "spring",
+            "boot", "performance", "measurement", "results", "shared", "comment", "welcome", "summary", "and", "next",
+            "video" };
+
+    private static final String[] VIDEO_IDS = { "dQw4w9WgXcQ", "9bZkp7q19f0", "kJQP7kiw5Fk", "OPf0YbXqDm0" };
+
+    private HtmlCorpus() {
+    }
+
+    /**
+     * 지정한 크기 이상의 HTML을 생성한다.
+     *
+     * @param sizeKb 목표 크기 (KB, UTF-8 문자 수 기준 근사치)
+     * @param language 본문 언어
+     * @param youtubeEvery YouTube 링크/URL을 넣을 문단 간격 (0이면 넣지 않음)
+     */
+    public static String generate(int sizeKb, Language language, int youtubeEvery) {
+        Random random = new Random(42);
+        int target = sizeKb * 1024;
+        StringBuilder sb = new StringBuilder(target + 512);
+        int paragraph = 0;
+        while (sb.length() < target) {
+            paragraph++;
+            switch (paragraph % 7) {
+                case 0 -> sb.append("<ul><li>").append(sentence(random, language, 6)).append("</li><li>")
+                        .append(sentence(random, language, 6)).append("</li></ul>");
+                case 3 -> sb.append("<table class=\"table table-bordered\"><tbody><tr><td>")
+                        .append(sentence(random, language, 3)).append("</td><td>")
+                        .append(sentence(random, language, 3)).append("</td></tr></tbody></table>");
+                case 5 -> sb.append("<p><img src=\"/images/").append(paragraph)
+                        .append(".png\" style=\"width: 50%;\" data-filename=\"").append(paragraph).append(".png\"></p>");
+                default -> sb.append("<p>").append(sentence(random, language, 12)).append(" <b>")
+                        .append(sentence(random, language, 2)).append("</b> &amp; ")
+                        .append(sentence(random, language, 8)).append("</p>");
+            }
+            if (youtubeEvery > 0 && paragraph % youtubeEvery == 0) {
+                String videoId = VIDEO_IDS[paragraph % VIDEO_IDS.length];
+                if (paragraph % 2 == 0) {
+                    sb.append("<p><a href=\"https://www.youtube.com/watch?v=").append(videoId)
+                            .append("\" target=\"_blank\">영상</a></p>");
+                } else {
+                    sb.append("<p>https://youtu.be/").append(videoId).append("</p>");
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String sentence(Random random, Language language, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            String[] dictionary = switch (language) {
+                case KO -> KO_WORDS;
+                case EN -> EN_WORDS;
+                case MIXED -> random.nextBoolean() ? KO_WORDS : EN_WORDS;
+            };
+            sb.append(dictionary[random.nextInt(dictionary.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.v4.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.v4.SpringBoardApplication;
+import com.example.v4.board.repository.BoardRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+/**
+ * 게시글 목록(/)과 상세(/board/detail/{id}) 요청 부하: OSIV 켜짐 vs 꺼짐 (spring.jpa.open-in-view).
+ *
+ * <p>
+ * 반복(fork)마다 애플리케이션을 빈 포트로 실제로 띄우고, 커넥션 풀(poolSize)보다 많은 스레드가 HTTP로 요청한다.
+ * 비로그인 페이지 캐시, 게시글 상세 캐시, 작성자 캐시는 꺼서 요청마다 조회 → 작성자 이름 내부 API(transport) →
+ * Mustache 렌더링을 모두 거치게 한다. OSIV 켜짐은 이 전체 구간 동안, 꺼짐은 서비스 트랜잭션 동안만 커넥션을 점유한다.
+ * 처리량(ops/s)과 함께 반복(iteration)마다 풀에서 커넥션을 얻기까지 기다린 시간(평균, p99, 최대), 타임아웃 건수,
+ * 200이 아닌 응답 건수를 출력한다.
+ *
+ * <p>
+ * Spring Boot 자동 설정 파일(META-INF/spring/*.imports)이 jmhJar에서는 하나만 남으므로
+ * {@code gradlew jmh -Pjmh.includes=OsivLoadBenchmark}로 실행한다.
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class OsivLoadBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean openInView;
+
+    @Param({ "4" })
+    private int poolSize;
+
+    /** 작성자 이름 내부 API 전송 방식 (local: 같은 스레드에서 직접 호출, http: 실제 HTTP 왕복) */
+    @Param({ "local" })
+    private String transport;
+
+    private final ConcurrentHistogram waitMicros = new ConcurrentHistogram(3);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI index;
+    private URI[] details;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        String baseUrl = "http://localhost:" + port;
+        // application.properties보다 우선하도록 명령행 인자로 넘긴다
+        context = new SpringApplicationBuilder(SpringBoardApplication.class).run(
+                "--server.port=" + port,
+                "--spring.jpa.open-in-view=" + openInView,
+                "--spring.datasource.url=jdbc:h2:mem:osiv;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                "--spring.datasource.hikari.connection-timeout=5000",
+                "--app.rest-client.base-url=" + baseUrl,
+                "--app.rest-client.transport=" + transport,
+                "--app.cache.page.enabled=false",
+                "--app.cache.board-detail.maximum-size=0",
+                "--app.cache.writer.maximum-size=0",
+                "--app.trace.enabled=false",
+                "--app.aop.logging.sample-rate=0.0",
+                "--app.board.image.dir=" + Files.createTempDirectory("osiv-images"),
+                "--spring.mustache.cache=true",
+                "--spring.jpa.show-sql=false",
+                "--spring.output.ansi.enabled=never",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN");
+
+        HikariDataSource dataSource = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                waitMicros.recordValue(elapsedAcquiredNanos / 1_000);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        });
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        index = URI.create(baseUrl + "/");
+        int boards = context.getBean(BoardRepository.class).findMaxId();
+        details = new URI[boards];
+        for (int id = 1; id <= boards; id++) {
+            details[id - 1] = URI.create(baseUrl + "/board/detail/" + id);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPoolStats() {
+        waitMicros.reset();
+        timeouts.reset();
+        failures.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPoolStats() {
+        System.out.printf("%n[osiv=%s] 커넥션 대기 %d건: 평균 %.1fµs, p99 %dµs, 최대 %dµs, 타임아웃 %d건, 200 외 응답 %d건%n",
+                openInView, waitMicros.getTotalCount(), waitMicros.getMean(), waitMicros.getValueAtPercentile(99),
+                waitMicros.getMaxValue(), timeouts.sum(), failures.sum());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int index() throws IOException, InterruptedException {
+        return get(index);
+    }
+
+    @Benchmark
+    public int detail() throws IOException, InterruptedException {
+        return get(details[ThreadLocalRandom.current().nextInt(details.length)]);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            failures.increment();
+        }
+        return response.body().length;
+    }
+}
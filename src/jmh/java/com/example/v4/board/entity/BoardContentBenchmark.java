@@ -0,0 +1,48 @@
+package com.example.v4.board.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.v4.benchmark.HtmlCorpus;
+
+/**
+ * 게시글 본문 인코딩(저장 시)과 복원(상세 캐시 미스마다) 비용 측정. 시작 시 크기별 압축률(저장/원문)을 출력한다.
+ */
+@State(Scope.Benchmark)
+public class BoardContentBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int sizeKb;
+
+    @Param({ "KO", "EN", "MIXED" })
+    private HtmlCorpus.Language language;
+
+    /** 압축 임계값 (바이트, 기본값 app.board.content.compress-threshold) */
+    @Param({ "1024" })
+    private int compressThreshold;
+
+    private String text;
+    private BoardContent stored;
+
+    @Setup
+    public void setUp() {
+        text = HtmlCorpus.generate(sizeKb, language, 10);
+        stored = BoardContent.of(1, text, compressThreshold);
+        System.out.printf("%n[%dKB %s] %s %d → %d바이트 (압축률 %.3f)%n", sizeKb, language, stored.getEncoding(),
+                stored.getOriginalLength(), stored.getStoredLength(),
+                (double) stored.getStoredLength() / stored.getOriginalLength());
+    }
+
+    @Benchmark
+    public BoardContent encode() {
+        return BoardContent.of(1, text, compressThreshold);
+    }
+
+    @Benchmark
+    public String decode() {
+        return stored.text();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.v4.board.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.v4.benchmark.HtmlCorpus;
+import com.example.v4.board.dto.BoardReponseDto;
+import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.entity.Board;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.reply.dto.ReplyResponseDto;
+
+/**
+ * 상세 화면 캐시 항목 조립(캐시 미스, 댓글은 첫 페이지만), 조회자별 DTO 덧씌우기(요청마다)와 저장용 엔티티 생성 비용 측정.
+ */
+@State(Scope.Benchmark)
+public class BoardMapperBenchmark {
+
+    /** 상세 화면에 함께 렌더링되는 댓글 수 (0 또는 ReplyService.PAGE_SIZE) */
+    @Param({ "0", "20" })
+    private int replyCount;
+
+    @Param({ "10" })
+    private int sizeKb;
+
+    private final BoardMapper mapper = new BoardMapper();
+
+    private Board board;
+    private BoardRequestDto request;
+    private List<ReplyResponseDto> replies;
+    private BoardDetailCache.Detail detail;
+    private final SessionUser viewer = new SessionUser(1, "user1", "user1@email.com");
+
+    @Setup
+    public void setUp() {
+        String content = HtmlCorpus.generate(sizeKb, HtmlCorpus.Language.MIXED, 10);
+        board = Board.builder().id(1).title("벤치마크 게시글").content(content).writerId(1).build();
+
+        replies = new ArrayList<>(replyCount);
+        for (int i = 0; i < replyCount; i++) {
+            int userId = i % 20 + 1;
+            replies.add(new ReplyResponseDto(i + 1, "댓글 comment " + i, userId, "user" + userId, userId == 1));
+        }
+
+        detail = mapper.toDetail(board, "user1", replies, null);
+        request = new BoardRequestDto("벤치마크 게시글", content);
+    }
+
+    @Benchmark
+    public BoardDetailCache.Detail toDetail() {
+        return mapper.toDetail(board, "user1", replies, null);
+    }
+
+    @Benchmark
+    public BoardReponseDto toResponseDto() {
+        return mapper.toResponseDto(detail, viewer);
+    }
+
+    @Benchmark
+    public Board toBoard() {
+        return mapper.toBoard(null, 1, request);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.v4.board.search;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 제목 자동완성 조회 비용 측정 (게시글 boards건, 한국어·영문 혼합 제목).
+ *
+ * <p>
+ * 짧은 접두사(결과가 많은 상위 노드)와 긴 접두사(깊은 노드)를 번갈아 조회한다.
+ * 저장소 없이 index()로 직접 채운다 (트랜잭션 밖이므로 바로 반영).
+ */
+@State(Scope.Benchmark)
+public class TitleSuggesterBenchmark {
+
+    private static final String[] WORDS = { "스프링", "부트", "자바", "트랜잭션", "인덱스", "캐시", "검색", "공지", "질문",
+            "후기", "spring", "jpa", "hibernate", "mustache", "성능", "튜닝", "배치", "설정", "오류", "해결" };
+
+    @Param({ "100000" })
+    private int boards;
+
+    private TitleSuggester suggester;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        suggester = new TitleSuggester(null, 10, 500);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 1; id <= boards; id++) {
+            StringBuilder title = new StringBuilder();
+            int words = 2 + random.nextInt(4);
+            for (int w = 0; w < words; w++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(w == 0 ? "" : String.valueOf(random.nextInt(100)))
+                        .append(' ');
+            }
+            suggester.index(id, title.toString().strip());
+        }
+        prefixes = new String[] { "스", "스프링", "트랜", "spring 1", "hib", "공지 후기3", "캐시 튜닝12", "없는" };
+    }
+
+    @Benchmark
+    public List<TitleSuggester.Suggestion> suggest() {
+        String prefix = prefixes[next++ & 7];
+        return suggester.suggest(prefix, 10);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.v4.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.v4.benchmark.HtmlCorpus;
+
+/**
+ * 게시글 저장 시 내용 변환(YouTube 임베드 + 정제) 비용 측정.
+ */
+@State(Scope.Benchmark)
+public class BoardContentRewriterBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int sizeKb;
+
+    @Param({ "KO", "EN", "MIXED" })
+    private HtmlCorpus.Language language;
+
+    /** YouTube 링크 간격 (0: 없음) */
+    @Param({ "0", "10" })
+    private int youtubeEvery;
+
+    private final BoardContentRewriter rewriter = new BoardContentRewriter();
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = HtmlCorpus.generate(sizeKb, language, youtubeEvery);
+    }
+
+    @Benchmark
+    public String rewrite() {
+        return rewriter.rewrite(content);
+    }
+}
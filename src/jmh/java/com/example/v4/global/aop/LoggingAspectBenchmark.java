@@ -0,0 +1,62 @@
+package com.example.v4.global.aop;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.example.v4.benchmark.HtmlCorpus;
+import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.service.BoardContentRewriter;
+import com.example.v4.global.dto.SessionUser;
+
+/**
+ * AOP 로깅 비용 측정.
+ *
+ * <p>
+ * <ul>
+ * <li>direct / unsampled: 프록시 없는 호출과 샘플링되지 않은(비율 0) 프록시 호출 비교</li>
+ * <li>renderArgs: 로그가 출력될 때 발생하는 인자 요약과 메시지 포맷팅 (컨트롤러 저장 요청 형태)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class LoggingAspectBenchmark {
+
+    @Param({ "1", "50" })
+    private int sizeKb;
+
+    private final BoardContentRewriter rewriter = new BoardContentRewriter();
+
+    private BoardContentRewriter unsampledProxy;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new BoardContentRewriter());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LoggingAspect(0.0, "", 200, 3));
+        unsampledProxy = factory.getProxy();
+
+        String content = HtmlCorpus.generate(sizeKb, HtmlCorpus.Language.MIXED, 10);
+        args = new Object[] { "1", new BoardRequestDto("제목", content), new SessionUser(1, "ssar", "ssar@nate.com") };
+    }
+
+    @Benchmark
+    public String direct() {
+        return rewriter.rewrite(null);
+    }
+
+    @Benchmark
+    public String unsampled() {
+        return unsampledProxy.rewrite(null);
+    }
+
+    @Benchmark
+    public String renderArgs() {
+        return MessageFormatter.basicArrayFormat("[AOP] {}#{} 호출 - args: {}",
+                new Object[] { "BoardController", "save", LogSummary.ofArgs(args, 200, 3) });
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.v4.global.id;
+
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * 게시글 + 댓글 대량 INSERT 처리량: IDENTITY(전환 전) vs 시퀀스 + pooled-lo(전환 후).
+ *
+ * <p>
+ * board_tb/reply_tb와 같은 컬럼의 벤치마크 전용 엔티티를 H2 인메모리 DB에 매핑하고, 게시글 boards건과
+ * 게시글마다 댓글 repliesPerBoard건을 batchSize건마다 flush/clear하며 저장한다. 호출마다 테이블을 비운다.
+ * rows 보조 카운터가 초당 저장 행 수를 보고한다.
+ * IDENTITY는 행마다 INSERT를 즉시 실행하고, 시퀀스는 allocationSize건마다 시퀀스를 한 번 호출한 뒤 INSERT를 JDBC 배치로 묶는다.
+ */
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Param({ "identity", "pooled" })
+    private String strategy;
+
+    @Param({ "1000" })
+    private int boards;
+
+    @Param({ "10" })
+    private int repliesPerBoard;
+
+    @Param({ "50" })
+    private int allocationSize;
+
+    @Param({ "50" })
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private boolean identity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        identity = "identity".equals(strategy);
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(identity ? IdentityBoard.class : PooledBoard.class)
+                .addAnnotatedClass(identity ? IdentityReply.class : PooledReply.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:bulk" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, String.valueOf(allocationSize))
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("set referential_integrity false").executeUpdate();
+            session.createNativeMutationQuery("truncate table bench_reply_tb").executeUpdate();
+            session.createNativeMutationQuery("truncate table bench_board_tb").executeUpdate();
+            session.createNativeMutationQuery("set referential_integrity true").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insertBoardsAndReplies(Rows rows) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        int pending = 0;
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            for (int b = 0; b < boards; b++) {
+                Object board = identity
+                        ? new IdentityBoard("title" + b, "content" + b, b % 100 + 1, now)
+                        : new PooledBoard("title" + b, "content" + b, b % 100 + 1, now);
+                session.persist(board);
+                for (int r = 0; r < repliesPerBoard; r++) {
+                    session.persist(identity
+                            ? new IdentityReply("comment" + r, (IdentityBoard) board, r % 100 + 1, now)
+                            : new PooledReply("comment" + r, (PooledBoard) board, r % 100 + 1, now));
+                }
+                pending += 1 + repliesPerBoard;
+                if (pending >= batchSize) {
+                    session.flush();
+                    session.clear();
+                    pending = 0;
+                }
+            }
+            tx.commit();
+        }
+        rows.rows += (long) boards * (1 + repliesPerBoard);
+    }
+
+    /** 저장한 행 수 (thrpt 모드에서 초당 행 수로 보고) */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Entity
+    @Table(name = "bench_board_tb")
+    public static class IdentityBoard {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Integer id;
+        String title;
+        @Column(columnDefinition = "TEXT")
+        String content;
+        Integer writerId;
+        Timestamp createdAt;
+
+        protected IdentityBoard() {
+        }
+
+        IdentityBoard(String title, String content, Integer writerId, Timestamp createdAt) {
+            this.title = title;
+            this.content = content;
+            this.writerId = writerId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_reply_tb")
+    public static class IdentityReply {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Integer id;
+        String comment;
+        @ManyToOne(fetch = FetchType.LAZY)
+        IdentityBoard board;
+        Integer userId;
+        Timestamp createdAt;
+
+        protected IdentityReply() {
+        }
+
+        IdentityReply(String comment, IdentityBoard board, Integer userId, Timestamp createdAt) {
+            this.comment = comment;
+            this.board = board;
+            this.userId = userId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_board_tb")
+    public static class PooledBoard {
+        @Id
+        @PooledSequence("bench_board_tb_seq")
+        Integer id;
+        String title;
+        @Column(columnDefinition = "TEXT")
+        String content;
+        Integer writerId;
+        Timestamp createdAt;
+
+        protected PooledBoard() {
+        }
+
+        PooledBoard(String title, String content, Integer writerId, Timestamp createdAt) {
+            this.title = title;
+            this.content = content;
+            this.writerId = writerId;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_reply_tb")
+    public static class PooledReply {
+        @Id
+        @PooledSequence("bench_reply_tb_seq")
+        Integer id;
+        String comment;
+        @ManyToOne(fetch = FetchType.LAZY)
+        PooledBoard board;
+        Integer userId;
+        Timestamp createdAt;
+
+        protected PooledReply() {
+        }
+
+        PooledReply(String comment, PooledBoard board, Integer userId, Timestamp createdAt) {
+            this.comment = comment;
+            this.board = board;
+            this.userId = userId;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.example.v4.board.controller;
 
-import java.util.List;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
 import com.example.v4.board.dto.BoardReponseDto;
 import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.dto.BoardSummaryDto;
 import com.example.v4.board.service.BoardService;
+import com.example.v4.board.service.BoardVersions;
 import com.example.v4.global.annotation.LoginUser;
 import com.example.v4.global.annotation.ValidateOnError;
+import com.example.v4.global.cache.PageCache;
 import com.example.v4.global.dto.SessionUser;
+import com.example.v4.reply.dto.ReplyResponseDto;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -31,33 +41,69 @@ public class BoardController {
     final BoardService boardService;
 
     /**
-     * 게시글 목록 메인 페이지를 반환한다.
+     * 게시글 목록 메인 페이지를 반환한다. ID 커서 기반으로 한 페이지씩 조회한다.
+     * 비로그인 페이지 캐시용으로 목록과 표시된 작성자의 대리 키를 붙인다.
+     * 목록 버전이 요청의 검증자와 같으면 조회 없이 304로 응답한다.
      *
-     * @param user 로그인 사용자 (null 가능)
-     * @param req 요청 객체 (models 속성 주입용)
-     * @return 뷰 이름 "index"
+     * @param keyword 제목 검색어 (선택)
+     * @param next 다음 페이지 커서 (선택)
+     * @param prev 이전 페이지 커서 (선택)
+     * @param user 로그인 사용자 (null 가능, 검증자 구분용)
+     * @param req 요청 객체 (models, keyword, prevCursor, nextCursor 속성 주입용)
+     * @param webRequest 조건부 GET 처리용
+     * @return 뷰 이름 "index" (304 응답이면 null)
      */
     @GetMapping("/")
-    public String board(@LoginUser SessionUser user, HttpServletRequest req) {
-        List<BoardReponseDto> models = boardService.list(user);
-        req.setAttribute("models", models);
+    public String board(@RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "next", required = false) Integer next,
+            @RequestParam(value = "prev", required = false) Integer prev,
+            @LoginUser SessionUser user, HttpServletRequest req, ServletWebRequest webRequest) {
+        if (notModified(webRequest, boardService.indexValidators(user), user)) {
+            return null;
+        }
+        BoardService.BoardPageResult page = boardService.list(keyword, next, prev);
+
+        req.setAttribute("models", page.boards());
+        req.setAttribute("keyword", page.keyword());
+        req.setAttribute("keywordParam",
+                page.keyword() != null ? "&keyword=" + URLEncoder.encode(page.keyword(), StandardCharsets.UTF_8) : "");
+        req.setAttribute("prevCursor", page.prevCursor());
+        req.setAttribute("nextCursor", page.nextCursor());
+
+        PageCache.tag(req, PageCache.INDEX);
+        for (BoardSummaryDto board : page.boards()) {
+            PageCache.tag(req, PageCache.writer(board.getWriteId()));
+        }
         return "index";
     }
 
     /**
      * 게시글 상세 페이지를 반환한다.
+     * 비로그인 페이지 캐시용으로 게시글, 게시글 작성자, 표시된 댓글 작성자의 대리 키를 붙인다.
+     * 게시글 버전이 요청의 검증자와 같으면 조회 없이 304로 응답한다.
      *
      * @param id 게시글 ID
      * @param user 로그인 사용자 (null 가능)
      * @param req 요청 객체 (model, isModify 속성 주입용)
-     * @return 뷰 이름 "board/detail"
+     * @param webRequest 조건부 GET 처리용
+     * @return 뷰 이름 "board/detail" (304 응답이면 null)
      */
     @GetMapping("/board/detail/{id}")
-    public String detail(@PathVariable("id") String id, @LoginUser SessionUser user, HttpServletRequest req) {
+    public String detail(@PathVariable("id") String id, @LoginUser SessionUser user, HttpServletRequest req,
+            ServletWebRequest webRequest) {
+        if (notModified(webRequest, boardService.detailValidators(id, user), user)) {
+            return null;
+        }
         BoardService.BoardDetailResult result = boardService.getBoardDetail(id, user);
 
         req.setAttribute("model", result.board());
         req.setAttribute("isModify", result.isModify());
+        req.setAttribute("replyCursor", result.replyCursor());
+
+        PageCache.tag(req, PageCache.board(result.board().getId()), PageCache.writer(result.board().getWriteId()));
+        for (ReplyResponseDto reply : result.board().getReplies()) {
+            PageCache.tag(req, PageCache.writer(reply.getReplyWriterId()));
+        }
         return "board/detail";
     }
 
@@ -130,4 +176,23 @@ public class BoardController {
         boardService.deleteBoardIfOwner(boardId, user);
         return "redirect:/";
     }
+
+    /**
+     * 조건부 GET: 검증자(ETag, Last-Modified)가 요청의 If-None-Match / If-Modified-Since와 맞으면 304로 응답한다.
+     * 로그인 상태에 따라 화면이 다르므로 Vary: Cookie를 붙이고, 로그인 사용자의 화면은 공유 캐시에 저장하지 않게 한다.
+     * 플래시 메시지가 있는 화면은 다시 쓰이면 안 되므로 검증자를 붙이지 않는다.
+     *
+     * @return 304로 응답했으면 true
+     */
+    private static boolean notModified(ServletWebRequest webRequest, BoardVersions.Validators validators,
+            SessionUser user) {
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        if (RequestContextUtils.getInputFlashMap(webRequest.getRequest()) != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            return false;
+        }
+        CacheControl cacheControl = user != null ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return webRequest.checkNotModified(validators.etag(), validators.lastModified());
+    }
 }
@@ -0,0 +1,170 @@
+package com.example.v4.board.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.v4.board.service.BoardImageStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 본문 이미지({@link BoardImageStore})를 응답한다.
+ *
+ * <p>
+ * 동작:
+ * <ul>
+ * <li>파일 이름이 내용의 SHA-256이므로 내용이 바뀌지 않는다: 1년 immutable 캐시, 해시를 ETag로 사용</li>
+ * <li>Range 요청은 단일 구간만 206으로 응답하며, 여러 구간이거나 If-Range가 맞지 않으면 전체를 200으로 응답한다</li>
+ * <li>본문은 Tomcat sendfile로 보내고 (커넥터가 FileChannel.transferTo로 소켓에 직접 전송),
+ * sendfile을 쓸 수 없으면 FileChannel.transferTo로 응답 스트림에 복사한다
+ * (응답 스트림은 소켓 채널이 아니므로 JDK가 임시 버퍼를 거쳐 복사하며, 파일 전체를 힙에 올리지는 않음)</li>
+ * </ul>
+ */
+@Controller
+@RequiredArgsConstructor
+public class BoardImageController {
+
+    // Tomcat 커넥터의 sendfile 요청 속성 (org.apache.coyote.Constants)
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    final BoardImageStore imageStore;
+
+    /**
+     * 이미지 파일을 응답한다.
+     *
+     * @param name 파일 이름 ({sha256}.{확장자})
+     */
+    @GetMapping(BoardImageStore.URL_PREFIX + "{name:[0-9a-f]{64}\\.[a-z]{3,4}}")
+    public void image(@PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file = imageStore.resolve(name);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = "\"" + name.substring(0, name.indexOf('.')) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long size = Files.size(file);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = ifRange == null || ifRange.equals(etag)
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+        // spring.servlet.encoding.force로 붙은 charset은 이미지에 맞지 않으므로 지운다
+        response.setCharacterEncoding((String) null);
+        response.setContentType(BoardImageStore.contentType(name));
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+        } else {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        response.setContentLengthLong(range.length());
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+        send(file, range, request, response);
+    }
+
+    private static void send(Path file, ByteRange range, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 본문은 핸들러가 끝난 뒤 커넥터가 보낸다
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long end = range.end() + 1;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /** 응답할 바이트 구간 (start, end 모두 포함) */
+    record ByteRange(long start, long end) {
+
+        /** 파일 크기를 벗어난 구간 (416) */
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        long length() {
+            return end - start + 1;
+        }
+
+        /**
+         * Range 헤더의 단일 구간을 해석한다 (bytes=a-b, bytes=a-, bytes=-n).
+         *
+         * @return 응답할 구간, 헤더가 없거나 해석할 수 없거나 여러 구간이면 null (전체 응답), 범위를 벗어나면 {@link #UNSATISFIABLE}
+         */
+        static ByteRange parse(String header, long size) {
+            if (header == null || !header.startsWith("bytes=")) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).strip();
+            int dash = spec.indexOf('-');
+            if (dash < 0 || spec.indexOf(',') >= 0) {
+                return null;
+            }
+            String first = spec.substring(0, dash).strip();
+            String last = spec.substring(dash + 1).strip();
+            try {
+                if (first.isEmpty()) {
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || size == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    return new ByteRange(Math.max(0, size - suffix), size - 1);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, Math.min(end, size - 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
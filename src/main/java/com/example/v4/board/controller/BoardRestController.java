@@ -0,0 +1,45 @@
+package com.example.v4.board.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.v4.board.search.TitleSuggester;
+import com.example.v4.board.service.BoardService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class BoardRestController {
+
+    final BoardService boardService;
+
+    /**
+     * 게시글 제목·본문을 검색한다 (n-gram 색인, 순위순).
+     *
+     * @param query 검색어 (예: q=스프링 부트)
+     * @param page 페이지 번호 (0부터)
+     * @return 게시글 목록, 전체 일치 건수, 다음 페이지 존재 여부
+     */
+    @GetMapping("/boards/search")
+    public BoardService.BoardSearchResult search(@RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", defaultValue = "0") int page) {
+        return boardService.search(query, page);
+    }
+
+    /**
+     * 검색창 입력값으로 시작하는 게시글 제목을 최신순으로 반환한다 (메모리 trie, DB 조회 없음).
+     *
+     * @param prefix 입력 중인 검색어 (예: q=스프)
+     * @return 게시글 ID와 제목 (최대 10건)
+     */
+    @GetMapping("/boards/suggest")
+    public List<TitleSuggester.Suggestion> suggest(@RequestParam(value = "q", required = false) String prefix) {
+        return boardService.suggest(prefix);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.v4.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 목록 응답 DTO
+ * 역할: 목록 화면(index)에 표시할 번호, 제목, 작성자, 댓글 수만 전달하는 경량 객체입니다.
+ * 특징: 본문(content)과 댓글 목록을 포함하지 않아 목록 조회 시 불필요한 데이터 로딩을 피합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSummaryDto {
+    // 게시글 고유 ID
+    String id;
+    // 게시글 제목
+    String title;
+
+    String writeId;
+
+    String writeName;
+
+    // 댓글 수 (board_tb.reply_count)
+    int replyCount;
+}
@@ -1,22 +1,24 @@
 package com.example.v4.board.entity;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 
+import com.example.v4.global.id.PooledSequence;
 import com.example.v4.reply.entity.Reply;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -33,24 +35,42 @@ public class Board {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("board_tb_seq")
     private Integer id;
 
     @Column
     private String title;
 
-    @Column(columnDefinition = "TEXT")
+    // 본문은 board_content_tb에 따로 저장하며 (BoardContentStore), 상세·수정 폼을 읽을 때만 채운다
+    @Transient
     private String content;
 
     @Column(nullable = false)
     private Integer writerId;
 
     @ToString.Exclude
-    @OneToMany(mappedBy = "board", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "board", fetch = FetchType.LAZY)
     @OrderBy("id DESC")
     private final List<Reply> replies = new ArrayList<>();
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
+
+    /*
+     * 댓글 통계 (비정규화)
+     * - 목록 화면이 reply_tb를 읽지 않고 댓글 수와 최근 댓글 시각을 표시하기 위한 컬럼입니다.
+     * - 엔티티 변경 감지로는 쓰지 않으며(updatable = false), BoardRepository의 원자적 UPDATE
+     *   (addReplies, removeReply, rebuildReplyStats)로만 변경합니다.
+     */
+
+    // 댓글 수
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private Integer replyCount = 0;
+
+    // 가장 최근 댓글의 작성 시각 (댓글이 없으면 null)
+    @Column(name = "last_reply_at", updatable = false)
+    private LocalDateTime lastReplyAt;
 }
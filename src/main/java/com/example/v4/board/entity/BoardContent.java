@@ -0,0 +1,180 @@
+package com.example.v4.board.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (board_content_tb, 게시글 ID를 PK로 공유).
+ *
+ * <p>
+ * 목록·작성자 확인·수정/삭제 조건 검사처럼 본문이 필요 없는 조회가 board_tb에서 TEXT 컬럼을 읽지 않도록 본문만 따로 저장한다.
+ * 상세 화면·수정 폼·검색 색인 구성 때만 읽는다.
+ * <ul>
+ * <li>UTF-8 기준 임계값 이상이고 deflate 결과가 더 작을 때만 압축해 저장한다 ({@link Encoding})</li>
+ * <li>originalLength/storedLength로 압축률을 SQL 집계만으로 계산할 수 있다</li>
+ * </ul>
+ */
+@Getter
+@Entity
+@Table(name = "board_content_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardContent implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "board_id")
+    private Integer boardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Encoding encoding;
+
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] data;
+
+    // 원문 UTF-8 바이트 수
+    @Column(name = "original_length", nullable = false)
+    private Integer originalLength;
+
+    // 저장된 data 바이트 수
+    @Column(name = "stored_length", nullable = false)
+    private Integer storedLength;
+
+    // 새로 만든 본문은 merge(SELECT 선행) 대신 persist로 INSERT만 실행한다
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 본문을 인코딩한다. compressThreshold바이트 이상이고 압축 결과가 더 작으면 deflate로 저장한다.
+     *
+     * @param text 본문 (null이면 빈 문자열)
+     */
+    public static BoardContent of(Integer boardId, String text, int compressThreshold) {
+        byte[] raw = (text != null ? text : "").getBytes(StandardCharsets.UTF_8);
+        Encoding encoding = Encoding.PLAIN;
+        byte[] data = raw;
+        if (raw.length >= compressThreshold) {
+            byte[] deflated = Encoding.DEFLATE.encode(raw);
+            if (deflated.length < raw.length) {
+                encoding = Encoding.DEFLATE;
+                data = deflated;
+            }
+        }
+        BoardContent content = new BoardContent();
+        content.boardId = boardId;
+        content.encoding = encoding;
+        content.data = data;
+        content.originalLength = raw.length;
+        content.storedLength = data.length;
+        return content;
+    }
+
+    /** 저장된 본문을 복원한다. */
+    public String text() {
+        return encoding.decode(data, originalLength);
+    }
+
+    @Override
+    public Integer getId() {
+        return boardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    /** 본문 저장 형식 */
+    public enum Encoding {
+
+        /** UTF-8 그대로 */
+        PLAIN {
+            @Override
+            byte[] encode(byte[] raw) {
+                return raw;
+            }
+
+            @Override
+            public String decode(byte[] data, int originalLength) {
+                return new String(data, StandardCharsets.UTF_8);
+            }
+        },
+
+        /** UTF-8을 deflate(zlib)로 압축 */
+        DEFLATE {
+            @Override
+            byte[] encode(byte[] raw) {
+                Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+                try {
+                    deflater.setInput(raw);
+                    deflater.finish();
+                    ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+                    byte[] buffer = new byte[8192];
+                    while (!deflater.finished()) {
+                        out.write(buffer, 0, deflater.deflate(buffer));
+                    }
+                    return out.toByteArray();
+                } finally {
+                    deflater.end();
+                }
+            }
+
+            @Override
+            public String decode(byte[] data, int originalLength) {
+                Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(data);
+                    byte[] raw = new byte[originalLength];
+                    int length = 0;
+                    while (length < originalLength && !inflater.finished()) {
+                        int read = inflater.inflate(raw, length, originalLength - length);
+                        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            break;
+                        }
+                        length += read;
+                    }
+                    if (length != originalLength) {
+                        throw new IllegalStateException("게시글 본문 압축 데이터가 손상되었습니다.");
+                    }
+                    return new String(raw, StandardCharsets.UTF_8);
+                } catch (DataFormatException e) {
+                    throw new IllegalStateException("게시글 본문 압축 데이터가 손상되었습니다.", e);
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+
+        abstract byte[] encode(byte[] raw);
+
+        /**
+         * 저장된 바이트를 본문으로 복원한다.
+         *
+         * @param originalLength 원문 UTF-8 바이트 수
+         */
+        public abstract String decode(byte[] data, int originalLength);
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.v4.board.mapper;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.example.v4.board.dto.BoardReponseDto;
 import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.dto.BoardSummaryDto;
 import com.example.v4.board.entity.Board;
+import com.example.v4.board.repository.BoardSummary;
+import com.example.v4.board.service.BoardDetailCache;
 import com.example.v4.global.dto.SessionUser;
 import com.example.v4.reply.dto.ReplyResponseDto;
 
@@ -22,21 +26,63 @@ public class BoardMapper {
                 .build();
     }
 
-    public BoardReponseDto toResponseDto(Board board, String writerName, SessionUser su) {
-        return new BoardReponseDto(
-                String.valueOf(board.getId()),
+    /**
+     * 상세 화면 캐시 항목. 댓글은 첫 페이지만 받으며, 조회자별 값(본인 댓글 여부)은 버린다.
+     */
+    public BoardDetailCache.Detail toDetail(Board board, String writerName, List<ReplyResponseDto> replies,
+            Integer replyCursor) {
+        return new BoardDetailCache.Detail(
+                board.getId(),
                 board.getTitle(),
                 board.getContent(),
-                board.getWriterId().toString(),
+                board.getWriterId(),
+                writerName,
+                replies.stream()
+                        .map(reply -> new BoardDetailCache.Reply(reply.getId(), reply.getComment(),
+                                reply.getReplyWriterId(), reply.getReplyWriterNm()))
+                        .toList(),
+                replyCursor);
+    }
+
+    /**
+     * 상세 화면 DTO. 캐시 항목을 복사하고 조회자 기준으로 본인 댓글 여부를 덧씌운다.
+     *
+     * @param viewer 로그인 사용자 (null 가능)
+     */
+    public BoardReponseDto toResponseDto(BoardDetailCache.Detail detail, SessionUser viewer) {
+        List<ReplyResponseDto> replies = detail.replies().stream()
+                .map(reply -> new ReplyResponseDto(
+                        reply.id(),
+                        reply.comment(),
+                        reply.writerId(),
+                        reply.writerName(),
+                        viewer != null && reply.writerId().equals(viewer.id())))
+                .toList();
+        return new BoardReponseDto(
+                String.valueOf(detail.id()),
+                detail.title(),
+                detail.content(),
+                String.valueOf(detail.writerId()),
+                detail.writerName(),
+                replies);
+    }
+
+    public BoardReponseDto toFormDto(BoardDetailCache.Detail detail) {
+        return new BoardReponseDto(
+                String.valueOf(detail.id()),
+                detail.title(),
+                detail.content(),
+                String.valueOf(detail.writerId()),
+                null,
+                List.of());
+    }
+
+    public BoardSummaryDto toSummaryDto(BoardSummary summary, String writerName) {
+        return new BoardSummaryDto(
+                String.valueOf(summary.id()),
+                summary.title(),
+                String.valueOf(summary.writerId()),
                 writerName,
-                board.getReplies().stream().map(reply -> {
-                    var user = reply.getUser();
-                    return new ReplyResponseDto(
-                            reply.getId(),
-                            reply.getComment(),
-                            user.getId(),
-                            user.getUserName(),
-                            su == null ? false : user.getId().equals(su.id()));
-                }).toList());
+                summary.replyCount());
     }
 }
@@ -0,0 +1,47 @@
+package com.example.v4.board.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.v4.board.entity.BoardContent;
+
+/**
+ * 게시글 본문 리포지토리 (Repository)
+ *
+ * 역할:
+ * - 'board_content_tb' 테이블(게시글 ID → 인코딩된 본문)에 접근합니다.
+ * - 본문은 상세 화면·수정 폼에서 게시글 ID(PK)로 한 건씩 읽고, 쓰기는 조건 없는 UPDATE/DELETE 1회로 실행합니다.
+ */
+@Repository
+public interface BoardContentRepository extends JpaRepository<BoardContent, Integer> {
+
+    // 본문 교체 (영향받은 행 수가 0이면 본문 행 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("update BoardContent c set c.encoding = :encoding, c.data = :data, c.originalLength = :originalLength, "
+            + "c.storedLength = :storedLength where c.boardId = :boardId")
+    int update(@Param("boardId") Integer boardId, @Param("encoding") BoardContent.Encoding encoding,
+            @Param("data") byte[] data, @Param("originalLength") Integer originalLength,
+            @Param("storedLength") Integer storedLength);
+
+    // 본문 삭제 (게시글 삭제와 같은 트랜잭션)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from BoardContent c where c.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Integer boardId);
+
+    // 주어진 게시글 ID 중 본문 행이 이미 있는 ID (이관 시 새 본문을 덮어쓰지 않기 위함)
+    @Query("select c.boardId from BoardContent c where c.boardId in :boardIds")
+    List<Integer> findExistingIds(@Param("boardIds") Collection<Integer> boardIds);
+
+    // 저장 용량 집계 (압축률 계산용)
+    @Query("select new com.example.v4.board.repository.BoardContentUsage(count(c), "
+            + "coalesce(sum(case when c.encoding = com.example.v4.board.entity.BoardContent.Encoding.DEFLATE "
+            + "then 1 else 0 end), 0), coalesce(sum(c.originalLength), 0), coalesce(sum(c.storedLength), 0)) "
+            + "from BoardContent c")
+    BoardContentUsage usage();
+}
@@ -0,0 +1,10 @@
+package com.example.v4.board.repository;
+
+/**
+ * 게시글 본문 저장 용량 집계 (Projection)
+ *
+ * 역할:
+ * - board_content_tb 전체의 행 수, 압축 저장된 행 수, 원문·저장 바이트 합계를 SQL 집계 1회로 읽습니다.
+ */
+public record BoardContentUsage(Long rows, Long compressedRows, Long originalBytes, Long storedBytes) {
+}
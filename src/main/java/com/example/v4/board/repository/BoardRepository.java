@@ -1,8 +1,15 @@
 package com.example.v4.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.v4.board.entity.Board;
@@ -26,9 +33,94 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
      * 상속만으로 findAll(), findById(), save(), delete() 등의 메서드를 자동으로 사용할 수 있습니다.
      */
 
-    // 게시글 전체를 ID 기준 내림차순으로 조회
-    List<Board> findAllByOrderByIdDesc();
+    /*
+     * 키셋(커서) 페이지네이션
+     * - WHERE id < :cursor ORDER BY id DESC LIMIT :n 형태로 PK 인덱스를 따라 읽으므로
+     *   OFFSET과 달리 페이지 깊이와 무관하게 조회 비용이 일정합니다.
+     * - 이전 페이지는 id > :cursor ORDER BY id ASC 로 읽은 뒤 서비스에서 뒤집습니다.
+     * - BoardSummary 프로젝션으로 id, title, writer_id, reply_count 컬럼만 읽으므로 reply_tb를 건드리지 않습니다.
+     */
+
+    // 커서보다 오래된 게시글 (다음 페이지)
+    List<BoardSummary> findByIdLessThanOrderByIdDesc(Integer cursor, Limit limit);
+
+    // 커서보다 최신 게시글 (이전 페이지, ID 오름차순)
+    List<BoardSummary> findByIdGreaterThanOrderByIdAsc(Integer cursor, Limit limit);
+
+    // 제목 검색 + 커서보다 오래된 게시글 (다음 페이지)
+    List<BoardSummary> findByTitleContainingAndIdLessThanOrderByIdDesc(String keyword, Integer cursor, Limit limit);
+
+    // 제목 검색 + 커서보다 최신 게시글 (이전 페이지, ID 오름차순)
+    List<BoardSummary> findByTitleContainingAndIdGreaterThanOrderByIdAsc(String keyword, Integer cursor, Limit limit);
+
+    // 검색 결과 페이지: 색인이 찾은 게시글 ID의 목록 컬럼만 조회 (순서는 서비스에서 검색 순위대로 맞춤)
+    List<BoardSummary> findByIdIn(Collection<Integer> ids);
+
+    // 검색 색인 구성: 커서보다 큰 ID의 게시글 제목·본문(board_content_tb 조인)을 ID 오름차순으로 조회
+    @Query("select new com.example.v4.board.repository.BoardText(b.id, b.title, c.encoding, c.data, c.originalLength) "
+            + "from Board b left join BoardContent c on c.boardId = b.id where b.id > :cursor order by b.id")
+    List<BoardText> findTextsAfter(@Param("cursor") Integer cursor, Limit limit);
+
+    /*
+     * 화면별 fetch plan
+     * - 연관관계는 모두 LAZY이며, 댓글은 게시글과 함께 읽지 않고 ReplyRepository에서 페이지 단위로 조회합니다.
+     * - 상세·수정 폼은 findById(게시글 행만) + 본문(BoardContentRepository), 목록은 BoardSummary 프로젝션을 사용합니다.
+     */
+
+    // 작성자 확인: 게시글의 writer_id 컬럼만 조회
+    @Query("select b.writerId from Board b where b.id = :id")
+    Optional<Integer> findWriterIdById(@Param("id") Integer id);
+
+    // 존재 확인: 주어진 ID 중 존재하는 게시글 ID만 SQL 1회로 조회 (댓글 일괄 등록 검증용)
+    @Query("select b.id from Board b where b.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    /*
+     * 작성자 확인 쓰기
+     * - WHERE id = :id AND writer_id = :writerId 조건부 문장 1회로 확인과 변경을 함께 수행합니다.
+     * - 반환값(영향받은 행 수)이 0이면 서비스에서 findWriterIdById로 미존재/권한 없음을 구분합니다.
+     */
+
+    // 작성자 본인일 때만 제목 수정 (created_at은 유지, 본문은 성공 시 BoardContentRepository로 교체)
+    @Modifying(clearAutomatically = true)
+    @Query("update Board b set b.title = :title where b.id = :id and b.writerId = :writerId")
+    int updateTitleByIdAndWriterId(@Param("id") Integer id, @Param("writerId") Integer writerId,
+            @Param("title") String title);
+
+    // 작성자 본인일 때만 삭제 (댓글은 ReplyRepository.deleteAllByBoardIdAndWriterId로 먼저 삭제, 본문은 성공 시 삭제)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Board b where b.id = :id and b.writerId = :writerId")
+    int deleteByIdAndWriterId(@Param("id") Integer id, @Param("writerId") Integer writerId);
+
+    /*
+     * 댓글 통계 (reply_count, last_reply_at)
+     * - 댓글 INSERT/DELETE와 같은 트랜잭션에서 "reply_count = reply_count + n" 형태의 UPDATE 1회로 갱신하므로,
+     *   동시에 댓글이 달려도 읽고-쓰기 사이에 값이 유실되지 않습니다 (행 잠금으로 직렬화).
+     * - 어긋난 값은 rebuildReplyStats로 reply_tb에서 다시 계산합니다 (BoardReplyStatsReconciler).
+     */
+
+    // 댓글 count건 추가: 댓글 수 증가와 최근 댓글 시각 갱신 (영향받은 행 수가 0이면 게시글 없음)
+    @Modifying
+    @Query("update Board b set b.replyCount = b.replyCount + :count, b.lastReplyAt = :at where b.id = :id")
+    int addReplies(@Param("id") Integer id, @Param("count") int count, @Param("at") LocalDateTime at);
+
+    // 댓글 1건 삭제: 댓글 수 감소, 최근 댓글 시각은 남은 댓글에서 다시 계산 (삭제를 먼저 flush)
+    @Modifying(flushAutomatically = true)
+    @Query("update Board b set b.replyCount = b.replyCount - 1, "
+            + "b.lastReplyAt = (select max(r.createdAt) from Reply r where r.board.id = :id) where b.id = :id")
+    int removeReply(@Param("id") Integer id);
+
+    // ID 구간의 댓글 통계를 reply_tb에서 다시 계산하여, 값이 어긋난 게시글만 갱신 (반환값: 보정한 게시글 수)
+    @Modifying
+    @Query("update Board b set "
+            + "b.replyCount = (select count(r) from Reply r where r.board.id = b.id), "
+            + "b.lastReplyAt = (select max(r.createdAt) from Reply r where r.board.id = b.id) "
+            + "where b.id between :fromId and :toId and ("
+            + "b.replyCount <> (select count(r) from Reply r where r.board.id = b.id) "
+            + "or b.lastReplyAt is distinct from (select max(r.createdAt) from Reply r where r.board.id = b.id))")
+    int rebuildReplyStats(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
 
-    // 제목에 특정 단어가 포함된 게시글 검색 (ID 내림차순 정렬)
-    List<Board> findByTitleContainingOrderByIdDesc(String keyword);
+    // 가장 큰 게시글 ID (댓글 통계 재계산 구간 분할용, 게시글이 없으면 null)
+    @Query("select max(b.id) from Board b")
+    Integer findMaxId();
 }
@@ -0,0 +1,12 @@
+package com.example.v4.board.repository;
+
+/**
+ * 게시글 목록용 프로젝션 (Projection)
+ *
+ * 역할:
+ * - 목록 화면에 필요한 id, title, writer_id, reply_count 컬럼만 조회하기 위한 읽기 전용 모델입니다.
+ * - 엔티티를 로딩하지 않으므로 replies 연관관계(reply_tb)를 읽지 않습니다 (본문은 board_content_tb에 따로 저장).
+ * - 댓글 수는 board_tb의 비정규화 컬럼(reply_count)에서 읽습니다.
+ */
+public record BoardSummary(Integer id, String title, Integer writerId, Integer replyCount) {
+}
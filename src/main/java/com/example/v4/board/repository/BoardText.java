@@ -0,0 +1,18 @@
+package com.example.v4.board.repository;
+
+import com.example.v4.board.entity.BoardContent;
+
+/**
+ * 검색 색인 구성용 프로젝션 (Projection)
+ *
+ * 역할:
+ * - 검색 색인에 필요한 id, title과 본문(board_content_tb)만 조회하기 위한 읽기 전용 모델입니다.
+ * - 엔티티를 로딩하지 않으므로 영속성 컨텍스트에 쌓이지 않고, 댓글 연관관계(reply_tb)도 읽지 않습니다.
+ */
+public record BoardText(Integer id, String title, String content) {
+
+    // 조회 결과 생성자: 저장된 본문을 복원한다 (본문 행이 없으면 null)
+    public BoardText(Integer id, String title, BoardContent.Encoding encoding, byte[] data, Integer originalLength) {
+        this(id, title, encoding != null ? encoding.decode(data, originalLength) : null);
+    }
+}
@@ -0,0 +1,367 @@
+package com.example.v4.board.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jsoup.Jsoup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardText;
+import com.example.v4.global.transaction.AfterCommit;
+
+/**
+ * 게시글 제목·본문 검색용 프로세스 내 역색인 (문자 1/2/3-gram).
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>n-gram마다 {@link PostingList}(delta + varint 압축 바이트 배열)에 내부 문서 번호와 가중치를 저장.
+ * 가중치 = 제목 출현 횟수 × {@value #TITLE_WEIGHT} + 본문 출현 횟수 (최대 {@value #MAX_WEIGHT})</li>
+ * <li>본문은 HTML에서 텍스트만 추출하여 색인 (태그·속성·임베드 URL 제외)</li>
+ * <li>게시글 등록·수정 시 새 문서 번호를 발급하고 이전 번호는 삭제 표시하므로 포스팅 목록은 항상 뒤에 추가만 함.
+ * 삭제 표시가 살아 있는 문서 수보다 많아지면 압축(번호 재발급)</li>
+ * <li>변경은 트랜잭션 커밋 후에 반영 (롤백된 변경은 색인되지 않음)</li>
+ * <li>애플리케이션 시작 시 board_tb를 app.board.search.rebuild-chunk-size건씩 ID 순으로 읽어 새로 구성하고 교체.
+ * 구성 중에 들어온 변경은 기존 색인에 반영하면서 기록해 두었다가 새 색인에 다시 적용</li>
+ * <li>검색은 검색어의 n-gram을 모두 포함한 문서를 포스팅 목록이 짧은 순으로 교집합하여 찾고,
+ * n-gram별 idf × 가중치 합으로 순위를 매김</li>
+ * </ul>
+ * 읽기는 공유 잠금, 변경은 배타 잠금으로 보호한다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    /** 제목 n-gram 1회 출현의 가중치 (본문은 1) */
+    static final int TITLE_WEIGHT = 3;
+
+    /** 한 문서·n-gram의 최대 가중치 */
+    static final int MAX_WEIGHT = 255;
+
+    /** 압축을 시작하는 최소 삭제 표시 문서 수 */
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final BoardRepository repository;
+    private final int rebuildChunkSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    /** 재구성 중에 들어온 변경 (재구성 중이 아니면 null) */
+    private List<Change> pendingDuringRebuild;
+
+    public BoardSearchIndex(BoardRepository repository,
+            @Value("${app.board.search.rebuild-chunk-size:500}") int rebuildChunkSize) {
+        this.repository = repository;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    /**
+     * 게시글을 색인한다 (이미 색인된 게시글이면 교체). 트랜잭션 안이면 커밋 후에 반영한다.
+     *
+     * @param boardId 게시글 ID
+     * @param title 제목
+     * @param content 본문 HTML (텍스트만 색인)
+     */
+    public void index(Integer boardId, String title, String content) {
+        Change change = new Change(boardId, false, title, extractText(content));
+        AfterCommit.run(() -> apply(change));
+    }
+
+    /**
+     * 게시글을 색인에서 제거한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void remove(Integer boardId) {
+        Change change = new Change(boardId, true, null, null);
+        AfterCommit.run(() -> apply(change));
+    }
+
+    /**
+     * 검색어의 n-gram을 모두 포함한 게시글을 점수 내림차순(같으면 ID 내림차순)으로 반환한다.
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 게시글 ID와 점수 목록, 전체 일치 건수
+     */
+    public Hits search(String query, int offset, int limit) {
+        Set<String> grams = NGramTokenizer.queryGrams(query);
+        if (grams.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+        List<Hit> matches;
+        lock.readLock().lock();
+        try {
+            matches = segment.search(grams);
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort((a, b) -> a.score() != b.score()
+                ? Double.compare(b.score(), a.score())
+                : Integer.compare(b.boardId(), a.boardId()));
+        int from = Math.min(offset, matches.size());
+        int to = Math.min(from + limit, matches.size());
+        return new Hits(List.copyOf(matches.subList(from, to)), matches.size());
+    }
+
+    /**
+     * board_tb 전체로 색인을 새로 구성하여 교체한다 (애플리케이션 시작 시 실행).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            int cursor = 0;
+            List<BoardText> chunk;
+            do {
+                chunk = repository.findTextsAfter(cursor, Limit.of(rebuildChunkSize));
+                for (BoardText board : chunk) {
+                    fresh.put(board.id(), board.title(), extractText(board.content()));
+                    cursor = board.id();
+                }
+            } while (chunk.size() == rebuildChunkSize);
+            fresh.trim();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : pendingDuringRebuild) {
+                change.applyTo(fresh);
+            }
+            pendingDuringRebuild = null;
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[SearchIndex] 게시글 {}건 색인 ({}ms)", fresh.liveCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 색인 크기 (문서 수, 삭제 표시 문서 수, n-gram 수, 포스팅 항목 수, 압축 데이터 바이트).
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return segment.stats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            } else if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String extractText(String html) {
+        return html == null || html.isBlank() ? "" : Jsoup.parse(html).text();
+    }
+
+    /** 커밋된 게시글 변경 (removed: 삭제, 아니면 등록·수정) */
+    private record Change(Integer boardId, boolean removed, String title, String text) {
+
+        void applyTo(Segment segment) {
+            if (removed) {
+                segment.remove(boardId);
+            } else {
+                segment.put(boardId, title, text);
+            }
+        }
+    }
+
+    /**
+     * 색인 본체. 내부 문서 번호는 0부터 발급 순으로 증가하며, 게시글 ID와 서로 대응시킨다.
+     */
+    private static final class Segment {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Integer, Integer> ordinals = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private int[] boardIds = new int[64];
+        private int docCount;
+        private int deletedCount;
+
+        void put(Integer boardId, String title, String text) {
+            remove(boardId);
+            int ordinal = docCount++;
+            if (ordinal == boardIds.length) {
+                boardIds = Arrays.copyOf(boardIds, ordinal * 2);
+            }
+            boardIds[ordinal] = boardId;
+            ordinals.put(boardId, ordinal);
+
+            Map<String, Integer> weights = NGramTokenizer.documentGrams(title);
+            weights.replaceAll((gram, count) -> count * TITLE_WEIGHT);
+            NGramTokenizer.countDocumentGrams(text, weights);
+            weights.forEach((gram, weight) -> postings.computeIfAbsent(gram, key -> new PostingList())
+                    .append(ordinal, Math.min(weight, MAX_WEIGHT)));
+        }
+
+        void remove(Integer boardId) {
+            Integer ordinal = ordinals.remove(boardId);
+            if (ordinal != null) {
+                deleted.set(ordinal);
+                deletedCount++;
+            }
+        }
+
+        int liveCount() {
+            return ordinals.size();
+        }
+
+        List<Hit> search(Set<String> grams) {
+            List<PostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            // 가장 짧은 목록의 살아 있는 문서를 후보로 두고, 나머지 목록과 차례로 교집합한다
+            int total = Math.max(liveCount(), 1);
+            PostingList first = lists.get(0);
+            int[] docs = new int[first.size()];
+            double[] scores = new double[first.size()];
+            int count = 0;
+            double idf = idf(total, first.size());
+            PostingList.Cursor head = first.cursor();
+            while (head.next()) {
+                if (!deleted.get(head.doc())) {
+                    docs[count] = head.doc();
+                    scores[count++] = idf * head.weight();
+                }
+            }
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                PostingList list = lists.get(i);
+                idf = idf(total, list.size());
+                PostingList.Cursor cursor = list.cursor();
+                int kept = 0;
+                for (int j = 0; j < count; j++) {
+                    if (!cursor.advance(docs[j])) {
+                        break;
+                    }
+                    if (cursor.doc() == docs[j]) {
+                        docs[kept] = docs[j];
+                        scores[kept++] = scores[j] + idf * cursor.weight();
+                    }
+                }
+                count = kept;
+            }
+
+            List<Hit> hits = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                hits.add(new Hit(boardIds[docs[j]], scores[j]));
+            }
+            return hits;
+        }
+
+        boolean needsCompaction() {
+            return deletedCount >= COMPACT_MIN_DELETED && deletedCount > liveCount();
+        }
+
+        /** 삭제 표시된 문서를 빼고 문서 번호를 다시 발급한 새 색인 (발급 순서를 유지하므로 포스팅 순서도 유지) */
+        Segment compact() {
+            Segment compacted = new Segment();
+            int[] remap = new int[docCount];
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                if (deleted.get(ordinal)) {
+                    remap[ordinal] = -1;
+                    continue;
+                }
+                int next = compacted.docCount++;
+                if (next == compacted.boardIds.length) {
+                    compacted.boardIds = Arrays.copyOf(compacted.boardIds, next * 2);
+                }
+                compacted.boardIds[next] = boardIds[ordinal];
+                compacted.ordinals.put(boardIds[ordinal], next);
+                remap[ordinal] = next;
+            }
+            postings.forEach((gram, list) -> {
+                PostingList copy = new PostingList();
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    if (remap[cursor.doc()] >= 0) {
+                        copy.append(remap[cursor.doc()], cursor.weight());
+                    }
+                }
+                if (copy.size() > 0) {
+                    copy.trim();
+                    compacted.postings.put(gram, copy);
+                }
+            });
+            return compacted;
+        }
+
+        void trim() {
+            postings.values().forEach(PostingList::trim);
+        }
+
+        Stats stats() {
+            long entries = 0;
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                entries += list.size();
+                bytes += list.byteSize();
+            }
+            return new Stats(liveCount(), deletedCount, postings.size(), entries, bytes);
+        }
+
+        private static double idf(int total, int df) {
+            return Math.log(1.0 + (double) total / df);
+        }
+    }
+
+    /** 검색 결과 한 건 */
+    public record Hit(int boardId, double score) {
+    }
+
+    /** 검색 결과 한 페이지 (total: 전체 일치 건수) */
+    public record Hits(List<Hit> hits, int total) {
+    }
+
+    /** 색인 크기 */
+    public record Stats(int documents, int deletedDocuments, int grams, long postings, long postingBytes) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.v4.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색용 문자 n-gram 분리기.
+ *
+ * <p>
+ * 한국어는 조사·어미가 어절에 붙어 공백 단위 토큰으로는 부분 검색이 되지 않으므로, 글자 단위 n-gram을 사용한다.
+ * <ul>
+ * <li>정규화: NFKC + 소문자, 문자·숫자가 아닌 글자는 단어 구분자로 처리</li>
+ * <li>문서: 단어마다 1-gram, 2-gram, 3-gram (1-gram은 한 글자 검색어가 어절 안의 글자를 찾도록, 예: "책" → "책상")</li>
+ * <li>검색어: 3글자 이상 단어는 3-gram, 2글자 단어는 2-gram, 한 글자 단어는 그 글자 자체 (모두 포함해야 일치)</li>
+ * </ul>
+ */
+final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 문서 텍스트의 n-gram별 출현 횟수를 누적한다.
+     *
+     * @param text 제목 또는 본문 텍스트 (null 가능)
+     * @param counts n-gram → 출현 횟수
+     */
+    static void countDocumentGrams(String text, Map<String, Integer> counts) {
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                counts.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 2 <= word.length()) {
+                    counts.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+                if (i + 3 <= word.length()) {
+                    counts.merge(word.substring(i, i + 3), 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /** 문서 텍스트의 n-gram별 출현 횟수 */
+    static Map<String, Integer> documentGrams(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        countDocumentGrams(text, counts);
+        return counts;
+    }
+
+    /**
+     * 검색어의 n-gram (중복 제거, 출현 순서 유지).
+     *
+     * @return 검색어에 문자·숫자가 없으면 빈 집합
+     */
+    static Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() < 3) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.v4.board.search;
+
+import java.util.Arrays;
+
+/**
+ * n-gram 하나의 포스팅 목록 (문서 번호 + 가중치), 압축 바이트 배열에 저장.
+ *
+ * <p>
+ * 문서 번호는 오름차순으로만 추가되므로 이전 번호와의 차이(delta)를 가변 길이 정수(varint, 7비트 단위)로,
+ * 가중치를 이어서 varint로 기록한다. 대부분의 항목이 2~3바이트로 저장된다 (int 두 개는 8바이트).
+ * 스레드 안전하지 않으며, 동기화는 {@link BoardSearchIndex}가 담당한다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    /**
+     * 항목을 추가한다.
+     *
+     * @param doc 문서 번호 (이전에 추가한 번호보다 커야 함)
+     * @param weight 가중치 (0 이상)
+     */
+    void append(int doc, int weight) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 오름차순으로 추가해야 합니다: " + doc + " <= " + lastDoc);
+        }
+        ensureCapacity(10);
+        writeVarint(lastDoc < 0 ? doc : doc - lastDoc - 1);
+        writeVarint(weight);
+        lastDoc = doc;
+        size++;
+    }
+
+    /** 항목 수 (삭제된 문서 포함) */
+    int size() {
+        return size;
+    }
+
+    /** 압축 데이터 크기 (바이트) */
+    int byteSize() {
+        return length;
+    }
+
+    /** 처음부터 읽는 커서 */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /** 남는 용량을 잘라낸다 (전체 재구성 후 메모리 절약용) */
+    void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /** 포스팅 목록을 앞에서부터 디코딩하는 커서 */
+    final class Cursor {
+
+        private int position;
+        private int remaining = size;
+        private int doc = -1;
+        private int weight;
+
+        /** 다음 항목으로 이동한다. 더 없으면 false */
+        boolean next() {
+            if (remaining == 0) {
+                return false;
+            }
+            int delta = readVarint();
+            doc = doc < 0 ? delta : doc + delta + 1;
+            weight = readVarint();
+            remaining--;
+            return true;
+        }
+
+        /** target 이상인 첫 항목으로 이동한다. 더 없으면 false */
+        boolean advance(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int weight() {
+            return weight;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
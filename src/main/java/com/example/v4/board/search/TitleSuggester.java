@@ -0,0 +1,521 @@
+package com.example.v4.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardSummary;
+import com.example.v4.global.transaction.AfterCommit;
+
+/**
+ * 게시글 제목 자동완성 (radix trie, 노드마다 상위 k개 게시글 ID).
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>키: NFKC + 소문자 + 공백 정리한 제목의 각 단어 시작 위치부터의 접미사 (최대 {@value #MAX_WORD_STARTS}개,
+ * 키 길이는 {@value #MAX_KEY_LENGTH}자까지). "스프링 부트 입문"은 "부트"로도 찾는다</li>
+ * <li>간선 레이블을 char[]로 압축한 radix trie이며, 자식은 첫 글자 정렬 배열 + 노드 배열로 보관 (HashMap 없음)</li>
+ * <li>노드마다 하위 트리의 최신 게시글 ID 상위 app.board.suggest.top-k개를 미리 계산해 두므로,
+ * 조회는 접두사 길이만큼 내려간 뒤 그 배열을 읽는 것으로 끝남</li>
+ * <li>게시글 등록·수정·삭제 시 트랜잭션 커밋 후 반영, 삭제 경로의 노드는 아래에서부터 상위 k개를 다시 계산하고
+ * 빈 노드는 제거, 자식이 하나뿐인 중간 노드는 병합</li>
+ * <li>애플리케이션 시작 시 board_tb의 id, title만 ID 순으로 읽어 새로 구성 (구성 중 변경은 기록 후 다시 적용)</li>
+ * </ul>
+ * 읽기는 공유 잠금, 변경은 배타 잠금으로 보호한다.
+ */
+@Component
+public class TitleSuggester {
+
+    private static final Logger log = LoggerFactory.getLogger(TitleSuggester.class);
+
+    /** 키(정규화한 제목 접미사)의 최대 길이 */
+    static final int MAX_KEY_LENGTH = 30;
+
+    /** 제목 하나에서 키를 만드는 최대 단어 시작 위치 수 */
+    static final int MAX_WORD_STARTS = 8;
+
+    private final BoardRepository repository;
+    private final int topK;
+    private final int rebuildChunkSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie;
+    /** 재구성 중에 들어온 변경 (재구성 중이 아니면 null) */
+    private List<Change> pendingDuringRebuild;
+
+    public TitleSuggester(BoardRepository repository,
+            @Value("${app.board.suggest.top-k:10}") int topK,
+            @Value("${app.board.search.rebuild-chunk-size:500}") int rebuildChunkSize) {
+        this.repository = repository;
+        this.topK = topK;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.trie = new Trie(topK);
+    }
+
+    /**
+     * 게시글 제목을 등록한다 (이미 있으면 교체). 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void index(Integer boardId, String title) {
+        Change change = new Change(boardId, title);
+        AfterCommit.run(() -> apply(change));
+    }
+
+    /**
+     * 게시글 제목을 제거한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void remove(Integer boardId) {
+        Change change = new Change(boardId, null);
+        AfterCommit.run(() -> apply(change));
+    }
+
+    /**
+     * 제목(또는 제목 안 단어)이 접두사로 시작하는 게시글을 최신순으로 반환한다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 건수 (app.board.suggest.top-k를 넘을 수 없음)
+     * @return 게시글 ID와 제목 (접두사가 비었으면 빈 목록)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+        lock.readLock().lock();
+        try {
+            return trie.suggest(key, Math.min(limit, topK));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * board_tb의 id, title로 trie를 새로 구성하여 교체한다 (애플리케이션 시작 시 실행).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie fresh = new Trie(topK);
+        try {
+            int cursor = 0;
+            List<BoardSummary> chunk;
+            do {
+                chunk = repository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(rebuildChunkSize));
+                for (BoardSummary board : chunk) {
+                    fresh.put(board.id(), board.title());
+                    cursor = board.id();
+                }
+            } while (chunk.size() == rebuildChunkSize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : pendingDuringRebuild) {
+                change.applyTo(fresh);
+            }
+            pendingDuringRebuild = null;
+            trie = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[TitleSuggester] 게시글 제목 {}건 등록 ({}ms)", fresh.titles.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * trie 크기 (게시글 수, 키 수, 노드 수).
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return trie.stats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(trie);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** NFKC + 소문자, 연속 공백은 하나로, 앞뒤 공백 제거 */
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 제목의 trie 키 (단어 시작 위치마다 접미사, 중복 제거) */
+    static Set<String> keys(String title) {
+        String normalized = normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        int start = 0;
+        while (start < normalized.length() && keys.size() < MAX_WORD_STARTS) {
+            keys.add(normalized.substring(start, Math.min(start + MAX_KEY_LENGTH, normalized.length())));
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return keys;
+    }
+
+    /** 커밋된 제목 변경 (title이 null이면 삭제) */
+    private record Change(Integer boardId, String title) {
+
+        void applyTo(Trie trie) {
+            if (title == null) {
+                trie.remove(boardId);
+            } else {
+                trie.put(boardId, title);
+            }
+        }
+    }
+
+    /** radix trie 본체 */
+    private static final class Trie {
+
+        private final int topK;
+        private final Node root = new Node(Node.NO_CHARS);
+        /** 게시글 ID → 원래 제목 (응답용, 제목 변경·삭제 시 이전 키 계산용) */
+        private final Map<Integer, String> titles = new HashMap<>();
+        private int keyCount;
+
+        Trie(int topK) {
+            this.topK = topK;
+        }
+
+        void put(int boardId, String title) {
+            remove(boardId);
+            titles.put(boardId, title);
+            for (String key : keys(title)) {
+                insert(key, boardId);
+                keyCount++;
+            }
+        }
+
+        void remove(int boardId) {
+            String title = titles.remove(boardId);
+            if (title == null) {
+                return;
+            }
+            for (String key : keys(title)) {
+                delete(key, boardId);
+                keyCount--;
+            }
+        }
+
+        List<Suggestion> suggest(String prefix, int limit) {
+            Node node = find(prefix);
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.top.length);
+            List<Suggestion> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                suggestions.add(new Suggestion(node.top[i], titles.get(node.top[i])));
+            }
+            return suggestions;
+        }
+
+        /** 접두사가 끝나는 지점(간선 중간이면 그 간선의 자식)의 노드 */
+        private Node find(String prefix) {
+            Node node = root;
+            int i = 0;
+            while (i < prefix.length()) {
+                int c = node.childIndex(prefix.charAt(i));
+                if (c < 0) {
+                    return null;
+                }
+                Node child = node.children[c];
+                int common = commonLength(child.label, prefix, i);
+                if (i + common == prefix.length()) {
+                    return child;
+                }
+                if (common < child.label.length) {
+                    return null;
+                }
+                node = child;
+                i += common;
+            }
+            return node;
+        }
+
+        private void insert(String key, int boardId) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int c = node.childIndex(key.charAt(i));
+                if (c < 0) {
+                    Node leaf = new Node(key.substring(i).toCharArray());
+                    node.addChild(leaf);
+                    node = leaf;
+                    path.add(node);
+                    break;
+                }
+                Node child = node.children[c];
+                int common = commonLength(child.label, key, i);
+                if (common < child.label.length) {
+                    child = node.split(c, common);
+                }
+                node = child;
+                path.add(node);
+                i += common;
+            }
+            node.terminals = append(node.terminals, boardId);
+            for (Node n : path) {
+                n.top = offer(n.top, boardId, topK);
+            }
+        }
+
+        private void delete(String key, int boardId) {
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int c = node.childIndex(key.charAt(i));
+                if (c < 0) {
+                    return;
+                }
+                Node child = node.children[c];
+                if (commonLength(child.label, key, i) < child.label.length) {
+                    return;
+                }
+                node = child;
+                path.add(node);
+                i += child.label.length;
+            }
+            node.terminals = without(node.terminals, boardId);
+
+            // 아래에서부터: 빈 노드 제거, 자식 하나뿐인 중간 노드 병합, 상위 k개 재계산 (루트는 조회하지 않으므로 제외)
+            for (int j = path.size() - 1; j > 0; j--) {
+                Node n = path.get(j);
+                if (n.terminals.length == 0 && n.children.length == 0) {
+                    path.get(j - 1).removeChild(n);
+                } else if (n.terminals.length == 0 && n.children.length == 1) {
+                    n.absorbOnlyChild();
+                } else {
+                    n.top = n.recomputeTop(topK);
+                }
+            }
+        }
+
+        Stats stats() {
+            int nodes = 0;
+            List<Node> stack = new ArrayList<>(List.of(root));
+            while (!stack.isEmpty()) {
+                Node node = stack.remove(stack.size() - 1);
+                nodes++;
+                stack.addAll(Arrays.asList(node.children));
+            }
+            return new Stats(titles.size(), keyCount, nodes);
+        }
+
+        private static int commonLength(char[] label, String key, int offset) {
+            int max = Math.min(label.length, key.length() - offset);
+            int i = 0;
+            while (i < max && label[i] == key.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /** trie 노드. 배열은 변경 시 새로 만들어 교체한다. */
+    private static final class Node {
+
+        static final char[] NO_CHARS = new char[0];
+        static final Node[] NO_NODES = new Node[0];
+        static final int[] NO_INTS = new int[0];
+
+        /** 부모에서 이 노드로 오는 간선 레이블 */
+        char[] label;
+        /** 자식 간선 레이블의 첫 글자 (오름차순, children과 같은 순서) */
+        char[] firsts = NO_CHARS;
+        Node[] children = NO_NODES;
+        /** 키가 이 노드에서 끝나는 게시글 ID */
+        int[] terminals = NO_INTS;
+        /** 하위 트리의 게시글 ID 상위 k개 (내림차순 = 최신순) */
+        int[] top = NO_INTS;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        int childIndex(char first) {
+            return Arrays.binarySearch(firsts, first);
+        }
+
+        void addChild(Node child) {
+            int pos = -(childIndex(child.label[0]) + 1);
+            char[] newFirsts = new char[firsts.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            newFirsts[pos] = child.label[0];
+            newChildren[pos] = child;
+            System.arraycopy(firsts, pos, newFirsts, pos + 1, firsts.length - pos);
+            System.arraycopy(children, pos, newChildren, pos + 1, children.length - pos);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        void removeChild(Node child) {
+            int pos = childIndex(child.label[0]);
+            char[] newFirsts = new char[firsts.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            System.arraycopy(firsts, pos + 1, newFirsts, pos, firsts.length - pos - 1);
+            System.arraycopy(children, pos + 1, newChildren, pos, children.length - pos - 1);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        /** c번째 자식 간선을 length 글자에서 나누고, 앞부분을 새 중간 노드로 반환한다. */
+        Node split(int c, int length) {
+            Node child = children[c];
+            Node middle = new Node(Arrays.copyOf(child.label, length));
+            child.label = Arrays.copyOfRange(child.label, length, child.label.length);
+            middle.firsts = new char[] { child.label[0] };
+            middle.children = new Node[] { child };
+            middle.top = child.top;
+            children[c] = middle;
+            return middle;
+        }
+
+        /** 유일한 자식을 이 노드에 합친다 (간선 레이블 연결). */
+        void absorbOnlyChild() {
+            Node only = children[0];
+            char[] merged = Arrays.copyOf(label, label.length + only.label.length);
+            System.arraycopy(only.label, 0, merged, label.length, only.label.length);
+            label = merged;
+            firsts = only.firsts;
+            children = only.children;
+            terminals = only.terminals;
+            top = only.top;
+        }
+
+        int[] recomputeTop(int k) {
+            int[] candidates = terminals;
+            for (Node child : children) {
+                int[] merged = Arrays.copyOf(candidates, candidates.length + child.top.length);
+                System.arraycopy(child.top, 0, merged, candidates.length, child.top.length);
+                candidates = merged;
+            }
+            int[] result = NO_INTS;
+            for (int id : candidates) {
+                result = offer(result, id, k);
+            }
+            return result;
+        }
+    }
+
+    /** 내림차순 상위 k개 배열에 ID를 넣은 새 배열 (이미 있거나 k개 중 가장 작은 값보다 작으면 그대로) */
+    private static int[] offer(int[] top, int id, int k) {
+        int pos = 0;
+        while (pos < top.length && top[pos] > id) {
+            pos++;
+        }
+        if (pos < top.length && top[pos] == id) {
+            return top;
+        }
+        if (pos >= k) {
+            return top;
+        }
+        int size = Math.min(top.length + 1, k);
+        int[] result = new int[size];
+        System.arraycopy(top, 0, result, 0, pos);
+        result[pos] = id;
+        System.arraycopy(top, pos, result, pos + 1, size - pos - 1);
+        return result;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] without(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                int[] result = new int[values.length - 1];
+                System.arraycopy(values, 0, result, 0, i);
+                System.arraycopy(values, i + 1, result, i, values.length - i - 1);
+                return result;
+            }
+        }
+        return values;
+    }
+
+    /** 자동완성 항목 */
+    public record Suggestion(int id, String title) {
+    }
+
+    /** trie 크기 */
+    public record Stats(int boards, int keys, int nodes) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.v4.board.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v4.board.repository.BoardContentRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 기존 board_tb.content 컬럼의 본문을 board_content_tb로 옮기는 이관 작업.
+ *
+ * <p>
+ * 본문이 board_tb에 있던 DB에서만 동작하며 (컬럼이 없으면 아무것도 하지 않음), 여러 번 실행해도 안전하다.
+ * <ul>
+ * <li>시작 시 모든 싱글톤 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 실행한다 (app.board.content.migration.enabled).
+ * 이관 전에 요청을 받으면 본문이 빈 상세 페이지가 상세·페이지 캐시와 클라이언트 캐시(ETag)에 남기 때문이다</li>
+ * <li>이관에 실패하면 시작을 중단한다. 옮긴 배치는 커밋되어 있으므로 다시 시작하면 남은 게시글부터 이어서 옮긴다</li>
+ * <li>본문이 남은 게시글을 ID 순으로 app.board.content.migration.batch-size건씩, 배치마다 트랜잭션 1개로 옮긴다
+ * (본문 저장 + 옮긴 행의 board_tb.content를 NULL로)</li>
+ * <li>이미 board_content_tb에 본문이 있는 게시글은 새 본문이 더 최신이므로 덮어쓰지 않는다</li>
+ * </ul>
+ * 모두 옮긴 뒤에는 애플리케이션이 더 이상 읽지 않으므로 board_tb.content 컬럼을 삭제해도 된다.
+ */
+@Service
+public class BoardContentMigrator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardContentMigrator.class);
+
+    private final EntityManager em;
+    private final BoardContentRepository repository;
+    private final BoardContentStore contentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public BoardContentMigrator(EntityManager em, BoardContentRepository repository, BoardContentStore contentStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.board.content.migration.enabled:true}") boolean enabled,
+            @Value("${app.board.content.migration.batch-size:500}") int batchSize) {
+        this.em = em;
+        this.repository = repository;
+        this.contentStore = contentStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (RuntimeException e) {
+            log.error("[BoardContent] 본문 이관에 실패하여 시작을 중단합니다.", e);
+            throw e;
+        }
+    }
+
+    /**
+     * board_tb.content에 남은 본문을 모두 옮긴다.
+     *
+     * @return 옮긴 본문 수 (이미 본문 행이 있어 건너뛴 게시글 제외)
+     */
+    public int migrate() {
+        if (!hasLegacyColumn()) {
+            return 0;
+        }
+        int moved = 0;
+        int cursor = 0;
+        Batch batch;
+        do {
+            int from = cursor;
+            batch = transactionTemplate.execute(status -> moveBatch(from));
+            moved += batch.moved();
+            cursor = batch.lastId();
+        } while (batch.size() == batchSize);
+        if (moved > 0) {
+            log.info("[BoardContent] board_tb.content의 본문 {}건을 board_content_tb로 옮겼습니다.", moved);
+        }
+        return moved;
+    }
+
+    private boolean hasLegacyColumn() {
+        Number count = (Number) em.createNativeQuery("select count(*) from information_schema.columns "
+                + "where upper(table_name) = 'BOARD_TB' and upper(column_name) = 'CONTENT'")
+                .getSingleResult();
+        return count.intValue() > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Batch moveBatch(int cursor) {
+        List<Object[]> rows = em.createNativeQuery(
+                "select id, content from board_tb where id > :cursor and content is not null order by id")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.INTEGER)
+                .addScalar("content", StandardBasicTypes.STRING)
+                .setParameter("cursor", cursor)
+                .setMaxResults(batchSize)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return new Batch(0, 0, cursor);
+        }
+
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add((Integer) row[0]);
+        }
+        Set<Integer> existing = new HashSet<>(repository.findExistingIds(ids));
+        int moved = 0;
+        for (Object[] row : rows) {
+            Integer id = (Integer) row[0];
+            if (!existing.contains(id)) {
+                contentStore.create(id, (String) row[1]);
+                moved++;
+            }
+        }
+        em.flush();
+        em.createNativeQuery("update board_tb set content = null where id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return new Batch(rows.size(), moved, ids.get(ids.size() - 1));
+    }
+
+    /** 배치 1회 결과 (size: 읽은 행 수, lastId: 다음 배치의 커서) */
+    private record Batch(int size, int moved, int lastId) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.v4.board.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+/**
+ * Summernote 게시글 내용을 저장용 HTML로 변환한다.
+ *
+ * <p>
+ * 한 번 파싱한 문서에서 다음을 차례로 처리한다.
+ * <ul>
+ * <li>YouTube 링크(&lt;a&gt;)와 본문 텍스트의 YouTube URL을 iframe 임베드로 교체 (속성 값은 건드리지 않음)</li>
+ * <li>허용 목록({@link ContentSafelist})에 있는 Summernote 태그·속성만 남기고 나머지는 제거.
+ * URL 속성은 http/https(와 상대 경로)만, iframe은 YouTube 임베드 주소만 허용</li>
+ * </ul>
+ * 정제는 임베드 교체 뒤에 하므로 교체로 만든 요소도 허용 목록을 통과해야 저장된다.
+ * 모든 정규식과 허용 목록은 미리 만들어 두며, 스레드 안전하다.
+ */
+@Component
+public class BoardContentRewriter {
+
+    /** &lt;a href&gt;의 watch 형식 영상 ID (우선 적용) */
+    private static final Pattern WATCH_ID = Pattern.compile("(?:youtube\\.com/watch\\?v=)([a-zA-Z0-9_-]{11})");
+
+    /** &lt;a href&gt;의 youtu.be 짧은 형식 영상 ID */
+    private static final Pattern SHORT_ID = Pattern.compile("(?:youtu\\.be/)([a-zA-Z0-9_-]{11})");
+
+    /** 텍스트 내 YouTube URL (watch, youtu.be 형식을 한 번에 매칭) */
+    private static final Pattern TEXT_URL = Pattern.compile(
+            "https?://(?:www\\.)?(?:youtube\\.com/watch\\?v=|youtu\\.be/)([a-zA-Z0-9_-]{11})");
+
+    private static final String EMBED_URL = "https://www.youtube.com/embed/";
+
+    /**
+     * 상대 경로 URL(/images/... 등)의 프로토콜을 검사할 때 기준으로 삼는 주소.
+     * 저장되는 값은 원래의 상대 경로 그대로다.
+     */
+    private static final String BASE_URI = "http://localhost/";
+
+    private static final Cleaner CLEANER = new Cleaner(new ContentSafelist());
+
+    /**
+     * 게시글 내용을 변환한다.
+     *
+     * @param content Summernote HTML (null 가능)
+     * @return 변환된 HTML (null 또는 공백이면 그대로 반환)
+     */
+    public String rewrite(String content) {
+        if (content == null || content.isBlank()) {
+            return content;
+        }
+
+        Document document = Jsoup.parse(content, BASE_URI);
+        Element body = document.body();
+        for (Element anchor : body.getElementsByTag("a")) {
+            String videoId = extractYouTubeVideoId(anchor.attr("href"));
+            if (videoId != null) {
+                anchor.replaceWith(iframe(videoId));
+            }
+        }
+        embedTextUrls(body);
+        return CLEANER.clean(document).body().html();
+    }
+
+    private Element iframe(String videoId) {
+        Element iframe = new Element("iframe");
+        iframe.attr("src", EMBED_URL + videoId);
+        iframe.attr("width", "560");
+        iframe.attr("height", "315");
+        iframe.attr("frameborder", "0");
+        iframe.attr("allowfullscreen", "");
+        return iframe;
+    }
+
+    /**
+     * 텍스트 노드의 YouTube URL을 iframe으로 교체한다.
+     * 직렬화된 HTML이 아니라 텍스트 노드만 보므로 속성 값 안의 URL로 마크업이 깨지지 않는다.
+     */
+    private void embedTextUrls(Element body) {
+        for (TextNode text : body.nodeStream(TextNode.class).toList()) {
+            String value = text.getWholeText();
+            Matcher m = TEXT_URL.matcher(value);
+            if (!m.find()) {
+                continue;
+            }
+            List<Node> parts = new ArrayList<>();
+            int last = 0;
+            do {
+                if (m.start() > last) {
+                    parts.add(new TextNode(value.substring(last, m.start())));
+                }
+                parts.add(iframe(m.group(1)));
+                last = m.end();
+            } while (m.find());
+            if (last < value.length()) {
+                parts.add(new TextNode(value.substring(last)));
+            }
+            for (Node part : parts) {
+                text.before(part);
+            }
+            text.remove();
+        }
+    }
+
+    private String extractYouTubeVideoId(String url) {
+        if (url == null || url.isBlank())
+            return null;
+        Matcher m = WATCH_ID.matcher(url);
+
+        if (m.find())
+            return m.group(1);
+
+        m = SHORT_ID.matcher(url);
+        return m.find() ? m.group(1) : null;
+    }
+
+    /**
+     * Summernote가 만드는 태그·속성만 허용하는 목록 ({@link Safelist#relaxed()} 기반).
+     *
+     * <p>
+     * 허용 목록에 없는 태그(script, embed, object, base, svg 등)와 속성(on*, srcdoc, formaction, xlink:href 등)은 제거된다.
+     * URL은 제어 문자·엔티티를 해석한 뒤 프로토콜을 검사한다. 예외:
+     * <ul>
+     * <li>iframe src: YouTube 임베드 주소만</li>
+     * <li>img src: http/https 외에 Summernote가 넣는 래스터 이미지 data URI (파일로 옮겨지지 않은 경우)</li>
+     * </ul>
+     */
+    private static class ContentSafelist extends Safelist {
+
+        private static final Pattern YOUTUBE_EMBED = Pattern.compile(
+                "(?:https:)?//www\\.youtube(?:-nocookie)?\\.com/embed/[a-zA-Z0-9_-]{11}(?:\\?[\\w=&;%-]*)?");
+
+        private static final Pattern IMAGE_DATA_URI = Pattern.compile(
+                "data:image/(?:png|jpeg|jpg|gif|webp);base64,[A-Za-z0-9+/=\\s]*", Pattern.CASE_INSENSITIVE);
+
+        ContentSafelist() {
+            super(Safelist.relaxed());
+            addTags("hr", "s", "font", "iframe");
+            addAttributes(":all", "style", "class");
+            addAttributes("a", "target");
+            addAttributes("img", "data-filename");
+            addAttributes("font", "color", "face", "size");
+            addAttributes("iframe", "src", "width", "height", "frameborder", "allowfullscreen");
+            removeProtocols("a", "href", "ftp", "mailto");
+            preserveRelativeLinks(true);
+        }
+
+        @Override
+        public boolean isSafeAttribute(String tagName, Element element, Attribute attribute) {
+            if (attribute.getKey().equals("src")) {
+                if (tagName.equals("iframe")) {
+                    return YOUTUBE_EMBED.matcher(attribute.getValue().strip()).matches();
+                }
+                if (tagName.equals("img") && IMAGE_DATA_URI.matcher(attribute.getValue().strip()).matches()) {
+                    return true;
+                }
+            }
+            return super.isSafeAttribute(tagName, element, attribute);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.v4.board.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.v4.board.entity.BoardContent;
+import com.example.v4.board.repository.BoardContentRepository;
+import com.example.v4.board.repository.BoardContentUsage;
+import com.example.v4.global.monitor.LatencyMetrics;
+
+/**
+ * 게시글 본문 저장소 (board_content_tb).
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>본문은 게시글 행과 따로 저장하며, 상세 화면·수정 폼을 만들 때만 게시글 ID(PK)로 한 건 읽는다</li>
+ * <li>UTF-8 기준 app.board.content.compress-threshold바이트 이상이면 deflate로 압축해 저장한다 (더 작아질 때만)</li>
+ * <li>읽기 시간(SQL + 복원)은 LatencyAspect가 "BoardContentStore#read"로, 복원 시간만은 {@value #DECODE_METRIC}으로
+ * {@link LatencyMetrics}에 기록한다</li>
+ * <li>압축률은 {@link #stats()}로 저장된 전체 본문을 집계해 계산한다</li>
+ * </ul>
+ */
+@Service
+public class BoardContentStore {
+
+    static final String DECODE_METRIC = "BoardContent#decode";
+
+    private final BoardContentRepository repository;
+    private final LatencyMetrics.LatencyTimer decodeTimer;
+    private final int compressThreshold;
+
+    public BoardContentStore(BoardContentRepository repository, LatencyMetrics latencyMetrics,
+            @Value("${app.board.content.compress-threshold:1024}") int compressThreshold) {
+        this.repository = repository;
+        this.decodeTimer = latencyMetrics.timer(DECODE_METRIC);
+        this.compressThreshold = compressThreshold;
+    }
+
+    /**
+     * 게시글 본문을 읽는다.
+     *
+     * @return 본문 (본문 행이 없으면 null)
+     */
+    public String read(Integer boardId) {
+        BoardContent content = repository.findById(boardId).orElse(null);
+        if (content == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            return content.text();
+        } finally {
+            decodeTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /** 새 게시글의 본문을 저장한다 (INSERT 1회). */
+    public void create(Integer boardId, String text) {
+        repository.save(BoardContent.of(boardId, text, compressThreshold));
+    }
+
+    /** 게시글 본문을 교체한다 (UPDATE 1회, 본문 행이 없으면 INSERT). */
+    public void update(Integer boardId, String text) {
+        BoardContent content = BoardContent.of(boardId, text, compressThreshold);
+        if (repository.update(boardId, content.getEncoding(), content.getData(), content.getOriginalLength(),
+                content.getStoredLength()) == 0) {
+            repository.save(content);
+        }
+    }
+
+    /** 게시글 본문을 삭제한다 (DELETE 1회). */
+    public void delete(Integer boardId) {
+        repository.deleteByBoardId(boardId);
+    }
+
+    /** 저장된 본문 수, 압축 저장 수, 원문·저장 바이트와 압축률(저장/원문) */
+    public Stats stats() {
+        BoardContentUsage usage = repository.usage();
+        double ratio = usage.originalBytes() > 0 ? (double) usage.storedBytes() / usage.originalBytes() : 1.0;
+        return new Stats(usage.rows(), usage.compressedRows(), usage.originalBytes(), usage.storedBytes(), ratio,
+                compressThreshold);
+    }
+
+    /** 본문 저장 통계 (compressionRatio: 저장 바이트 / 원문 바이트, 작을수록 많이 줄어듦) */
+    public record Stats(long rows, long compressedRows, long originalBytes, long storedBytes,
+            double compressionRatio, int compressThreshold) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.v4.board.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 게시글 ID → 상세 화면 중 조회자와 무관한 부분({@link Detail})을 보관하는 프로세스 내 캐시.
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>Caffeine 기반 (W-TinyLFU 진입·축출), 최대 건수(app.cache.board-detail.maximum-size)와
+ * TTL(app.cache.board-detail.expire-after-write)로 제한</li>
+ * <li>같은 게시글을 동시에 놓친 요청은 첫 요청의 로딩 결과를 함께 기다린다 (single-flight).
+ * 로딩은 호출 스레드에서 실행하므로 요청의 트랜잭션·추적 컨텍스트를 그대로 쓴다</li>
+ * <li>로딩 실패(게시글 없음 등)는 캐시하지 않고 기다리던 요청에도 같은 예외를 던진다</li>
+ * </ul>
+ *
+ * <p>
+ * 수정 가능 여부·본인 댓글 여부는 캐시하지 않고 조회할 때마다 조회자 기준으로 덧씌운다.
+ * 게시글 수정·삭제와 댓글 등록·삭제 시 해당 게시글 항목을 무효화한다 (커밋 후 반영).
+ */
+@Component
+public class BoardDetailCache {
+
+    private final AsyncCache<Integer, Detail> cache;
+
+    public BoardDetailCache(@Value("${app.cache.board-detail.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.board-detail.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 게시글 상세를 조회한다. 캐시에 없으면 loader로 읽어 저장하며, 같은 게시글을 로딩 중인 요청이 있으면 그 결과를 기다린다.
+     */
+    public Detail get(Integer boardId, Function<Integer, Detail> loader) {
+        CompletableFuture<Detail> loading = new CompletableFuture<>();
+        CompletableFuture<Detail> future = cache.get(boardId, (id, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(boardId));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 게시글 1건의 캐시 항목을 제거한다. 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void invalidate(Integer boardId) {
+        AfterCommit.run(() -> cache.synchronous().invalidate(boardId));
+    }
+
+    /** 캐시 전체를 비운다 (작성자 이름 변경처럼 어느 게시글에 영향이 있는지 모를 때). 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void invalidateAll() {
+        AfterCommit.run(() -> cache.synchronous().invalidateAll());
+    }
+
+    /** 현재까지의 적중률·축출 건수 등 통계 스냅샷 */
+    public Stats stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new Stats(cache.synchronous().estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.loadCount(), stats.averageLoadPenalty() / 1_000_000.0);
+    }
+
+    /** 상세 화면 중 조회자와 무관한 부분 (댓글은 첫 페이지, replyCursor: 다음 페이지 커서, 없으면 null) */
+    public record Detail(Integer id, String title, String content, Integer writerId, String writerName,
+            List<Reply> replies, Integer replyCursor) {
+
+        public Detail {
+            replies = List.copyOf(replies);
+        }
+    }
+
+    /** 댓글 1건 (작성자 이름 포함) */
+    public record Reply(Integer id, String comment, Integer writerId, String writerName) {
+    }
+
+    /** 캐시 통계 (평균 로딩 시간은 ms) */
+    public record Stats(long size, long hitCount, long missCount, double hitRate, long evictionCount,
+            long loadCount, double averageLoadMillis) {
+    }
+}
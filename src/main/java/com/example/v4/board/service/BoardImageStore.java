@@ -0,0 +1,194 @@
+package com.example.v4.board.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 본문 이미지 저장소 (SHA-256 주소 기반 로컬 파일).
+ *
+ * <p>
+ * Summernote의 그림 삽입은 이미지를 base64 data URI로 본문에 넣으므로, 저장 전에 {@link #extract(String)}로 꺼내
+ * 파일로 한 번만 저장하고 본문에는 짧은 URL({@value #URL_PREFIX}{sha256}.{확장자})만 남긴다.
+ * <ul>
+ * <li>파일 이름이 이미지 바이트의 SHA-256이므로 같은 이미지는 게시글이 달라도 한 번만 저장한다</li>
+ * <li>png, jpeg, gif, webp만 꺼낸다 (스크립트를 담을 수 있는 svg 등은 본문에 그대로 둔다)</li>
+ * <li>임시 파일에 쓴 뒤 이름을 바꿔 저장하므로 읽는 쪽은 완성된 파일만 본다</li>
+ * <li>파일 내용이 바뀌지 않으므로 {@link com.example.v4.board.controller.BoardImageController}는 immutable 캐시 헤더로
+ * 응답한다</li>
+ * </ul>
+ * 트랜잭션이 롤백되거나 게시글이 삭제돼도 파일은 지우지 않는다 (다른 게시글이 같은 이미지를 쓸 수 있음).
+ */
+@Service
+public class BoardImageStore {
+
+    /** 이미지 URL 접두사 */
+    public static final String URL_PREFIX = "/images/";
+
+    /** &lt;img&gt; 태그의 base64 data URI src (1: src= 까지, 2: 따옴표, 3: 이미지 형식, 4: base64) */
+    private static final Pattern DATA_URI = Pattern.compile(
+            "(<img\\b[^>]*?\\ssrc\\s*=\\s*)([\"'])data:image/(png|jpeg|jpg|gif|webp);base64,([A-Za-z0-9+/=\\s]+)\\2",
+            Pattern.CASE_INSENSITIVE);
+
+    /** 저장된 이미지 파일 이름 */
+    private static final Pattern NAME = Pattern.compile("[0-9a-f]{64}\\.(png|jpg|gif|webp)");
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private final Path directory;
+
+    private final LongAdder extracted = new LongAdder();
+    private final LongAdder storedFiles = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public BoardImageStore(@Value("${app.board.image.dir:data/board-images}") String directory) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 본문의 base64 이미지를 파일로 저장하고 src를 이미지 URL로 바꾼다.
+     *
+     * @param html Summernote HTML (null 가능)
+     * @return 이미지 URL로 바뀐 HTML (꺼낼 이미지가 없으면 그대로 반환)
+     */
+    public String extract(String html) {
+        if (html == null || !html.contains(";base64,")) {
+            return html;
+        }
+        Matcher m = DATA_URI.matcher(html);
+        if (!m.find()) {
+            return html;
+        }
+        StringBuilder sb = new StringBuilder(Math.min(html.length(), 8192));
+        int last = 0;
+        do {
+            byte[] image = decode(m.group(4));
+            if (image.length == 0) {
+                continue;
+            }
+            sb.append(html, last, m.start())
+                    .append(m.group(1))
+                    .append(m.group(2))
+                    .append(URL_PREFIX)
+                    .append(put(image, extension(m.group(3))))
+                    .append(m.group(2));
+            last = m.end();
+            extracted.increment();
+        } while (m.find());
+        return sb.append(html, last, html.length()).toString();
+    }
+
+    /**
+     * 이미지를 저장한다. 같은 바이트의 이미지가 이미 있으면 쓰지 않는다.
+     *
+     * @param extension png, jpg, gif, webp
+     * @return 파일 이름 ({sha256}.{확장자})
+     */
+    public String put(byte[] image, String extension) {
+        String name = sha256(image) + "." + extension;
+        Path file = file(name);
+        if (Files.exists(file)) {
+            deduplicated.increment();
+            return name;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), name, ".tmp");
+            try {
+                Files.write(temp, image);
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 이미지를 저장하지 못했습니다: " + name, e);
+        }
+        storedFiles.increment();
+        storedBytes.add(image.length);
+        return name;
+    }
+
+    /**
+     * 저장된 이미지 파일을 찾는다.
+     *
+     * @param name 파일 이름 ({sha256}.{확장자})
+     * @return 파일 경로 (이름 형식이 다르거나 파일이 없으면 null)
+     */
+    public Path resolve(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            return null;
+        }
+        Path file = file(name);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    /** 파일 이름의 확장자에 맞는 Content-Type */
+    public static String contentType(String name) {
+        return CONTENT_TYPES.getOrDefault(name.substring(name.lastIndexOf('.') + 1), "application/octet-stream");
+    }
+
+    /** 본문에서 꺼낸 이미지 수, 새로 쓴 파일 수·바이트, 이미 있어 쓰지 않은 수 (시작 이후 누적) */
+    public Stats stats() {
+        return new Stats(extracted.sum(), storedFiles.sum(), storedBytes.sum(), deduplicated.sum(),
+                directory.toString());
+    }
+
+    // 파일이 한 디렉터리에 몰리지 않도록 해시 앞 2자리로 나눈다
+    private Path file(String name) {
+        return directory.resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    private static void move(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] decode(String base64) {
+        try {
+            return Base64.getMimeDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 base64는 본문에 그대로 둔다
+            return new byte[0];
+        }
+    }
+
+    private static String extension(String format) {
+        String lower = format.toLowerCase(Locale.ROOT);
+        return lower.equals("jpeg") ? "jpg" : lower;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 이미지 저장 통계 */
+    public record Stats(long extracted, long storedFiles, long storedBytes, long deduplicated, String directory) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.v4.board.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.global.cache.PageCache;
+
+/**
+ * 게시글 댓글 통계(reply_count, last_reply_at) 재계산 작업.
+ *
+ * <p>
+ * 평소에는 댓글 등록·삭제와 같은 트랜잭션에서 원자적으로 갱신되지만, 직접 SQL로 댓글을 지우거나
+ * 컬럼 추가 전 데이터가 남아 있는 경우 값이 어긋날 수 있다. 이 작업은 reply_tb에서 다시 계산하여
+ * 어긋난 게시글만 보정한다.
+ * <ul>
+ * <li>게시글 ID를 app.board.reply-stats.chunk-size 구간으로 나누어 구간마다 UPDATE 1회, 트랜잭션 1개로 실행
+ * (한 번에 잠그는 행 수 제한)</li>
+ * <li>app.board.reply-stats.reconcile-cron 주기로 실행 ("-"이면 비활성화)</li>
+ * <li>보정한 게시글이 있으면 댓글 수를 표시하는 목록의 비로그인 {@link PageCache} 페이지와 {@link BoardVersions}를 갱신</li>
+ * </ul>
+ */
+@Service
+public class BoardReplyStatsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardReplyStatsReconciler.class);
+
+    private final BoardRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final PageCache pageCache;
+    private final BoardVersions versions;
+    private final int chunkSize;
+
+    public BoardReplyStatsReconciler(BoardRepository repository, PlatformTransactionManager transactionManager,
+            PageCache pageCache, BoardVersions versions,
+            @Value("${app.board.reply-stats.chunk-size:1000}") int chunkSize) {
+        this.repository = repository;
+        this.pageCache = pageCache;
+        this.versions = versions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 전체 게시글의 댓글 통계를 다시 계산한다.
+     *
+     * @return 값이 어긋나 보정한 게시글 수
+     */
+    @Scheduled(cron = "${app.board.reply-stats.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        Integer maxId = repository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+        int repaired = 0;
+        for (int start = 1; start <= maxId; start += chunkSize) {
+            int from = start;
+            int to = (int) Math.min((long) start + chunkSize - 1, maxId);
+            Integer updated = transactionTemplate.execute(status -> repository.rebuildReplyStats(from, to));
+            repaired += updated != null ? updated : 0;
+        }
+        if (repaired > 0) {
+            log.warn("[ReplyStats] 댓글 통계가 어긋난 게시글 {}건을 보정했습니다.", repaired);
+            pageCache.invalidate(PageCache.INDEX);
+            versions.touchIndex();
+        }
+        return repaired;
+    }
+}
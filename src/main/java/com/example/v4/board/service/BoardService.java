@@ -1,36 +1,51 @@
 package com.example.v4.board.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.v4.board.dto.BoardReponseDto;
 import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.dto.BoardSummaryDto;
 import com.example.v4.board.entity.Board;
 import com.example.v4.board.mapper.BoardMapper;
 import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardSummary;
+import com.example.v4.board.search.BoardSearchIndex;
+import com.example.v4.board.search.TitleSuggester;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
 import com.example.v4.global.dto.Dto;
 import com.example.v4.global.dto.SessionUser;
 import com.example.v4.global.exception.BoardAccessDeniedException;
 import com.example.v4.global.exception.BoardNotFoundException;
 import com.example.v4.global.exception.InvalidBoardIdException;
 import com.example.v4.global.resetclient.RestClients;
+import com.example.v4.reply.repository.ReplyRepository;
+import com.example.v4.reply.service.ReplyService;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * 게시글 목록·상세·등록·수정·삭제를 담당하는 서비스.
  *
- * <p>내용에 포함된 YouTube URL을 iframe 임베드로 변환하여 저장한다.
- * 작성자 이름은 내부 REST API로 조회한다.
+ * <p>내용은 base64 이미지를 {@link BoardImageStore} 파일로 옮겨 URL로 바꾸고, {@link BoardContentRewriter}로 YouTube 임베드 변환·정제한
+ * 뒤 게시글 행과 따로 {@link BoardContentStore}에 저장하며, 상세 화면·수정 폼을 만들 때만 읽는다.
+ * 작성자 이름은 내부 REST API로 조회하며, 조회 결과는 {@link WriterCache}에 보관한다.
+ * 제목·본문 검색은 {@link BoardSearchIndex}, 제목 자동완성은 {@link TitleSuggester}가 담당하며,
+ * 등록·수정·삭제 시 둘 다 함께 갱신하고, 상세 캐시({@link BoardDetailCache})와
+ * 비로그인 {@link PageCache}의 해당 게시글·목록 페이지를 무효화하며, 조건부 GET용 {@link BoardVersions}를 올린다 (커밋 후 반영).
  */
 @Service
 @RequiredArgsConstructor
@@ -38,78 +53,196 @@ public class BoardService {
 
     private final BoardMapper mapper;
     private final BoardRepository repository;
+    private final ReplyRepository replyRepository;
+    private final ReplyService replyService;
     private final RestClients rc;
+    private final WriterCache writerCache;
+    private final BoardImageStore imageStore;
+    private final BoardContentRewriter contentRewriter;
+    private final BoardContentStore contentStore;
+    private final BoardSearchIndex searchIndex;
+    private final TitleSuggester titleSuggester;
+    private final PageCache pageCache;
+    private final BoardDetailCache detailCache;
+    private final BoardVersions versions;
+
+    /** 목록 한 페이지당 게시글 수 (검색 결과도 동일) */
+    public static final int PAGE_SIZE = 10;
+
+    /** 검색어 최대 길이 (넘는 부분은 무시) */
+    static final int MAX_QUERY_LENGTH = 100;
+
+    /** 자동완성 최대 건수 */
+    public static final int SUGGEST_LIMIT = 10;
 
     /**
-     * 게시글 목록을 최신순으로 조회한다.
+     * 게시글 목록을 최신순으로 한 페이지 조회한다 (ID 기준 키셋 페이지네이션).
      *
-     * @param su 로그인 사용자 (null 가능, 수정 버튼 노출 여부 결정)
-     * @return 조회된 게시글 DTO 목록
+     * <p>페이지 크기보다 한 건 더 읽어 다음/이전 페이지 존재 여부를 판단한다.
+     * 목록은 {@link BoardSummary} 프로젝션으로 id, title, writer_id, reply_count만 읽으며 본문과 댓글은 조회하지 않는다.
+     * 작성자 이름은 중복을 제거한 작성자 ID로 내부 API를 한 번만 호출하여 조회한 뒤 메모리에서 결합한다.
+     *
+     * @param keyword 제목 검색어 (null 또는 공백이면 전체)
+     * @param next 다음 페이지 커서 (이 ID보다 오래된 글, null이면 첫 페이지)
+     * @param prev 이전 페이지 커서 (이 ID보다 최신 글, next가 있으면 무시)
+     * @return 게시글 DTO 목록과 이전/다음 커서
      */
-    public List<BoardReponseDto> list(SessionUser su) {
-        return repository.findAllByOrderByIdDesc().stream().map(board -> {
-            Dto.User user = rc.get("/api/user/info?writerId={writerId}", Dto.User.class, board.getWriterId());
-            return mapper.toResponseDto(board, user.name(), su);
-        }).toList();
+    public BoardPageResult list(String keyword, Integer next, Integer prev) {
+        String kw = keyword == null || keyword.isBlank() ? null : keyword.trim();
+        boolean backward = next == null && prev != null;
+        Limit limit = Limit.of(PAGE_SIZE + 1);
+
+        List<BoardSummary> boards;
+        if (backward) {
+            boards = kw == null
+                    ? repository.findByIdGreaterThanOrderByIdAsc(prev, limit)
+                    : repository.findByTitleContainingAndIdGreaterThanOrderByIdAsc(kw, prev, limit);
+        } else {
+            int cursor = next != null ? next : Integer.MAX_VALUE;
+            boards = kw == null
+                    ? repository.findByIdLessThanOrderByIdDesc(cursor, limit)
+                    : repository.findByTitleContainingAndIdLessThanOrderByIdDesc(kw, cursor, limit);
+        }
+
+        boolean hasMore = boards.size() > PAGE_SIZE;
+        List<BoardSummary> page = new ArrayList<>(hasMore ? boards.subList(0, PAGE_SIZE) : boards);
+        if (backward) {
+            Collections.reverse(page);
+        }
+
+        Integer prevCursor = null;
+        Integer nextCursor = null;
+        if (!page.isEmpty()) {
+            Integer first = page.get(0).id();
+            Integer last = page.get(page.size() - 1).id();
+            // 진행 방향 쪽은 한 건 더 읽은 결과로, 반대쪽은 커서를 타고 왔다는 사실로 존재 여부를 판단한다.
+            prevCursor = backward ? (hasMore ? first : null) : (next != null ? first : null);
+            nextCursor = backward ? last : (hasMore ? last : null);
+        }
+
+        Map<Integer, String> writerNames = writerNames(page.stream().map(BoardSummary::writerId).toList());
+        List<BoardSummaryDto> models = page.stream()
+                .map(board -> mapper.toSummaryDto(board, writerNames.get(board.writerId())))
+                .toList();
+        return new BoardPageResult(models, kw, prevCursor, nextCursor);
     }
 
     /**
-     * ID로 게시글 DTO를 조회한다.
+     * 제목·본문 검색 결과를 순위순으로 한 페이지 조회한다.
+     *
+     * <p>검색 색인에서 순위를 매긴 게시글 ID를 받아 해당 페이지의 게시글만 {@link BoardSummary} 프로젝션으로 조회한다.
+     * 검색어는 {@value #MAX_QUERY_LENGTH}자까지만 사용한다.
      *
-     * @param id 게시글 ID (문자열)
-     * @param su 로그인 사용자 (null 가능)
-     * @return 게시글 DTO Optional
+     * @param query 검색어 (null 또는 공백이면 결과 없음)
+     * @param page 페이지 번호 (0부터, 음수면 0)
+     * @return 게시글 DTO 목록, 전체 일치 건수, 다음 페이지 존재 여부
      */
-    public Optional<BoardReponseDto> boardDto(String id, SessionUser su) {
-        int boardId = parseBoardId(id);
-        return repository.findById(boardId).stream().map(board -> {
-            Dto.User user = rc.get("/api/user/info?writerId={writerId}", Dto.User.class, board.getWriterId());
-            return mapper.toResponseDto(board, user.name(), su);
-        }).findFirst();
+    public BoardSearchResult search(String query, int page) {
+        String q = query == null ? "" : query.strip();
+        if (q.length() > MAX_QUERY_LENGTH) {
+            q = q.substring(0, MAX_QUERY_LENGTH);
+        }
+        int pageNo = Math.max(page, 0);
+        BoardSearchIndex.Hits hits = searchIndex.search(q, pageNo * PAGE_SIZE, PAGE_SIZE);
+        if (hits.hits().isEmpty()) {
+            return new BoardSearchResult(List.of(), q, pageNo, hits.total(), false);
+        }
+
+        List<Integer> ids = hits.hits().stream().map(BoardSearchIndex.Hit::boardId).toList();
+        Map<Integer, BoardSummary> boards = repository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(BoardSummary::id, board -> board));
+        // 색인 반영 직후 삭제된 게시글처럼 조회되지 않은 ID는 건너뛴다
+        List<BoardSummary> ranked = ids.stream().map(boards::get).filter(Objects::nonNull).toList();
+
+        Map<Integer, String> writerNames = writerNames(ranked.stream().map(BoardSummary::writerId).toList());
+        List<BoardSummaryDto> models = ranked.stream()
+                .map(board -> mapper.toSummaryDto(board, writerNames.get(board.writerId())))
+                .toList();
+        boolean hasNext = (long) (pageNo + 1) * PAGE_SIZE < hits.total();
+        return new BoardSearchResult(models, q, pageNo, hits.total(), hasNext);
+    }
+
+    /**
+     * 제목(또는 제목 안 단어)이 입력값으로 시작하는 게시글을 최신순으로 반환한다.
+     * 메모리의 {@link TitleSuggester}만 조회하며 DB에 접근하지 않는다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @return 게시글 ID와 제목 (최대 {@value #SUGGEST_LIMIT}건)
+     */
+    public List<TitleSuggester.Suggestion> suggest(String prefix) {
+        return titleSuggester.suggest(prefix, SUGGEST_LIMIT);
     }
 
     @Transactional
     public void save(String boardId, Integer userId, BoardRequestDto dto) {
-        dto.setContent(jsoupYouTubeParser(dto.getContent()));
+        dto.setContent(contentRewriter.rewrite(imageStore.extract(dto.getContent())));
         Integer parsedId = boardId != null ? parseBoardId(boardId) : null;
-        repository.save(mapper.toBoard(parsedId, userId, dto));
+        Board saved = repository.save(mapper.toBoard(parsedId, userId, dto));
+        if (parsedId == null) {
+            contentStore.create(saved.getId(), dto.getContent());
+        } else {
+            contentStore.update(saved.getId(), dto.getContent());
+        }
+        searchIndex.index(saved.getId(), saved.getTitle(), dto.getContent());
+        titleSuggester.index(saved.getId(), saved.getTitle());
+        pageCache.invalidate(PageCache.board(saved.getId()), PageCache.INDEX);
+        detailCache.invalidate(saved.getId());
+        versions.touch(saved.getId());
     }
 
-    public void update(String id, BoardRequestDto dto) {
-        int boardId = parseBoardId(id);
-        Board board = repository.findById(boardId).orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
-        board.setTitle(dto.getTitle());
+    /**
+     * 목록 화면의 조건부 GET 검증자 (메모리 조회만, DB 접근 없음)
+     */
+    public BoardVersions.Validators indexValidators(SessionUser user) {
+        return versions.index(user);
     }
 
-    @Transactional
-    public void delete(String id) {
-        int boardId = parseBoardId(id);
-        Board delItem = repository.findById(boardId).orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
-        repository.delete(delItem);
+    /**
+     * 상세 화면의 조건부 GET 검증자 (메모리 조회만, DB 접근 없음)
+     *
+     * @throws InvalidBoardIdException 게시글 ID 형식이 잘못된 경우
+     */
+    public BoardVersions.Validators detailValidators(String id, SessionUser user) {
+        return versions.detail(parseBoardId(id), user);
     }
 
     /**
      * 게시글 상세 정보와 수정 가능 여부를 반환한다.
      *
+     * <p>조회자와 무관한 부분(게시글, 작성자 이름, 댓글 첫 페이지)은 {@link BoardDetailCache}에서 읽고,
+     * 수정 가능 여부와 본인 댓글 여부만 조회자 기준으로 덧씌운다.
+     * 캐시에 없으면 게시글 행, 본문, 댓글 첫 페이지({@link ReplyService#PAGE_SIZE}개)만 읽는다. 댓글 수와 무관하게 조회량이 일정하며,
+     * 나머지 댓글은 replyCursor로 댓글 API를 호출해 이어서 읽는다.
+     *
      * @param id 게시글 ID
      * @param user 로그인 사용자 (null 가능)
-     * @return 상세 DTO와 수정 가능 여부
+     * @return 상세 DTO, 수정 가능 여부, 댓글 다음 페이지 커서
      * @throws BoardNotFoundException 게시글 미존재 시
      */
     public BoardDetailResult getBoardDetail(String id, SessionUser user) {
-        BoardReponseDto board = boardDto(id, user)
-                .orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
+        BoardDetailCache.Detail detail = detailCache.get(parseBoardId(id), this::loadDetail);
+        BoardReponseDto dto = mapper.toResponseDto(detail, user);
 
-        boolean isModify = user != null && board.getWriteId() != null
-                && user.id().toString().equals(board.getWriteId());
-        return new BoardDetailResult(board, isModify);
+        boolean isModify = user != null && user.id().equals(detail.writerId());
+        return new BoardDetailResult(dto, isModify, detail.replyCursor());
     }
 
     /**
-     * 수정 폼용 게시글 조회 (DB 조회는 서비스 내부에서 수행)
+     * 수정 폼용 게시글 조회 ({@link BoardDetailCache}를 함께 사용하며, 폼에는 댓글과 작성자 이름을 넣지 않음)
      */
     public BoardReponseDto getBoardForUpdateForm(String id, SessionUser user) {
-        return boardDto(id, user).orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
+        return mapper.toFormDto(detailCache.get(parseBoardId(id), this::loadDetail));
+    }
+
+    /**
+     * 상세 캐시 미스 시 게시글 행, 본문, 댓글 첫 페이지를 읽는다 (본인 댓글 여부는 계산하지 않음).
+     */
+    private BoardDetailCache.Detail loadDetail(Integer boardId) {
+        Board board = repository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
+        board.setContent(contentStore.read(boardId));
+        ReplyService.ReplyPage replies = replyService.page(boardId, null, null);
+        return mapper.toDetail(board, writerName(board.getWriterId()), replies.replies(), replies.nextCursor());
     }
 
     /**
@@ -123,76 +256,61 @@ public class BoardService {
     }
 
     /**
-     * 작성자 본인일 때만 수정 (DB 조회/저장은 서비스 내부에서 수행)
+     * 작성자 본인일 때만 수정한다.
+     * 게시글을 읽지 않고 id와 작성자 ID를 조건으로 한 제목 UPDATE 1회로 확인과 수정을 함께 수행하고, 성공하면 본문을 교체한다.
      */
     @Transactional
     public void updateBoardIfOwner(String boardId, SessionUser user, BoardRequestDto dto) {
         if (user == null) {
             throw new BoardAccessDeniedException("로그인이 필요합니다.");
         }
-        BoardReponseDto board = boardDto(boardId, user)
-                .orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
-
-        if (!String.valueOf(user.id()).equals(board.getWriteId())) {
-            throw new BoardAccessDeniedException("수정 권한이 없습니다.");
+        int id = parseBoardId(boardId);
+        if (repository.updateTitleByIdAndWriterId(id, user.id(), dto.getTitle()) == 0) {
+            throw ownerCheckFailure(id, "수정 권한이 없습니다.");
         }
-        save(boardId, user.id(), dto);
+        // 권한이 확인된 뒤에만 이미지 파일을 쓴다
+        String content = contentRewriter.rewrite(imageStore.extract(dto.getContent()));
+        contentStore.update(id, content);
+        searchIndex.index(id, dto.getTitle(), content);
+        titleSuggester.index(id, dto.getTitle());
+        pageCache.invalidate(PageCache.board(id), PageCache.INDEX);
+        detailCache.invalidate(id);
+        versions.touch(id);
     }
 
     /**
-     * 작성자 본인일 때만 삭제 (DB 조회/삭제는 서비스 내부에서 수행)
+     * 작성자 본인일 때만 삭제한다.
+     * 댓글을 DELETE 1회로 일괄 삭제한 뒤 게시글을 id와 작성자 ID 조건으로 삭제하고 (두 문장 모두 같은 작성자 조건),
+     * 성공하면 본문을 삭제한다.
      */
     @Transactional
     public void deleteBoardIfOwner(String boardId, SessionUser user) {
         if (user == null) {
             throw new BoardAccessDeniedException("로그인이 필요합니다.");
         }
-        BoardReponseDto board = boardDto(boardId, user)
-                .orElseThrow(() -> new BoardNotFoundException("게시글을 찾을 수 없습니다."));
-
-        if (!String.valueOf(user.id()).equals(board.getWriteId())) {
-            throw new BoardAccessDeniedException("삭제 권한이 없습니다.");
+        int id = parseBoardId(boardId);
+        replyRepository.deleteAllByBoardIdAndWriterId(id, user.id());
+        if (repository.deleteByIdAndWriterId(id, user.id()) == 0) {
+            throw ownerCheckFailure(id, "삭제 권한이 없습니다.");
         }
-        delete(boardId);
+        contentStore.delete(id);
+        searchIndex.remove(id);
+        titleSuggester.remove(id);
+        pageCache.invalidate(PageCache.board(id), PageCache.INDEX);
+        detailCache.invalidate(id);
+        versions.remove(id);
     }
 
     /**
-     * Summernote 내용에서 YouTube URL을 HTML iframe 임베드로 변환
-     * - 지원 형식: youtube.com/watch?v=ID, youtu.be/ID
+     * 조건부 쓰기의 영향받은 행이 0건일 때 원인을 구분한다 (writer_id 컬럼만 조회).
+     *
+     * @return 게시글이 없으면 {@link BoardNotFoundException}, 있으면 {@link BoardAccessDeniedException}
      */
-    public String jsoupYouTubeParser(String content) {
-        if (content == null || content.isBlank()) {
-            return content;
+    private RuntimeException ownerCheckFailure(int boardId, String deniedMessage) {
+        if (repository.findWriterIdById(boardId).isEmpty()) {
+            return new BoardNotFoundException("게시글을 찾을 수 없습니다.");
         }
-
-        Document doc = Jsoup.parse(content);
-
-        // 1. YouTube 링크인 <a> 태그를 iframe으로 교체
-        Elements youtubeLinks = doc.select("a[href*='youtube.com'], a[href*='youtu.be']");
-
-        for (Element link : youtubeLinks) {
-            String videoId = extractYouTubeVideoId(link.attr("href"));
-
-            if (videoId != null) {
-                Element iframe = doc.createElement("iframe");
-                iframe.attr("src", "https://www.youtube.com/embed/" + videoId);
-                iframe.attr("width", "560");
-                iframe.attr("height", "315");
-                iframe.attr("frameborder", "0");
-                iframe.attr("allowfullscreen", "");
-                link.replaceWith(iframe);
-            }
-        }
-
-        // 2. 텍스트 내 YouTube URL을 iframe으로 교체
-        String html = doc.body().html();
-
-        String iframeReplacement = "<iframe src=\"https://www.youtube.com/embed/$1\" width=\"560\" height=\"315\" frameborder=\"0\" allowfullscreen></iframe>";
-
-        html = html.replaceAll("https?://(?:www\\.)?youtube\\.com/watch\\?v=([a-zA-Z0-9_-]{11})", iframeReplacement);
-        html = html.replaceAll("https?://(?:www\\.)?youtu\\.be/([a-zA-Z0-9_-]{11})", iframeReplacement);
-
-        return html;
+        return new BoardAccessDeniedException(deniedMessage);
     }
 
     private int parseBoardId(String id) {
@@ -206,21 +324,50 @@ public class BoardService {
         }
     }
 
-    private String extractYouTubeVideoId(String url) {
-        if (url == null || url.isBlank())
-            return null;
-        Pattern watchPattern = Pattern.compile("(?:youtube\\.com/watch\\?v=)([a-zA-Z0-9_-]{11})");
-        Pattern shortPattern = Pattern.compile("(?:youtu\\.be/)([a-zA-Z0-9_-]{11})");
-        Matcher m = watchPattern.matcher(url);
+    /**
+     * 작성자 ID를 작성자 이름으로 변환한다 (작성자 캐시 미스 시 내부 API 호출).
+     */
+    private String writerName(Integer writerId) {
+        Dto.User user = writerCache.get(writerId,
+                id -> rc.get("/api/user/info?writerId={writerId}", Dto.User.class, id));
+        return user.name();
+    }
 
-        if (m.find())
-            return m.group(1);
+    /**
+     * 작성자 ID 목록을 작성자 이름으로 일괄 변환한다.
+     * 작성자 캐시에 없는 ID만 모아 내부 API를 1회 호출한다.
+     *
+     * @param writerIds 작성자 ID 목록 (중복 허용)
+     * @return 작성자 ID → 이름 맵 (존재하지 않는 작성자는 제외)
+     */
+    private Map<Integer, String> writerNames(Collection<Integer> writerIds) {
+        Map<Integer, Dto.User> users = writerCache.getAll(new LinkedHashSet<>(writerIds), this::fetchWriters);
+        return users.values().stream().collect(Collectors.toMap(Dto.User::id, Dto.User::name));
+    }
+
+    private Map<Integer, Dto.User> fetchWriters(Set<? extends Integer> writerIds) {
+        if (writerIds.isEmpty()) {
+            return Map.of();
+        }
+        String ids = writerIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        Dto.User[] users = rc.get("/api/user/infos?writerIds={writerIds}", Dto.User[].class, ids);
+        if (users == null) {
+            return Map.of();
+        }
+        return Arrays.stream(users).collect(Collectors.toMap(Dto.User::id, user -> user, (a, b) -> a));
+    }
+
+    /** 상세 화면 결과 (게시글 + 수정 가능 여부 + 댓글 다음 페이지 커서, 없으면 null) */
+    public record BoardDetailResult(BoardReponseDto board, boolean isModify, Integer replyCursor) {
+    }
 
-        m = shortPattern.matcher(url);
-        return m.find() ? m.group(1) : null;
+    /** 검색 결과 (순위순 한 페이지의 게시글 + 사용한 검색어 + 페이지 번호 + 전체 일치 건수 + 다음 페이지 존재 여부) */
+    public record BoardSearchResult(List<BoardSummaryDto> boards, String query, int page, int total,
+            boolean hasNext) {
     }
 
-    /** 상세 화면 결과 (게시글 + 수정 가능 여부) */
-    public record BoardDetailResult(BoardReponseDto board, boolean isModify) {
+    /** 목록 화면 결과 (한 페이지의 게시글 + 검색어 + 이전/다음 커서, 없으면 null) */
+    public record BoardPageResult(List<BoardSummaryDto> boards, String keyword, Integer prevCursor,
+            Integer nextCursor) {
     }
 }
@@ -0,0 +1,136 @@
+package com.example.v4.board.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 게시글별·목록 전체의 버전 스탬프. 조건부 GET(ETag, Last-Modified)의 검증자를 메모리 조회만으로 만든다.
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>게시글 쓰기(게시글 등록·수정, 댓글 등록·삭제)마다 해당 게시글과 목록의 버전을 올린다 (커밋 후 반영)</li>
+ * <li>게시글별 스탬프는 Caffeine으로 최대 건수(app.board.versions.maximum-size)까지만 보관하고, 삭제된 게시글의 스탬프는 지운다.
+ * 버전은 노드 전체에서 하나씩 증가하는 번호이고, 보관하지 않는 게시글은 축출·삭제된 어떤 스탬프보다 작지 않은 공통 스탬프를 쓰므로
+ * 축출되어도 이전에 내보낸 검증자로 돌아가지 않는다</li>
+ * <li>작성자 이름처럼 어느 화면에 영향이 있는지 모르는 변경은 전역 버전을 올려 모든 검증자를 바꾼다</li>
+ * <li>Last-Modified는 초 단위로 올림하고 버전이 오를 때마다 최소 1초씩 증가시켜, 같은 초 안의 연속 쓰기도 구분한다</li>
+ * <li>ETag에는 노드별 임의 값을 넣어 재시작·다른 노드의 버전과 겹치지 않게 하고, 조회자(비로그인/사용자 ID)도 넣는다
+ * (로그인 상태에 따라 화면이 다름)</li>
+ * </ul>
+ *
+ * <p>
+ * 버전은 이 노드의 메모리에만 있으므로 304 응답의 정확성은 단일 노드에서만 보장된다.
+ * 다른 노드의 쓰기는 이 노드의 버전을 올리지 않아, If-Modified-Since만 보내는 요청에 변경 전 화면으로 304를 줄 수 있다.
+ * 여러 노드로 운영하려면 세션 고정(sticky session)을 쓰거나 검증자를 DB의 변경 시각·버전 컬럼에서 만들어야 한다.
+ */
+@Component
+public class BoardVersions {
+
+    private final String node = Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 16);
+    private final Stamp initial = new Stamp(0, ceilToSecond(System.currentTimeMillis()));
+    /** 모든 스탬프가 함께 쓰는 버전 번호 (한 번 내보낸 번호는 다시 쓰지 않음) */
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Integer, Stamp> boards;
+    /** 보관하지 않는 게시글(쓰기가 없었거나 축출·삭제된 게시글)의 스탬프 */
+    private final AtomicReference<Stamp> untracked = new AtomicReference<>(initial);
+    private final AtomicReference<Stamp> index = new AtomicReference<>(initial);
+    private final AtomicReference<Stamp> global = new AtomicReference<>(initial);
+
+    @Autowired
+    public BoardVersions(@Value("${app.board.versions.maximum-size:10000}") long maximumSize) {
+        this(maximumSize, ForkJoinPool.commonPool());
+    }
+
+    /** 테스트용: 축출을 executor에서 실행한다 */
+    BoardVersions(long maximumSize, Executor executor) {
+        // 축출 리스너는 항목이 맵에서 빠지기 전에 동기로 실행되므로, 조회는 항상 축출된 스탬프 이상을 본다
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(executor)
+                .<Integer, Stamp>evictionListener((boardId, stamp, cause) -> untracked.accumulateAndGet(stamp, Stamp::max))
+                .build();
+    }
+
+    /** 게시글 상세 화면의 검증자 */
+    public Validators detail(int boardId, SessionUser viewer) {
+        Stamp stamp = boards.getIfPresent(boardId);
+        return validators("b" + boardId, stamp != null ? stamp : untracked.get(), viewer);
+    }
+
+    /** 게시글 목록 화면(검색·페이지 커서 포함)의 검증자 */
+    public Validators index(SessionUser viewer) {
+        return validators("i", index.get(), viewer);
+    }
+
+    /** 게시글 1건이 바뀌었다 (목록도 함께). 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void touch(Integer boardId) {
+        AfterCommit.run(() -> {
+            boards.asMap().compute(boardId, (id, stamp) -> next(stamp != null ? stamp : untracked.get()));
+            index.updateAndGet(this::next);
+        });
+    }
+
+    /**
+     * 게시글이 삭제되었다 (목록도 함께). 스탬프를 지우고, 보관하지 않는 게시글의 스탬프를 지운 스탬프보다 올려
+     * 삭제 전에 내보낸 검증자와 겹치지 않게 한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void remove(Integer boardId) {
+        AfterCommit.run(() -> {
+            Stamp removed = boards.getIfPresent(boardId);
+            untracked.updateAndGet(stamp -> next(removed != null ? stamp.max(removed) : stamp));
+            boards.invalidate(boardId);
+            index.updateAndGet(this::next);
+        });
+    }
+
+    /** 목록에만 보이는 값(댓글 수 등)이 바뀌었다. 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void touchIndex() {
+        AfterCommit.run(() -> index.updateAndGet(this::next));
+    }
+
+    /** 모든 화면의 검증자를 바꾼다. 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void touchAll() {
+        AfterCommit.run(() -> global.updateAndGet(this::next));
+    }
+
+    private Validators validators(String scope, Stamp stamp, SessionUser viewer) {
+        Stamp all = global.get();
+        String etag = "W/\"" + node + "-" + all.version() + "-" + scope + "." + stamp.version() + "-"
+                + (viewer != null ? "u" + viewer.id() : "a") + "\"";
+        return new Validators(etag, Math.max(stamp.lastModified(), all.lastModified()));
+    }
+
+    private Stamp next(Stamp stamp) {
+        return new Stamp(sequence.incrementAndGet(),
+                Math.max(ceilToSecond(System.currentTimeMillis()), stamp.lastModified() + 1000));
+    }
+
+    private static long ceilToSecond(long millis) {
+        return (millis + 999) / 1000 * 1000;
+    }
+
+    /** 버전과 마지막 변경 시각 (ms, 초 단위로 올림) */
+    private record Stamp(long version, long lastModified) {
+
+        Stamp max(Stamp other) {
+            return new Stamp(Math.max(version, other.version), Math.max(lastModified, other.lastModified));
+        }
+    }
+
+    /** 조건부 GET 검증자 (약한 ETag, Last-Modified ms) */
+    public record Validators(String etag, long lastModified) {
+    }
+}
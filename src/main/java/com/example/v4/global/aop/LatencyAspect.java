@@ -0,0 +1,57 @@
+package com.example.v4.global.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.example.v4.global.monitor.LatencyMetrics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller, Service 메서드의 응답 시간을 {@link LatencyMetrics}에 기록하는 AOP Aspect.
+ *
+ * <p>
+ * 샘플링 없이 모든 호출을 System.nanoTime()으로 측정하며, 이름은 "클래스#메서드" 형식이다.
+ * {@link LoggingAspect}보다 바깥에서 실행되므로 측정값에는 로깅 비용이 포함된다.
+ */
+@Aspect
+@Component
+@Order(90)
+@RequiredArgsConstructor
+public class LatencyAspect {
+
+    private final LatencyMetrics metrics;
+
+    /** 메서드별 타이머 (이름 문자열 생성/조회를 호출마다 반복하지 않도록 캐시) */
+    private final Map<Method, LatencyMetrics.LatencyTimer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.example.v4..controller..*(..)) || execution(* com.example.v4..service..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer(joinPoint).record(System.nanoTime() - start);
+        }
+    }
+
+    private LatencyMetrics.LatencyTimer timer(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LatencyMetrics.LatencyTimer timer = timers.get(method);
+        if (timer == null) {
+            Class<?> type = ClassUtils.getUserClass(joinPoint.getTarget().getClass());
+            timer = timers.computeIfAbsent(method,
+                    key -> metrics.timer(type.getSimpleName() + "#" + key.getName()));
+        }
+        return timer;
+    }
+}
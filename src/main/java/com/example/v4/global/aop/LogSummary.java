@@ -0,0 +1,140 @@
+package com.example.v4.global.aop;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 로그에 출력할 값의 지연 요약.
+ *
+ * <p>
+ * 로거가 메시지를 실제로 포맷할 때({@link #toString()} 호출 시)에만 문자열로 변환하므로,
+ * 레벨/필터에 걸러진 로그는 인자 직렬화 비용이 없다.
+ * <ul>
+ * <li>민감 타입(SessionUser, HttpSession, Password): "***"</li>
+ * <li>문자열·객체: maxLength 글자로 자르고 전체 길이 표시</li>
+ * <li>컬렉션·배열·맵: 크기와 앞쪽 maxElements개 요소만 표시</li>
+ * </ul>
+ */
+final class LogSummary {
+
+    private static final String MASK = "***";
+
+    private final Object value;
+    private final int maxLength;
+    private final int maxElements;
+    private final boolean args;
+
+    private LogSummary(Object value, int maxLength, int maxElements, boolean args) {
+        this.value = value;
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+        this.args = args;
+    }
+
+    /** 반환값 요약 */
+    static LogSummary of(Object value, int maxLength, int maxElements) {
+        return new LogSummary(value, maxLength, maxElements, false);
+    }
+
+    /** 메서드 인자 배열 요약 (인자는 개수 제한 없이 각각 요약) */
+    static LogSummary ofArgs(Object[] args, int maxLength, int maxElements) {
+        return new LogSummary(args, maxLength, maxElements, true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (args && value instanceof Object[] array) {
+            sb.append('[');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                render(sb, array[i], true);
+            }
+            sb.append(']');
+        } else {
+            render(sb, value, true);
+        }
+        return sb.toString();
+    }
+
+    private void render(StringBuilder sb, Object v, boolean expand) {
+        if (v == null) {
+            sb.append("null");
+        } else if (isSensitiveType(v.getClass())) {
+            sb.append(MASK);
+        } else if (v instanceof CharSequence cs) {
+            truncate(sb, cs);
+        } else if (v instanceof Collection<?> c) {
+            renderElements(sb, c.iterator(), c.size(), expand);
+        } else if (v instanceof Map<?, ?> m) {
+            sb.append("{size=").append(m.size()).append('}');
+        } else if (v instanceof Optional<?> o) {
+            sb.append("Optional[");
+            render(sb, o.orElse(null), expand);
+            sb.append(']');
+        } else if (v.getClass().isArray()) {
+            renderArray(sb, v, expand);
+        } else {
+            truncate(sb, String.valueOf(v));
+        }
+    }
+
+    private void renderElements(StringBuilder sb, Iterator<?> it, int size, boolean expand) {
+        sb.append('[');
+        if (!expand) {
+            sb.append("size=").append(size).append(']');
+            return;
+        }
+        int shown = 0;
+        while (it.hasNext() && shown < maxElements) {
+            if (shown > 0) {
+                sb.append(", ");
+            }
+            render(sb, it.next(), false);
+            shown++;
+        }
+        if (size > shown) {
+            sb.append(shown > 0 ? ", " : "").append("... (size=").append(size).append(')');
+        }
+        sb.append(']');
+    }
+
+    private void renderArray(StringBuilder sb, Object array, boolean expand) {
+        int length = Array.getLength(array);
+        sb.append('[');
+        if (!expand) {
+            sb.append("length=").append(length).append(']');
+            return;
+        }
+        int shown = Math.min(length, maxElements);
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            render(sb, Array.get(array, i), false);
+        }
+        if (length > shown) {
+            sb.append(shown > 0 ? ", " : "").append("... (length=").append(length).append(')');
+        }
+        sb.append(']');
+    }
+
+    private void truncate(StringBuilder sb, CharSequence cs) {
+        if (cs.length() <= maxLength) {
+            sb.append(cs);
+        } else {
+            sb.append(cs, 0, maxLength).append("...(").append(cs.length()).append(" chars)");
+        }
+    }
+
+    static boolean isSensitiveType(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.contains("SessionUser") || name.contains("HttpSession")
+                || name.contains("Password") || name.contains("password");
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.v4.global.aop;
 
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import com.example.v4.global.trace.RequestTrace;
 
 /**
  * Controller, Service 계층의 메서드 실행을 로깅하는 AOP Aspect.
@@ -21,6 +31,19 @@ import org.springframework.stereotype.Component;
  *
  * <p>
  * 로깅 내용: 메서드명, 인자, 반환값, 실행 시간, 예외
+ *
+ * <p>
+ * 오버헤드 제어:
+ * <ul>
+ * <li>샘플링: app.aop.logging.sample-rate(기본 비율)와 app.aop.logging.sample-rates(패키지 접두사별 비율).
+ * 샘플링되지 않은 호출은 인자 복사·문자열 변환 없이 바로 실행한다. 예외 로그는 샘플링과 무관하게 항상 남긴다</li>
+ * <li>지연 요약: 인자/반환값은 {@link LogSummary}로 감싸 로그가 실제로 출력될 때만 변환하며,
+ * 문자열 길이(max-length)와 컬렉션 요소 수(max-elements)를 제한한다</li>
+ * <li>비동기 출력: prod 프로필에서는 logback-spring.xml의 AsyncAppender(neverBlock)로 기록한다</li>
+ * </ul>
+ *
+ * <p>
+ * 요청 추적({@link RequestTrace}) 중이면 샘플링과 무관하게 계층별 구간을 기록한다.
  */
 @Aspect
 @Component
@@ -29,58 +52,152 @@ public class LoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
 
+    private static final String BASE_PACKAGE = "com.example.v4.";
+
+    private final double defaultSampleRate;
+    private final Map<String, Double> packageSampleRates;
+    private final int maxLength;
+    private final int maxElements;
+
+    /** 호출 대상(프록시) 클래스별 로그 이름과 샘플링 비율 */
+    private final Map<Class<?>, Policy> policies = new ConcurrentHashMap<>();
+
+    public LoggingAspect(@Value("${app.aop.logging.sample-rate:1.0}") double defaultSampleRate,
+            @Value("${app.aop.logging.sample-rates:}") String packageSampleRates,
+            @Value("${app.aop.logging.max-length:200}") int maxLength,
+            @Value("${app.aop.logging.max-elements:3}") int maxElements) {
+        this.defaultSampleRate = defaultSampleRate;
+        this.packageSampleRates = parseSampleRates(packageSampleRates);
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
     @Around("@within(com.example.v4.global.annotation.Loggable) || @annotation(com.example.v4.global.annotation.Loggable) || "
             + "execution(* com.example.v4..controller..*(..)) || execution(* com.example.v4..service..*(..)) || execution(* com.example.v4..repository..*(..))")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = signature.getName();
-        Object[] args = joinPoint.getArgs();
+        Policy policy = policy(joinPoint);
+        RequestTrace trace = policy.category() != null ? RequestTrace.current() : null;
+        if (!log.isInfoEnabled() || !policy.sampled()) {
+            // 샘플링은 호출/완료 INFO 로그에만 적용하고, 예외는 항상 기록한다
+            try {
+                return trace == null ? joinPoint.proceed() : traced(joinPoint, policy, trace);
+            } catch (Throwable ex) {
+                log.error("[AOP] {}#{} 예외 - {}", policy.name(), joinPoint.getSignature().getName(),
+                        ex.getMessage(), ex);
+                throw ex;
+            }
+        }
 
-        log.info("[AOP] {}#{} 호출 - args: {}", className, methodName, maskSensitiveArgs(args));
+        String className = policy.name();
+        String methodName = joinPoint.getSignature().getName();
+        log.info("[AOP] {}#{} 호출 - args: {}", className, methodName,
+                LogSummary.ofArgs(joinPoint.getArgs(), maxLength, maxElements));
 
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
+        long traceStart = trace != null ? trace.start(policy.category()) : 0L;
         try {
             Object result = joinPoint.proceed();
-            long elapsed = System.currentTimeMillis() - start;
-            log.info("[AOP] {}#{} 완료 ({}ms) - return: {}", className, methodName, elapsed, maskReturnValue(result));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("[AOP] {}#{} 완료 ({}ms) - return: {}", className, methodName, elapsed,
+                    LogSummary.of(result, maxLength, maxElements));
             return result;
         } catch (Throwable ex) {
-            long elapsed = System.currentTimeMillis() - start;
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
             log.error("[AOP] {}#{} 예외 ({}ms) - {}", className, methodName, elapsed, ex.getMessage(), ex);
             throw ex;
+        } finally {
+            if (trace != null) {
+                trace.stop(policy.category(), traceStart, className + "#" + methodName);
+            }
+        }
+    }
+
+    /** 로그 없이 요청 추적 구간만 기록한다. */
+    private Object traced(ProceedingJoinPoint joinPoint, Policy policy, RequestTrace trace) throws Throwable {
+        long start = trace.start(policy.category());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            trace.stop(policy.category(), start, policy.name() + "#" + joinPoint.getSignature().getName());
         }
     }
 
-    private Object[] maskSensitiveArgs(Object[] args) {
-        if (args == null || args.length == 0) {
-            return args;
+    private Policy policy(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        Class<?> key = proxy != null ? proxy.getClass() : joinPoint.getSignature().getDeclaringType();
+        Policy policy = policies.get(key);
+        if (policy == null) {
+            policy = policies.computeIfAbsent(key, this::resolvePolicy);
         }
-        Object[] masked = new Object[args.length];
-        for (int i = 0; i < args.length; i++) {
-            Object arg = args[i];
-            if (arg != null && isSensitiveType(arg.getClass())) {
-                masked[i] = "***";
-            } else {
-                masked[i] = arg;
+        return policy;
+    }
+
+    /**
+     * 프록시 클래스에서 애플리케이션 타입을 찾아 로그 이름과 샘플링 비율을 정한다.
+     * JPA 리포지토리는 구현체(SimpleJpaRepository) 대신 선언한 인터페이스를 사용한다.
+     */
+    private Policy resolvePolicy(Class<?> proxyClass) {
+        Class<?> type = ClassUtils.getUserClass(proxyClass);
+        if (Proxy.isProxyClass(proxyClass)) {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                    type = candidate;
+                    break;
+                }
             }
         }
-        return masked;
+        return new Policy(type.getSimpleName(), sampleRate(type.getName()), category(type.getName()));
     }
 
-    private boolean isSensitiveType(Class<?> clazz) {
-        String name = clazz.getName();
-        return name.contains("SessionUser") || name.contains("HttpSession")
-                || name.contains("Password") || name.contains("password");
+    /** 요청 추적(Server-Timing) 분류. @Loggable만 붙은 다른 계층은 추적하지 않는다. */
+    private static RequestTrace.Category category(String className) {
+        if (className.contains(".controller.")) {
+            return RequestTrace.Category.CTRL;
+        }
+        if (className.contains(".service.")) {
+            return RequestTrace.Category.SVC;
+        }
+        if (className.contains(".repository.")) {
+            return RequestTrace.Category.REPO;
+        }
+        return null;
     }
 
-    private Object maskReturnValue(Object result) {
-        if (result == null) {
-            return null;
+    /** 가장 긴 패키지 접두사가 일치하는 비율, 없으면 기본 비율 */
+    double sampleRate(String className) {
+        double rate = defaultSampleRate;
+        int matched = -1;
+        for (Map.Entry<String, Double> entry : packageSampleRates.entrySet()) {
+            String prefix = entry.getKey();
+            if (prefix.length() > matched && className.startsWith(prefix)) {
+                rate = entry.getValue();
+                matched = prefix.length();
+            }
         }
-        if (isSensitiveType(result.getClass())) {
-            return "***";
+        return rate;
+    }
+
+    /** "com.example.v4.board.repository=0.01, com.example.v4.user=0.1" 형식 */
+    private static Map<String, Double> parseSampleRates(String value) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        if (value == null || value.isBlank()) {
+            return rates;
+        }
+        for (String entry : value.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("잘못된 app.aop.logging.sample-rates 항목: " + entry.strip());
+            }
+            rates.put(entry.substring(0, eq).strip(), Double.parseDouble(entry.substring(eq + 1).strip()));
+        }
+        return rates;
+    }
+
+    /** 호출 대상별 로깅 정책 (category: 요청 추적 분류, 없으면 null) */
+    private record Policy(String name, double sampleRate, RequestTrace.Category category) {
+
+        boolean sampled() {
+            return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
         }
-        return result;
     }
 }
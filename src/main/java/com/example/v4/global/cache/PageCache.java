@@ -0,0 +1,244 @@
+package com.example.v4.global.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 비로그인 요청의 렌더링된 페이지(본문 바이트)를 보관하는 프로세스 내 캐시.
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>Caffeine 기반 (W-TinyLFU 축출), 최대 건수(app.cache.page.maximum-size)와 TTL(app.cache.page.expire-after-write)로 제한</li>
+ * <li>페이지마다 렌더링 중 {@link #tag}로 붙인 대리 키(게시글 ID, 작성자 ID, "index")를 함께 저장</li>
+ * <li>{@link #invalidate}는 대리 키마다 무효화 세대를 올리기만 하며, 조회 시 렌더링을 시작한 세대 이후에
+ * 무효화된 대리 키가 하나라도 있으면 버린다 (렌더링 도중의 쓰기도 놓치지 않음)</li>
+ * <li>무효화 세대는 페이지 TTL의 2배가 지나면 잊는다. 그보다 먼저 렌더링을 시작한 페이지는 이미 만료되었으므로
+ * 기록이 쓰기 수에 비례해 끝없이 늘지 않는다</li>
+ * <li>같은 키를 동시에 여러 요청이 놓치면 첫 요청만 렌더링하고 나머지는 그 결과를
+ * 최대 app.cache.page.coalesce-timeout 동안 기다려 재사용한다 (캐시 스탬피드 방지)</li>
+ * </ul>
+ *
+ * <p>
+ * 무효화는 쓰기 트랜잭션의 커밋 후에 반영한다. 다른 노드의 쓰기는 TTL이 갱신 주기를 보장한다.
+ */
+@Component
+public class PageCache {
+
+    /** 게시글 목록 페이지(검색·페이지 커서 포함 전체)의 대리 키 */
+    public static final String INDEX = "index";
+
+    private static final String TAGS_ATTRIBUTE = PageCache.class.getName() + ".TAGS";
+
+    private final Cache<String, Entry> pages;
+    private final long coalesceTimeoutNanos;
+
+    /** 대리 키 → 마지막으로 무효화된 세대 (페이지 TTL의 2배 동안 유지) */
+    private final Cache<String, Long> invalidatedAt;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    @Autowired
+    public PageCache(@Value("${app.cache.page.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.page.expire-after-write:5m}") Duration expireAfterWrite,
+            @Value("${app.cache.page.coalesce-timeout:2s}") Duration coalesceTimeout) {
+        this(maximumSize, expireAfterWrite, coalesceTimeout, Ticker.systemTicker());
+    }
+
+    /** 테스트용: 만료 시각을 ticker로 제어한다 */
+    PageCache(long maximumSize, Duration expireAfterWrite, Duration coalesceTimeout, Ticker ticker) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .build();
+        // 무효화 기록보다 먼저 렌더링을 시작한 페이지는 기록 시점 이전에 저장되었으므로 TTL 안에 만료된다.
+        // 크기 제한으로 축출하면 살아 있는 페이지의 무효화를 놓치므로 시간으로만 제한한다.
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterWrite.multipliedBy(2))
+                .ticker(ticker)
+                .build();
+        this.coalesceTimeoutNanos = coalesceTimeout.toNanos();
+    }
+
+    /** 게시글 1건(상세 페이지, 목록의 한 행)의 대리 키 */
+    public static String board(Object boardId) {
+        return "board:" + boardId;
+    }
+
+    /** 작성자 1명(표시되는 작성자 이름)의 대리 키 */
+    public static String writer(Object writerId) {
+        return "writer:" + writerId;
+    }
+
+    /**
+     * 지금 렌더링 중인 페이지에 대리 키를 붙인다. 컨트롤러가 화면에 쓰는 데이터마다 호출한다.
+     */
+    public static void tag(HttpServletRequest request, String... tags) {
+        tags(request).addAll(Arrays.asList(tags));
+    }
+
+    /** 요청에 붙은 대리 키 (없으면 빈 집합을 만들어 요청에 보관) */
+    @SuppressWarnings("unchecked")
+    public static Set<String> tags(HttpServletRequest request) {
+        Set<String> tags = (Set<String>) request.getAttribute(TAGS_ATTRIBUTE);
+        if (tags == null) {
+            tags = new LinkedHashSet<>();
+            request.setAttribute(TAGS_ATTRIBUTE, tags);
+        }
+        return tags;
+    }
+
+    /**
+     * 캐시된 페이지를 반환한다. 없으면 같은 키를 렌더링 중인 요청을 기다리거나, 직접 renderer로 렌더링한다.
+     *
+     * @param key 캐시 키 (요청 URI + 쿼리 문자열)
+     * @param renderer 응답에 직접 렌더링하고, 저장할 페이지를 반환한다 (저장하면 안 되면 null)
+     * @return 캐시 또는 먼저 렌더링한 요청의 페이지. 이 요청이 직접 렌더링했으면 null (응답은 이미 작성됨)
+     */
+    public Page get(String key, Renderer renderer) throws IOException, ServletException {
+        Entry cached = pages.getIfPresent(key);
+        if (cached != null) {
+            if (isFresh(cached)) {
+                hits.increment();
+                return cached.page();
+            }
+            stale.increment();
+            pages.asMap().remove(key, cached);
+        }
+
+        CompletableFuture<Entry> flight = new CompletableFuture<>();
+        CompletableFuture<Entry> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            Entry shared = await(leader);
+            if (shared != null && isFresh(shared)) {
+                coalesced.increment();
+                return shared.page();
+            }
+            // 먼저 렌더링한 요청이 실패·시간 초과했거나 렌더링 도중 무효화되었으면 저장 없이 직접 렌더링한다
+            misses.increment();
+            renderer.render();
+            return null;
+        }
+
+        misses.increment();
+        Entry rendered = null;
+        try {
+            long startedAt = generation.get();
+            Page page = renderer.render();
+            if (page != null && !page.tags().isEmpty()) {
+                rendered = new Entry(page, startedAt);
+                if (isFresh(rendered)) {
+                    pages.put(key, rendered);
+                } else {
+                    rendered = null;
+                }
+            }
+        } finally {
+            inFlight.remove(key, flight);
+            flight.complete(rendered);
+        }
+        return null;
+    }
+
+    /**
+     * 대리 키가 붙은 페이지를 모두 무효화한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void invalidate(String... tags) {
+        AfterCommit.run(() -> {
+            long now = generation.incrementAndGet();
+            for (String tag : tags) {
+                invalidatedAt.put(tag, now);
+            }
+        });
+    }
+
+    /** 캐시 전체를 비운다. */
+    public void invalidateAll() {
+        pages.invalidateAll();
+    }
+
+    /** 현재까지의 적중·미스·합류(스탬피드 방지로 재사용)·무효화로 버린 건수 통계 스냅샷 */
+    public Stats stats() {
+        long hitCount = hits.sum() + coalesced.sum();
+        long requests = hitCount + misses.sum();
+        invalidatedAt.cleanUp();
+        return new Stats(pages.estimatedSize(), hits.sum(), misses.sum(), coalesced.sum(), stale.sum(),
+                requests == 0 ? 1.0 : (double) hitCount / requests, invalidatedAt.estimatedSize());
+    }
+
+    /** 렌더링을 시작한 세대 이후로 붙은 대리 키가 하나도 무효화되지 않았으면 true */
+    private boolean isFresh(Entry entry) {
+        for (String tag : entry.page().tags()) {
+            Long at = invalidatedAt.getIfPresent(tag);
+            if (at != null && at > entry.generation()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Entry await(CompletableFuture<Entry> leader) {
+        try {
+            return leader.get(coalesceTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /** 응답에 직접 렌더링하고 저장할 페이지를 반환하는 콜백 */
+    @FunctionalInterface
+    public interface Renderer {
+        Page render() throws IOException, ServletException;
+    }
+
+    /** 렌더링된 페이지 (headers: 적중 시 그대로 붙일 응답 헤더, 대리 키가 없으면 저장하지 않음) */
+    public record Page(byte[] body, String contentType, Map<String, String> headers, Set<String> tags) {
+
+        public Page {
+            headers = Map.copyOf(headers);
+            tags = Collections.unmodifiableSet(new LinkedHashSet<>(tags));
+        }
+    }
+
+    /** 저장된 페이지와 렌더링을 시작한 시점의 무효화 세대 */
+    private record Entry(Page page, long generation) {
+    }
+
+    /** 캐시 통계 (hitRate: 합류 포함, trackedTags: 무효화 세대를 기록 중인 대리 키 수) */
+    public record Stats(long size, long hitCount, long missCount, long coalescedCount, long staleCount,
+            double hitRate, long trackedTags) {
+    }
+}
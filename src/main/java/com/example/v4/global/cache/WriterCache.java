@@ -0,0 +1,88 @@
+package com.example.v4.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.v4.global.dto.Dto;
+import com.example.v4.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 작성자 ID → {@link Dto.User} 조회 결과를 보관하는 프로세스 내 캐시.
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>Caffeine 기반 (W-TinyLFU 축출, 동시성 안전)</li>
+ * <li>최대 건수(app.cache.writer.maximum-size)와 TTL(app.cache.writer.expire-after-write)로 제한</li>
+ * <li>적중/미스/축출 통계를 기록하여 {@link #stats()}로 노출</li>
+ * </ul>
+ *
+ * <p>
+ * User 엔티티 변경 시 {@link WriterCacheListener}가 커밋 후에 해당 항목을 무효화한다.
+ * 커밋 전에 비우면 동시 조회가 변경 전 행을 다시 읽어 저장할 수 있기 때문이다.
+ * 사용자 서비스가 다른 노드로 분리된 경우에는 TTL이 갱신 주기를 보장한다.
+ */
+@Component
+public class WriterCache {
+
+    private final Cache<Integer, Dto.User> cache;
+
+    public WriterCache(@Value("${app.cache.writer.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.writer.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 작성자 1명을 조회한다. 캐시에 없으면 loader로 읽어 저장한다.
+     */
+    public Dto.User get(Integer writerId, Function<Integer, Dto.User> loader) {
+        return cache.get(writerId, loader);
+    }
+
+    /**
+     * 여러 작성자를 조회한다. 캐시에 없는 ID만 모아 loader를 한 번 호출한다.
+     *
+     * @param writerIds 작성자 ID 목록
+     * @param loader 미스된 ID 집합 → 작성자 맵 (존재하지 않는 ID는 생략 가능)
+     * @return 작성자 ID → 작성자 (존재하지 않는 작성자는 제외)
+     */
+    public Map<Integer, Dto.User> getAll(Collection<Integer> writerIds,
+            Function<Set<? extends Integer>, Map<Integer, Dto.User>> loader) {
+        return cache.getAll(writerIds, loader);
+    }
+
+    /** 작성자 1명의 캐시 항목을 제거한다. 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void invalidate(Integer writerId) {
+        AfterCommit.run(() -> cache.invalidate(writerId));
+    }
+
+    /** 캐시 전체를 비운다. 트랜잭션 안이면 커밋 후에 반영한다. */
+    public void invalidateAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    /** 현재까지의 적중률·축출 건수 등 통계 스냅샷 */
+    public Stats stats() {
+        CacheStats stats = cache.stats();
+        return new Stats(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.loadCount(), stats.averageLoadPenalty() / 1_000_000.0);
+    }
+
+    /** 캐시 통계 (평균 로딩 시간은 ms) */
+    public record Stats(long size, long hitCount, long missCount, double hitRate, long evictionCount,
+            long loadCount, double averageLoadMillis) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.v4.global.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardVersions;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 엔티티가 수정·삭제되면 {@link WriterCache}의 해당 작성자 항목과
+ * 그 작성자 이름이 표시된 {@link PageCache} 페이지를 무효화하는 JPA 엔티티 리스너.
+ * 게시글 상세 캐시({@link BoardDetailCache})와 조건부 GET 버전({@link BoardVersions})은 작성자별 색인이 없으므로
+ * 전체를 비우거나 올린다 (사용자 변경은 드묾).
+ * 플러시 시점에 호출되지만 모든 무효화는 각 캐시가 트랜잭션 커밋 후로 미룬다.
+ *
+ * <p>
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 캐시를 주입받을 수 있다.
+ * 캐시 빈이 없는 환경(@DataJpaTest 등)에서는 아무 동작도 하지 않는다.
+ */
+public class WriterCacheListener {
+
+    private final ObjectProvider<WriterCache> writerCache;
+    private final ObjectProvider<PageCache> pageCache;
+    private final ObjectProvider<BoardDetailCache> detailCache;
+    private final ObjectProvider<BoardVersions> versions;
+
+    public WriterCacheListener(ObjectProvider<WriterCache> writerCache, ObjectProvider<PageCache> pageCache,
+            ObjectProvider<BoardDetailCache> detailCache, ObjectProvider<BoardVersions> versions) {
+        this.writerCache = writerCache;
+        this.pageCache = pageCache;
+        this.detailCache = detailCache;
+        this.versions = versions;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        writerCache.ifAvailable(cache -> cache.invalidate(user.getId()));
+        pageCache.ifAvailable(cache -> cache.invalidate(PageCache.writer(user.getId())));
+        detailCache.ifAvailable(BoardDetailCache::invalidateAll);
+        versions.ifAvailable(BoardVersions::touchAll);
+    }
+}
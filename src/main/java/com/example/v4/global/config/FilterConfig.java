@@ -1,10 +1,13 @@
 package com.example.v4.global.config;
 
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 import com.example.v4.global.filter.FirstFilter;
 import com.example.v4.global.filter.LoginFilter;
+import com.example.v4.global.filter.PageCacheFilter;
 
 @Configuration
 public class FilterConfig {
@@ -24,4 +27,16 @@ public class FilterConfig {
         registration.setOrder(2);
         return registration;
     }
+
+    /**
+     * 비로그인 페이지 캐시: 목록("/")과 게시글 상세만 대상.
+     * 요청 추적·SQL 예산 필터 안쪽에 두어 캐시 적중도 Server-Timing에 기록되게 한다.
+     */
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilterRegistration(PageCacheFilter pageCacheFilter) {
+        FilterRegistrationBean<PageCacheFilter> registration = new FilterRegistrationBean<>(pageCacheFilter);
+        registration.addUrlPatterns("/", "/board/detail/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.v4.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.v4.global.id.PooledSequenceGenerator;
+
+/**
+ * 엔티티 ID 시퀀스 설정(app.id.*)을 Hibernate 설정으로 전달한다.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer idGeneratorPropertiesCustomizer(
+            @Value("${app.id.allocation-size:50}") int allocationSize,
+            @Value("${app.id.optimizer:pooled-lo}") String optimizer) {
+        return properties -> {
+            properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+            properties.put(PooledSequenceGenerator.OPTIMIZER_SETTING, optimizer);
+        };
+    }
+}
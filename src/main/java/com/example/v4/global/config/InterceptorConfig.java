@@ -4,7 +4,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.example.v4.global.interceptor.InternalApiInterceptor;
 import com.example.v4.global.interceptor.LoginInterceptor;
+import com.example.v4.global.interceptor.TraceViewInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,6 +16,8 @@ import lombok.RequiredArgsConstructor;
  * 등록된 인터셉터:
  * <ul>
  * <li>{@link LoginInterceptor}: 로그인 필요 경로에 대한 인증 체크</li>
+ * <li>{@link InternalApiInterceptor}: 내부 API(/api/internal/**)의 접근 주소 제한</li>
+ * <li>{@link TraceViewInterceptor}: 요청 추적 시 뷰 렌더링 시간 기록</li>
  * </ul>
  */
 @Configuration
@@ -21,12 +25,20 @@ import lombok.RequiredArgsConstructor;
 public class InterceptorConfig implements WebMvcConfigurer {
 
     private final LoginInterceptor loginInterceptor;
+    private final InternalApiInterceptor internalApiInterceptor;
+    private final TraceViewInterceptor traceViewInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loginInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/", "/login-form", "/login", "/join-form", "/join", "/board/detail/**",
-                        "/api/**");
+                        "/api/**", "/images/**", "/error");
+
+        registry.addInterceptor(internalApiInterceptor)
+                .addPathPatterns("/api/internal/**");
+
+        registry.addInterceptor(traceViewInterceptor)
+                .addPathPatterns("/**");
     }
 }
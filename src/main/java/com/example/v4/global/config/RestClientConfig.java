@@ -3,17 +3,32 @@ package com.example.v4.global.config;
 import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import com.example.v4.global.resetclient.LocalDispatchRequestFactory;
+import com.example.v4.global.trace.TraceClientHttpRequestInterceptor;
+
 @Configuration
 public class RestClientConfig {
 
     @Value("${app.rest-client.base-url}")
     private String baseUrl;
 
+    /**
+     * 자기 자신을 향한 호출의 전송 방식
+     * <ul>
+     * <li>local: base-url과 같은 앱의 @ResponseBody 핸들러를 호출 스레드에서 직접 실행 (소켓/직렬화 왕복 없음)</li>
+     * <li>http: 항상 실제 HTTP 요청 (API를 별도 서비스로 분리할 때)</li>
+     * </ul>
+     */
+    @Value("${app.rest-client.transport:local}")
+    private String transport;
+
     @Bean
     public RestClient restClient() {
         return RestClient.builder()
@@ -22,12 +37,17 @@ public class RestClientConfig {
     }
 
     @Bean
-    public RestClient.Builder restClientBuilder() {
+    public RestClient.Builder restClientBuilder(ApplicationContext context) {
         JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory();
         factory.setReadTimeout(Duration.ofSeconds(10));
 
+        ClientHttpRequestFactory requestFactory = "local".equalsIgnoreCase(transport)
+                ? new LocalDispatchRequestFactory(factory, baseUrl, context)
+                : factory;
+
         return RestClient.builder()
                 .baseUrl(baseUrl)
-                .requestFactory(factory);
+                .requestFactory(requestFactory)
+                .requestInterceptor(new TraceClientHttpRequestInterceptor());
     }
 }
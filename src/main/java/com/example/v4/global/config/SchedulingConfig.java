@@ -0,0 +1,12 @@
+package com.example.v4.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화. 응답 시간 히스토그램 구간 롤링과 게시글 댓글 통계 재계산에 사용한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -106,6 +106,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageBody(ex));
     }
 
+    @ExceptionHandler(InvalidReplyRequestException.class)
+    public ResponseEntity<?> handleInvalidReplyRequestException(InvalidReplyRequestException ex,
+            HttpServletRequest request) {
+        if (acceptsHtml(request)) {
+            return redirectWithFlash(request, messageBody(ex));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(messageBody(ex));
+    }
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public Object handleInvalidCredentialsException(InvalidCredentialsException ex,
             HttpServletRequest request) {
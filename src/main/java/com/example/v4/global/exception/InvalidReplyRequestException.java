@@ -0,0 +1,8 @@
+package com.example.v4.global.exception;
+
+public class InvalidReplyRequestException extends RuntimeException {
+
+    public InvalidReplyRequestException(String message) {
+        super(message);
+    }
+}
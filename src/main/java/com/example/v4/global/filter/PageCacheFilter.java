@@ -0,0 +1,122 @@
+package com.example.v4.global.filter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.example.v4.global.cache.PageCache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 비로그인 GET 요청의 렌더링 결과를 {@link PageCache}에서 바로 응답하는 필터.
+ *
+ * <p>
+ * 동작:
+ * <ul>
+ * <li>적용 경로는 {@link com.example.v4.global.config.FilterConfig}에서 등록한다 (목록, 게시글 상세)</li>
+ * <li>세션이 없는 GET 요청만 대상이며, 캐시 키는 요청 URI + 쿼리 문자열</li>
+ * <li>미스면 본문을 버퍼링해 렌더링한 뒤, 200 HTML 응답이고 렌더링 중에도 세션·쿠키가 생기지 않았을 때만 저장</li>
+ * <li>렌더링 때 붙은 검증자·캐시 헤더(ETag, Last-Modified, Cache-Control, Vary)를 함께 저장하고, 적중 시 조건부 GET이면
+ * 본문 없이 304로 응답한다</li>
+ * <li>X-Page-Cache 응답 헤더로 HIT/MISS를 표시한다</li>
+ * </ul>
+ */
+@Component
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Page-Cache";
+
+    /** 저장된 페이지와 함께 다시 붙이는 응답 헤더 */
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+
+    private final PageCache pageCache;
+    private final boolean enabled;
+
+    public PageCacheFilter(PageCache pageCache, @Value("${app.cache.page.enabled:true}") boolean enabled) {
+        this.pageCache = pageCache;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod()) || request.getSession(false) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String query = request.getQueryString();
+        String key = query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+
+        PageCache.Page page = pageCache.get(key, () -> render(request, response, chain));
+        if (page != null) {
+            response.setHeader(CACHE_HEADER, "HIT");
+            page.headers().forEach(response::setHeader);
+            if (new ServletWebRequest(request, response).checkNotModified(page.headers().get(HttpHeaders.ETAG),
+                    lastModified(page))) {
+                return;
+            }
+            response.setContentType(page.contentType());
+            response.setContentLength(page.body().length);
+            response.getOutputStream().write(page.body());
+        }
+    }
+
+    private PageCache.Page render(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        wrapped.setHeader(CACHE_HEADER, "MISS");
+        try {
+            chain.doFilter(request, wrapped);
+            return cacheable(request, wrapped)
+                    ? new PageCache.Page(wrapped.getContentAsByteArray(), wrapped.getContentType(),
+                            replayedHeaders(wrapped), PageCache.tags(request))
+                    : null;
+        } finally {
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    /** 저장된 Last-Modified (ms, 없으면 -1) */
+    private static long lastModified(PageCache.Page page) {
+        String value = page.headers().get(HttpHeaders.LAST_MODIFIED);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.LAST_MODIFIED, value);
+        return headers.getLastModified();
+    }
+
+    private static boolean cacheable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.startsWith("text/html")
+                && request.getSession(false) == null
+                && !response.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.v4.global.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.example.v4.global.trace.RequestTrace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 단위 추적을 시작하고 Server-Timing 응답 헤더를 붙이는 필터.
+ *
+ * <p>
+ * 동작:
+ * <ul>
+ * <li>app.trace.sample-rate 비율의 요청만 추적한다 (나머지는 아무 작업 없이 통과)</li>
+ * <li>추적 요청은 본문을 버퍼링해 렌더링까지 끝난 뒤 헤더를 붙인다</li>
+ * <li>app.trace.exclude-paths(경로 접두사)의 요청은 추적하지 않는다 (sendfile로 보내는 게시글 이미지처럼 본문을 버퍼링하면 안 되는 응답)</li>
+ * <li>app.trace.dump-sample-rate 비율 또는 app.trace.dump-threshold보다 느린 요청은 구간 목록을 로그로 남긴다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final double dumpSampleRate;
+    private final long dumpThresholdNanos;
+    private final List<String> excludePaths;
+
+    public ServerTimingFilter(@Value("${app.trace.enabled:false}") boolean enabled,
+            @Value("${app.trace.sample-rate:1.0}") double sampleRate,
+            @Value("${app.trace.dump-sample-rate:0.0}") double dumpSampleRate,
+            @Value("${app.trace.dump-threshold:1s}") Duration dumpThreshold,
+            @Value("${app.trace.exclude-paths:}") String excludePaths) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.dumpSampleRate = dumpSampleRate;
+        this.dumpThresholdNanos = dumpThreshold.toNanos();
+        this.excludePaths = Arrays.stream(excludePaths.split(","))
+                .map(String::strip)
+                .filter(path -> !path.isEmpty())
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String path : excludePaths) {
+            if (uri.startsWith(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled || !sampled(sampleRate)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        RequestTrace trace = RequestTrace.begin();
+        try {
+            chain.doFilter(request, wrapped);
+        } finally {
+            RequestTrace.end();
+            long total = trace.elapsedNanos();
+            wrapped.setHeader("Server-Timing", trace.serverTiming(total));
+            if (total >= dumpThresholdNanos || sampled(dumpSampleRate)) {
+                log.info("[TRACE] {}", trace.dump(request.getMethod() + " " + request.getRequestURI(), total));
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private static boolean sampled(double rate) {
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
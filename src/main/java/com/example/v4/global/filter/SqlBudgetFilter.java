@@ -0,0 +1,74 @@
+package com.example.v4.global.filter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.v4.global.sql.SqlStatementCounter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 1건에서 실행된 SQL 문 수를 집계해 예산 초과와 N+1 의심 패턴을 경고 로그로 남기는 필터.
+ *
+ * <p>
+ * <ul>
+ * <li>app.sql.budget: 요청당 허용 SQL 문 수 (초과 시 WARN)</li>
+ * <li>app.sql.n-plus-one-threshold: 같은 SQL이 이 횟수 이상 반복되면 N+1 의심으로 WARN</li>
+ * </ul>
+ * 프로세스 내 직접 호출(local transport)로 실행된 내부 API의 SQL도 같은 요청에 합산된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int budget;
+    private final int nPlusOneThreshold;
+
+    public SqlBudgetFilter(@Value("${app.sql.monitor.enabled:true}") boolean enabled,
+            @Value("${app.sql.budget:10}") int budget,
+            @Value("${app.sql.n-plus-one-threshold:3}") int nPlusOneThreshold) {
+        this.enabled = enabled;
+        this.budget = budget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        SqlStatementCounter counter = SqlStatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end();
+            report(request, counter);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter counter) {
+        if (counter.count() > budget) {
+            log.warn("[SQL] {} {} - SQL {}회 실행 (예산 {}회)", request.getMethod(), request.getRequestURI(),
+                    counter.count(), budget);
+        }
+        for (Map.Entry<String, Integer> entry : counter.repeated(nPlusOneThreshold).entrySet()) {
+            log.warn("[SQL] {} {} - N+1 의심: 같은 SQL {}회 반복: {}", request.getMethod(), request.getRequestURI(),
+                    entry.getValue(), entry.getKey());
+        }
+    }
+}
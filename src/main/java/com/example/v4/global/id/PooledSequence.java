@@ -0,0 +1,24 @@
+package com.example.v4.global.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시퀀스 + 풀링 최적화기로 ID를 생성한다 ({@link PooledSequenceGenerator}).
+ *
+ * <p>
+ * IDENTITY와 달리 INSERT 전에 ID를 알 수 있으므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있다.
+ * 할당 크기와 최적화기는 app.id.allocation-size, app.id.optimizer로 설정한다.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface PooledSequence {
+
+    /** 시퀀스 이름 (예: board_tb_seq) */
+    String value();
+}
@@ -0,0 +1,52 @@
+package com.example.v4.global.id;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * {@link PooledSequence}가 붙은 ID의 생성기.
+ *
+ * <p>
+ * 시퀀스 한 번 호출로 allocation-size개의 ID 구간을 받아 메모리에서 나눠 준다.
+ * <ul>
+ * <li>pooled-lo(기본): 시퀀스 값이 구간의 시작 (값 v → v ~ v+size-1). 기존 데이터는 시퀀스를 max(id)+1로 맞추면 된다</li>
+ * <li>pooled: 시퀀스 값이 구간의 끝</li>
+ * </ul>
+ * 설정은 {@link #ALLOCATION_SIZE_SETTING}, {@link #OPTIMIZER_SETTING} Hibernate 설정으로 전달받는다
+ * (IdGeneratorConfig가 app.id.* 값을 넣어 준다). 할당 크기를 바꾸면 DB 시퀀스의 INCREMENT BY도 함께 바꿔야 한다.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ALLOCATION_SIZE_SETTING = "app.id.allocation_size";
+    public static final String OPTIMIZER_SETTING = "app.id.optimizer";
+
+    static final int DEFAULT_ALLOCATION_SIZE = 50;
+    static final String DEFAULT_OPTIMIZER = "pooled-lo";
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequence config, Member member, GeneratorCreationContext context) {
+        this.sequenceName = config.value();
+    }
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        Map<String, Object> settings = creationContext.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings();
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(INCREMENT_PARAM,
+                String.valueOf(settings.getOrDefault(ALLOCATION_SIZE_SETTING, DEFAULT_ALLOCATION_SIZE)));
+        parameters.setProperty(OPT_PARAM, String.valueOf(settings.getOrDefault(OPTIMIZER_SETTING, DEFAULT_OPTIMIZER)));
+        super.configure(creationContext, parameters);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.v4.global.interceptor;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내부 API(/api/internal/**)는 허용한 주소(app.internal-api.allowed-addresses)에서 온 요청만 처리하고,
+ * 그 외에는 403으로 응답한다.
+ * 주소는 연결한 쪽의 주소(request.getRemoteAddr())로 판단하므로, 프록시 뒤에서는
+ * server.forward-headers-strategy로 신뢰할 프록시의 X-Forwarded-For만 반영되게 해야 한다.
+ */
+@Slf4j
+@Component
+public class InternalApiInterceptor implements HandlerInterceptor {
+
+    private final Set<InetAddress> allowedAddresses;
+
+    public InternalApiInterceptor(
+            @Value("${app.internal-api.allowed-addresses:127.0.0.1,0:0:0:0:0:0:0:1}") String allowedAddresses) {
+        this.allowedAddresses = parseAddresses(allowedAddresses);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (isAllowed(request.getRemoteAddr())) {
+            return true;
+        }
+        log.warn("Internal API access denied: {} {}", request.getRemoteAddr(), request.getRequestURI());
+        response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+
+    private boolean isAllowed(String remoteAddr) {
+        if (remoteAddr == null || remoteAddr.isBlank()) {
+            return false;
+        }
+        try {
+            // IP 리터럴만 받으므로 DNS 조회는 일어나지 않는다
+            return allowedAddresses.contains(InetAddress.getByName(remoteAddr));
+        } catch (UnknownHostException ex) {
+            return false;
+        }
+    }
+
+    /** "127.0.0.1, 0:0:0:0:0:0:0:1, 10.0.0.5" 형식 (IP 주소만) */
+    private static Set<InetAddress> parseAddresses(String value) {
+        Set<InetAddress> addresses = new HashSet<>();
+        for (String entry : value.split(",")) {
+            String address = entry.strip();
+            if (address.isEmpty()) {
+                continue;
+            }
+            if (!address.matches("[0-9a-fA-F.:]+")) {
+                throw new IllegalArgumentException("잘못된 app.internal-api.allowed-addresses 항목: " + address);
+            }
+            try {
+                addresses.add(InetAddress.getByName(address));
+            } catch (UnknownHostException ex) {
+                throw new IllegalArgumentException("잘못된 app.internal-api.allowed-addresses 항목: " + address, ex);
+            }
+        }
+        return addresses;
+    }
+}
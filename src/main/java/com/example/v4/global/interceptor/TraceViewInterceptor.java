@@ -0,0 +1,40 @@
+package com.example.v4.global.interceptor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.example.v4.global.trace.RequestTrace;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 뷰(Mustache) 렌더링 시간을 현재 요청의 {@link RequestTrace}에 기록한다.
+ * postHandle(렌더링 직전) ~ afterCompletion(렌더링 완료) 구간을 측정한다.
+ */
+@Component
+public class TraceViewInterceptor implements HandlerInterceptor {
+
+    private static final String VIEW_START = TraceViewInterceptor.class.getName() + ".start";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+            @Nullable ModelAndView modelAndView) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && modelAndView != null) {
+            request.setAttribute(VIEW_START, trace.start(RequestTrace.Category.VIEW));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            @Nullable Exception ex) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && request.getAttribute(VIEW_START) instanceof Long start) {
+            request.removeAttribute(VIEW_START);
+            trace.stop(RequestTrace.Category.VIEW, start, "render");
+        }
+    }
+}
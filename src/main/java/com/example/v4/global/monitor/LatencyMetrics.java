@@ -0,0 +1,125 @@
+package com.example.v4.global.monitor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이름별(컨트롤러/서비스 메서드, 내부 API URI 템플릿) 응답 시간 히스토그램.
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>기록은 HdrHistogram {@link Recorder}에 나노초 단위로 남기며 락 없이 동작 (wait-free)</li>
+ * <li>app.metrics.latency.bucket 주기마다 구간 히스토그램을 잘라 최근 app.metrics.latency.window 동안의
+ * 구간만 유지 (롤링 윈도우)</li>
+ * <li>{@link #snapshot()}은 윈도우 구간을 합쳐 p50/p95/p99/max를 계산 (아직 잘리지 않은 현재 구간은 제외)</li>
+ * </ul>
+ */
+@Component
+public class LatencyMetrics {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Map<String, LatencyTimer> timers = new ConcurrentHashMap<>();
+    private final int windowBuckets;
+
+    public LatencyMetrics(@Value("${app.metrics.latency.window:1m}") Duration window,
+            @Value("${app.metrics.latency.bucket:10s}") Duration bucket) {
+        this.windowBuckets = (int) Math.max(1, window.toMillis() / bucket.toMillis());
+    }
+
+    /**
+     * 이름에 해당하는 타이머를 반환한다 (없으면 생성). 호출 측에서 캐시해 두면 조회 비용을 줄일 수 있다.
+     */
+    public LatencyTimer timer(String name) {
+        LatencyTimer timer = timers.get(name);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(name, key -> new LatencyTimer(windowBuckets));
+        }
+        return timer;
+    }
+
+    /** 경과 시간(나노초)을 기록한다. */
+    public void record(String name, long elapsedNanos) {
+        timer(name).record(elapsedNanos);
+    }
+
+    /** 현재 구간을 잘라 윈도우에 넣고, 가장 오래된 구간을 버린다. */
+    @Scheduled(fixedRateString = "${app.metrics.latency.bucket:10s}",
+            initialDelayString = "${app.metrics.latency.bucket:10s}")
+    public void roll() {
+        timers.values().forEach(LatencyTimer::roll);
+    }
+
+    /**
+     * 롤링 윈도우 기준 통계를 이름순으로 반환한다.
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> result = new ArrayList<>(timers.size());
+        timers.forEach((name, timer) -> result.add(timer.snapshot(name)));
+        result.sort(Comparator.comparing(Snapshot::name));
+        return result;
+    }
+
+    /** 응답 시간 통계 (시간 단위: ms) */
+    public record Snapshot(String name, long count, long totalCount, double meanMs, double p50Ms, double p95Ms,
+            double p99Ms, double maxMs) {
+    }
+
+    /**
+     * 한 이름의 타이머. {@link #record(long)}는 여러 스레드에서 동시에 호출해도 락을 잡지 않는다.
+     */
+    public static final class LatencyTimer {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder totalCount = new LongAdder();
+        private final Histogram[] buckets;
+        private int next;
+
+        LatencyTimer(int windowBuckets) {
+            this.buckets = new Histogram[windowBuckets];
+        }
+
+        public void record(long elapsedNanos) {
+            recorder.recordValue(elapsedNanos);
+            totalCount.increment();
+        }
+
+        synchronized void roll() {
+            Histogram evicted = buckets[next];
+            buckets[next] = evicted == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(evicted);
+            next = (next + 1) % buckets.length;
+        }
+
+        synchronized Snapshot snapshot(String name) {
+            Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+            for (Histogram bucket : buckets) {
+                if (bucket != null) {
+                    merged.add(bucket);
+                }
+            }
+            long count = merged.getTotalCount();
+            return new Snapshot(name, count, totalCount.sum(),
+                    count == 0 ? 0 : toMillis(merged.getMean()),
+                    toMillis(merged.getValueAtPercentile(50)),
+                    toMillis(merged.getValueAtPercentile(95)),
+                    toMillis(merged.getValueAtPercentile(99)),
+                    toMillis(merged.getMaxValue()));
+        }
+
+        private static double toMillis(double nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
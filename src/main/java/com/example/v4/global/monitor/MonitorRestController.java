@@ -0,0 +1,99 @@
+package com.example.v4.global.monitor;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.v4.board.search.BoardSearchIndex;
+import com.example.v4.board.service.BoardContentStore;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardImageStore;
+import com.example.v4.board.search.TitleSuggester;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운영 중 상태 확인용 내부 API.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/internal")
+public class MonitorRestController {
+
+    final WriterCache writerCache;
+    final PageCache pageCache;
+    final BoardDetailCache detailCache;
+    final LatencyMetrics latencyMetrics;
+    final BoardSearchIndex searchIndex;
+    final TitleSuggester titleSuggester;
+    final BoardContentStore contentStore;
+    final BoardImageStore imageStore;
+
+    /**
+     * 작성자 캐시의 크기, 적중률, 축출 건수를 반환한다.
+     */
+    @GetMapping("/cache/writers")
+    public WriterCache.Stats writerCacheStats() {
+        return writerCache.stats();
+    }
+
+    /**
+     * 게시글 상세 캐시의 크기, 적중률, 축출 건수, 평균 로딩 시간을 반환한다.
+     */
+    @GetMapping("/cache/board-details")
+    public BoardDetailCache.Stats boardDetailCacheStats() {
+        return detailCache.stats();
+    }
+
+    /**
+     * 비로그인 페이지 캐시의 크기, 적중·미스·합류 건수, 무효화로 버린 건수를 반환한다.
+     */
+    @GetMapping("/cache/pages")
+    public PageCache.Stats pageCacheStats() {
+        return pageCache.stats();
+    }
+
+    /**
+     * 컨트롤러/서비스 메서드와 내부 API 호출의 최근 응답 시간 분포(p50/p95/p99/max, ms)를 반환한다.
+     */
+    @GetMapping("/latency")
+    public List<LatencyMetrics.Snapshot> latency() {
+        return latencyMetrics.snapshot();
+    }
+
+    /**
+     * 게시글 검색 색인의 문서 수, n-gram 수, 포스팅 항목 수와 압축 데이터 크기를 반환한다.
+     */
+    @GetMapping("/search-index")
+    public BoardSearchIndex.Stats searchIndexStats() {
+        return searchIndex.stats();
+    }
+
+    /**
+     * 제목 자동완성 trie의 게시글 수, 키 수, 노드 수를 반환한다.
+     */
+    @GetMapping("/title-suggester")
+    public TitleSuggester.Stats titleSuggesterStats() {
+        return titleSuggester.stats();
+    }
+
+    /**
+     * 게시글 본문 저장소의 본문 수, 압축 저장 수, 원문·저장 바이트와 압축률을 반환한다 (읽기 시간은 /latency).
+     */
+    @GetMapping("/board-contents")
+    public BoardContentStore.Stats boardContentStats() {
+        return contentStore.stats();
+    }
+
+    /**
+     * 게시글 이미지 저장소에서 본문으로부터 꺼낸 이미지 수, 새로 쓴 파일 수·바이트, 중복이라 쓰지 않은 수를 반환한다.
+     */
+    @GetMapping("/board-images")
+    public BoardImageStore.Stats boardImageStats() {
+        return imageStore.stats();
+    }
+}
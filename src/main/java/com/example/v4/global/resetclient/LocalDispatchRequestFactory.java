@@ -0,0 +1,681 @@
+package com.example.v4.global.resetclient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.boot.webmvc.error.ErrorAttributes;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.Conventions;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.RequestPath;
+import org.springframework.util.StreamUtils;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.bind.support.WebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerExceptionResolverComposite;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 애플리케이션을 향한 RestClient 호출을 소켓 없이 프로세스 내에서 처리하는 요청 팩토리.
+ *
+ * <p>
+ * 동작:
+ * <ul>
+ * <li>요청 URI의 scheme/host/port가 app.rest-client.base-url과 같으면, 요청을 실행하는 시점(헤더·본문 확정 후)에
+ * MVC(RequestMappingInfoHandlerMapping)와 같은 방식으로 핸들러를 고른다: 경로·메서드·params·headers·consumes·produces
+ * 조건이 모두 맞는 매핑 중 가장 구체적인 것</li>
+ * <li>고른 핸들러가 @ResponseBody이고 지원하는 파라미터만 쓰면 현재 스레드에서 직접 호출한다
+ * (Tomcat 워커, 필터·인터셉터 체인, 소켓 생략)</li>
+ * <li>그 외 요청(다른 노드, 매핑 없음·모호함, 지원하지 않는 파라미터, JSON이 아닌 produces, 폼 본문, HEAD/OPTIONS)은
+ * 원래의 HTTP 팩토리로 위임한다</li>
+ * </ul>
+ *
+ * <p>
+ * 응답은 MVC와 같은 메시지 컨버터로 직렬화하고 HTTP 상태 코드를 그대로 돌려주므로
+ * {@link RestClients}의 본문 변환과 statusHandler(4xx/5xx 예외 변환) 동작은 HTTP 전송과 동일하다.
+ * 핸들러가 던진 예외와 인자 바인딩·검증 실패도 HTTP 전송과 같은 순서로 처리한다.
+ * <ul>
+ * <li>바인딩·검증 실패는 MVC와 같은 예외(MissingServletRequestParameterException, MethodArgumentTypeMismatchException,
+ * HttpMessageNotReadableException, @Valid/@Validated 본문의 MethodArgumentNotValidException 등)로 던진다</li>
+ * <li>컨트롤러와 @ControllerAdvice의 @ExceptionHandler (MVC의 ExceptionHandlerExceptionResolver와 같은 메서드, 같은 인자 리졸버)</li>
+ * <li>처리되지 않으면 ErrorResponse / @ResponseStatus / 바인딩 실패(400)의 상태 코드, 그 외는 500</li>
+ * <li>처리되지 않은 오류의 본문은 Boot 오류 응답과 같은 {@link ErrorAttributes}</li>
+ * </ul>
+ * 지원하는 핸들러 파라미터: @RequestParam, @PathVariable, @RequestBody
+ */
+@Slf4j
+public class LocalDispatchRequestFactory implements ClientHttpRequestFactory {
+
+    /** 로컬 호출하는 HTTP 메서드 (HEAD/OPTIONS/TRACE는 MVC의 별도 처리가 있으므로 HTTP로 위임) */
+    private static final Set<HttpMethod> LOCAL_METHODS = Set.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT,
+            HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final ClientHttpRequestFactory remote;
+    private final URI baseUri;
+    private final ApplicationContext context;
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+    private final Map<Class<?>, ExceptionHandlerMethodResolver> controllerExceptionHandlers = new ConcurrentHashMap<>();
+
+    private volatile List<LocalRoute> routes;
+    private volatile RequestMappingHandlerAdapter adapter;
+    private volatile ExceptionHandlerExceptionResolver exceptionResolver;
+
+    public LocalDispatchRequestFactory(ClientHttpRequestFactory remote, String baseUrl, ApplicationContext context) {
+        this.remote = remote;
+        this.baseUri = URI.create(baseUrl);
+        this.context = context;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        if (isSameApplication(uri) && LOCAL_METHODS.contains(httpMethod)) {
+            // 헤더(consumes/produces/headers 조건)와 본문이 정해진 뒤 실행 시점에 핸들러를 고른다
+            return new LocalRequest(uri, httpMethod);
+        }
+        return remote.createRequest(uri, httpMethod);
+    }
+
+    private boolean isSameApplication(URI uri) {
+        return Objects.equals(baseUri.getScheme(), uri.getScheme())
+                && Objects.equals(baseUri.getHost(), uri.getHost())
+                && baseUri.getPort() == uri.getPort();
+    }
+
+    /**
+     * 핸들러 매핑은 컨텍스트 초기화 이후에 완성되므로 첫 호출 시점에 지연 수집한다.
+     * 로컬 호출할 수 없는 핸들러도 포함해야 MVC와 같은 매핑을 고를 수 있다.
+     */
+    private List<LocalRoute> routes() {
+        List<LocalRoute> result = routes;
+        if (result == null) {
+            RequestMappingHandlerMapping mapping = context.getBean("requestMappingHandlerMapping",
+                    RequestMappingHandlerMapping.class);
+            result = new ArrayList<>();
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+                if (entry.getKey().getPathPatternsCondition() != null) {
+                    result.add(new LocalRoute(entry.getKey(), entry.getValue(), isLocallyInvocable(entry.getValue())));
+                }
+            }
+            routes = result;
+            log.info("Local dispatch routes: {} ({} invocable)", result.size(),
+                    result.stream().filter(LocalRoute::invocable).count());
+        }
+        return result;
+    }
+
+    /** MVC의 메시지 컨버터와 바인더 초기화(검증기)를 가진 어댑터 */
+    private RequestMappingHandlerAdapter adapter() {
+        RequestMappingHandlerAdapter result = adapter;
+        if (result == null) {
+            result = context.getBean(RequestMappingHandlerAdapter.class);
+            adapter = result;
+        }
+        return result;
+    }
+
+    /** MVC가 @ExceptionHandler 메서드를 찾고 호출할 때 쓰는 리졸버 (advice 목록과 인자 리졸버) */
+    private ExceptionHandlerExceptionResolver exceptionResolver() {
+        ExceptionHandlerExceptionResolver result = exceptionResolver;
+        if (result == null) {
+            HandlerExceptionResolverComposite composite = context.getBean("handlerExceptionResolver",
+                    HandlerExceptionResolverComposite.class);
+            result = composite.getExceptionResolvers().stream()
+                    .filter(ExceptionHandlerExceptionResolver.class::isInstance)
+                    .map(ExceptionHandlerExceptionResolver.class::cast)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("ExceptionHandlerExceptionResolver not found"));
+            exceptionResolver = result;
+        }
+        return result;
+    }
+
+    private static boolean isLocallyInvocable(HandlerMethod handlerMethod) {
+        boolean responseBody = AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class)
+                || handlerMethod.hasMethodAnnotation(ResponseBody.class);
+        if (!responseBody) {
+            return false;
+        }
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            if (!parameter.hasParameterAnnotation(RequestParam.class)
+                    && !parameter.hasParameterAnnotation(PathVariable.class)
+                    && !parameter.hasParameterAnnotation(RequestBody.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 등록된 핸들러 매핑 (매핑 조건 + 로컬 호출 가능 여부) */
+    private record LocalRoute(RequestMappingInfo info, HandlerMethod handlerMethod, boolean invocable) {
+    }
+
+    /** 요청에 맞춰 좁혀진 매핑 조건 (정렬·URI 변수 추출에 사용) */
+    private record Match(RequestMappingInfo condition, LocalRoute route) {
+    }
+
+    private class LocalRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        LocalRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            Map<String, List<String>> query = queryParams();
+            HttpServletRequest request = servletRequest(headers, query);
+            Match match = lookup(request, headers);
+            if (match == null) {
+                return forward(headers);
+            }
+            HandlerMethod handlerMethod = match.route().handlerMethod();
+            PathPattern pattern = match.condition().getPathPatternsCondition().getFirstPattern();
+            Map<String, String> uriVariables = pattern
+                    .matchAndExtract(ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication())
+                    .getUriVariables();
+
+            Object result;
+            try {
+                Object[] args = resolveArguments(handlerMethod, uriVariables, query, headers);
+                HandlerMethod resolved = handlerMethod.createWithResolvedBean();
+                Method method = BridgeMethodResolver.findBridgedMethod(resolved.getMethod());
+                result = method.invoke(resolved.getBean(), args);
+            } catch (InvocationTargetException ex) {
+                return handleException(ex.getTargetException(), handlerMethod, request);
+            } catch (Exception ex) {
+                // 인자 바인딩·검증 실패도 MVC와 같이 예외 핸들러를 거친다
+                return handleException(ex, handlerMethod, request);
+            }
+            return toResponse(result, handlerMethod);
+        }
+
+        /**
+         * RequestMappingInfoHandlerMapping과 같이 조건이 맞는 매핑을 구체적인 순서로 정렬해 첫 번째를 고른다.
+         * 가장 구체적인 매핑이 둘 이상(모호함)이거나 로컬 호출할 수 없으면 null을 돌려 HTTP로 위임한다.
+         */
+        private Match lookup(HttpServletRequest request, HttpHeaders headers) {
+            if (isFormBody(headers.getContentType())) {
+                // 폼 본문의 @RequestParam 값은 로컬 호출에서 읽지 않는다
+                return null;
+            }
+            request.setAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE, RequestPath.parse(uri.getRawPath(), null));
+            List<Match> matches = new ArrayList<>();
+            for (LocalRoute route : routes()) {
+                RequestMappingInfo condition = route.info().getMatchingCondition(request);
+                if (condition != null) {
+                    matches.add(new Match(condition, route));
+                }
+            }
+            if (matches.isEmpty()) {
+                return null;
+            }
+            Comparator<Match> comparator = (a, b) -> a.condition().compareTo(b.condition(), request);
+            matches.sort(comparator);
+            Match best = matches.get(0);
+            if (matches.size() > 1 && comparator.compare(best, matches.get(1)) == 0) {
+                log.debug("Local dispatch ambiguous for {} {}: {}, {}", method, uri, best.route().handlerMethod(),
+                        matches.get(1).route().handlerMethod());
+                return null;
+            }
+            // 로컬 응답은 JSON으로만 쓴다
+            boolean producesJson = best.condition().getProducesCondition().getProducibleMediaTypes().stream()
+                    .allMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
+            return best.route().invocable() && producesJson ? best : null;
+        }
+
+        private static boolean isFormBody(MediaType contentType) {
+            return contentType != null && (MediaType.APPLICATION_FORM_URLENCODED.includes(contentType)
+                    || MediaType.MULTIPART_FORM_DATA.includes(contentType));
+        }
+
+        /** 로컬 호출할 수 없는 요청은 헤더와 본문을 그대로 HTTP 팩토리로 보낸다 */
+        private ClientHttpResponse forward(HttpHeaders headers) throws IOException {
+            ClientHttpRequest request = remote.createRequest(uri, method);
+            request.getHeaders().putAll(headers);
+            if (body.size() > 0) {
+                StreamUtils.copy(body.toByteArray(), request.getBody());
+            }
+            return request.execute();
+        }
+
+        private LocalResponse toResponse(Object result, HandlerMethod handler) throws IOException {
+            if (result instanceof ResponseEntity<?> entity) {
+                LocalResponse response = write(entity.getStatusCode(), entity.getBody());
+                response.getHeaders().addAll(entity.getHeaders());
+                return response;
+            }
+            if (result instanceof ModelAndView) {
+                throw new IOException("View result cannot be dispatched locally: " + handler);
+            }
+            ResponseStatus responseStatus = handler.getMethodAnnotation(ResponseStatus.class);
+            return write(responseStatus != null ? responseStatus.code() : HttpStatus.OK, result);
+        }
+
+        /**
+         * 핸들러가 던진 예외를 MVC와 같이 처리한다: 컨트롤러 → @ControllerAdvice의 @ExceptionHandler,
+         * 없으면(또는 예외 핸들러가 실패하면) 상태 코드만 정해 Boot 오류 응답 본문으로.
+         */
+        private LocalResponse handleException(Throwable thrown, HandlerMethod handlerMethod,
+                HttpServletRequest request) throws IOException {
+            if (thrown instanceof Exception ex) {
+                ServletInvocableHandlerMethod exceptionHandler = exceptionHandlerMethod(ex, handlerMethod);
+                if (exceptionHandler != null) {
+                    try {
+                        Object result = exceptionHandler.invokeForRequest(new ServletWebRequest(request),
+                                new ModelAndViewContainer(), exceptionHandlerArgs(ex, handlerMethod));
+                        return toResponse(result, exceptionHandler);
+                    } catch (Exception handlerEx) {
+                        log.warn("Local dispatch exception handler failed: {}", exceptionHandler, handlerEx);
+                    }
+                }
+            }
+            return errorAttributes(statusOf(thrown), thrown, request);
+        }
+
+        private ServletInvocableHandlerMethod exceptionHandlerMethod(Exception ex, HandlerMethod handlerMethod) {
+            Class<?> handlerType = handlerMethod.getBeanType();
+            Object bean = null;
+            Method method = controllerExceptionHandlers
+                    .computeIfAbsent(handlerType, ExceptionHandlerMethodResolver::new)
+                    .resolveMethodByThrowable(ex);
+            if (method != null) {
+                bean = handlerMethod.createWithResolvedBean().getBean();
+            } else {
+                for (Map.Entry<ControllerAdviceBean, ExceptionHandlerMethodResolver> entry : exceptionResolver()
+                        .getExceptionHandlerAdviceCache().entrySet()) {
+                    if (entry.getKey().isApplicableToBeanType(handlerType)) {
+                        method = entry.getValue().resolveMethodByThrowable(ex);
+                        if (method != null) {
+                            bean = entry.getKey().resolveBean();
+                            break;
+                        }
+                    }
+                }
+            }
+            if (method == null) {
+                return null;
+            }
+            ServletInvocableHandlerMethod invocable = new ServletInvocableHandlerMethod(bean, method);
+            invocable.setHandlerMethodArgumentResolvers(exceptionResolver().getArgumentResolvers());
+            return invocable;
+        }
+
+        /** MVC와 같이 예외와 원인 예외들, 핸들러 메서드를 예외 핸들러 인자 후보로 넘긴다 */
+        private Object[] exceptionHandlerArgs(Exception ex, HandlerMethod handlerMethod) {
+            List<Object> args = new ArrayList<>();
+            for (Throwable current = ex; current != null; current = current.getCause() != current ? current.getCause()
+                    : null) {
+                args.add(current);
+            }
+            args.add(handlerMethod);
+            return args.toArray();
+        }
+
+        private Object[] resolveArguments(HandlerMethod handlerMethod, Map<String, String> uriVariables,
+                Map<String, List<String>> query, HttpHeaders headers) throws Exception {
+            MethodParameter[] parameters = handlerMethod.getMethodParameters();
+            Object[] args = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                MethodParameter parameter = parameters[i];
+                parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+
+                RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+                PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+                if (requestParam != null) {
+                    String name = nameOf(requestParam.name(), requestParam.value(), parameter);
+                    List<String> values = query.get(name);
+                    if ((values == null || values.isEmpty())
+                            && !ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())) {
+                        values = List.of(requestParam.defaultValue());
+                    }
+                    if (values == null || values.isEmpty()) {
+                        if (requestParam.required() && !parameter.isOptional()) {
+                            throw new MissingServletRequestParameterException(name,
+                                    parameter.getNestedParameterType().getSimpleName());
+                        }
+                        continue;
+                    }
+                    Object source = values.size() == 1 ? values.get(0) : values.toArray(new String[0]);
+                    args[i] = convert(source, name, parameter);
+                } else if (pathVariable != null) {
+                    String name = nameOf(pathVariable.name(), pathVariable.value(), parameter);
+                    String value = uriVariables.get(name);
+                    if (value == null && pathVariable.required()) {
+                        throw new MissingPathVariableException(name, parameter);
+                    }
+                    args[i] = convert(value, name, parameter);
+                } else {
+                    args[i] = readBody(parameter, headers);
+                }
+            }
+            return args;
+        }
+
+        /** MVC의 WebDataBinder와 같이 형 변환 실패를 MethodArgumentTypeMismatchException(400)으로 바꾼다 */
+        private Object convert(Object source, String name, MethodParameter parameter) {
+            try {
+                return conversionService.convert(source, TypeDescriptor.forObject(source),
+                        new TypeDescriptor(parameter));
+            } catch (ConversionException ex) {
+                throw new MethodArgumentTypeMismatchException(source, parameter.getParameterType(), name, parameter,
+                        ex.getCause());
+            }
+        }
+
+        private String nameOf(String name, String value, MethodParameter parameter) {
+            if (!name.isEmpty()) {
+                return name;
+            }
+            return !value.isEmpty() ? value : parameter.getParameterName();
+        }
+
+        private Map<String, List<String>> queryParams() {
+            Map<String, List<String>> result = new LinkedHashMap<>();
+            UriComponentsBuilder.fromUri(uri).build().getQueryParams().forEach((key, values) -> {
+                List<String> decoded = new ArrayList<>(values.size());
+                for (String value : values) {
+                    decoded.add(value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : "");
+                }
+                result.put(UriUtils.decode(key, StandardCharsets.UTF_8), decoded);
+            });
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readBody(MethodParameter parameter, HttpHeaders headers) throws Exception {
+            byte[] bytes = body.toByteArray();
+            HttpInputMessage input = new HttpInputMessage() {
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(bytes);
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            };
+            if (bytes.length == 0) {
+                RequestBody requestBody = parameter.getParameterAnnotation(RequestBody.class);
+                if (requestBody != null && requestBody.required()) {
+                    throw new HttpMessageNotReadableException(
+                            "Required request body is missing: " + parameter.getExecutable().toGenericString(), input);
+                }
+                return null;
+            }
+            // MVC와 같이 Content-Type이 없으면 application/octet-stream으로 본다
+            MediaType contentType = headers.getContentType() != null ? headers.getContentType()
+                    : MediaType.APPLICATION_OCTET_STREAM;
+            Class<?> type = parameter.getParameterType();
+            for (HttpMessageConverter<?> converter : adapter().getMessageConverters()) {
+                if (converter.canRead(type, contentType)) {
+                    Object arg = ((HttpMessageConverter<Object>) converter).read((Class<Object>) type, input);
+                    validateIfApplicable(parameter, arg);
+                    return arg;
+                }
+            }
+            throw new HttpMediaTypeNotSupportedException(contentType, List.of(), method);
+        }
+
+        /**
+         * RequestResponseBodyMethodProcessor와 같이 @Valid/@Validated 본문을 MVC의 검증기로 검사하고,
+         * 실패하면 MethodArgumentNotValidException을 던진다.
+         */
+        private void validateIfApplicable(MethodParameter parameter, Object arg) throws MethodArgumentNotValidException {
+            for (Annotation annotation : parameter.getParameterAnnotations()) {
+                Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+                if (hints != null) {
+                    WebDataBinder binder = new WebDataBinder(arg, Conventions.getVariableNameForParameter(parameter));
+                    WebBindingInitializer initializer = adapter().getWebBindingInitializer();
+                    if (initializer != null) {
+                        initializer.initBinder(binder);
+                    }
+                    binder.validate(hints);
+                    if (binder.getBindingResult().hasErrors()) {
+                        throw new MethodArgumentNotValidException(parameter, binder.getBindingResult());
+                    }
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private LocalResponse write(HttpStatusCode status, Object value) throws IOException {
+            LocalResponse response = new LocalResponse(status);
+            if (value == null) {
+                return response;
+            }
+            for (HttpMessageConverter<?> converter : adapter().getMessageConverters()) {
+                if (converter.canWrite(value.getClass(), MediaType.APPLICATION_JSON)) {
+                    ((HttpMessageConverter<Object>) converter).write(value, MediaType.APPLICATION_JSON,
+                            response.output());
+                    return response;
+                }
+            }
+            throw new IOException("No converter for local response type: " + value.getClass().getName());
+        }
+
+        /** Boot의 /error(BasicErrorController)가 JSON 요청에 돌려주는 것과 같은 오류 응답 */
+        private LocalResponse errorAttributes(HttpStatusCode status, Throwable ex, HttpServletRequest request)
+                throws IOException {
+            log.debug("Local dispatch {} {} -> {} ({})", method, uri, status, ex.toString());
+            ErrorAttributes errorAttributes = context.getBeanProvider(ErrorAttributes.class).getIfAvailable();
+            if (errorAttributes == null) {
+                return new LocalResponse(status);
+            }
+            request.setAttribute(RequestDispatcher.ERROR_STATUS_CODE, status.value());
+            request.setAttribute(RequestDispatcher.ERROR_REQUEST_URI, uri.getRawPath());
+            request.setAttribute(RequestDispatcher.ERROR_EXCEPTION, ex);
+            return write(status, errorAttributes.getErrorAttributes(new ServletWebRequest(request),
+                    ErrorAttributeOptions.defaults()));
+        }
+
+        /**
+         * 매핑 조건 평가, 예외 핸들러, ErrorAttributes에 넘길 요청 (로컬 호출의 메서드, URI, 쿼리 파라미터, 헤더,
+         * 본문 길이, 요청 속성만 제공). 외부 요청을 처리하던 중이라도 그 요청이 아니라 이 호출 자체를 기준으로 처리해야 하므로 새로 만든다.
+         */
+        private HttpServletRequest servletRequest(HttpHeaders headers, Map<String, List<String>> query) {
+            Map<String, Object> attributes = new HashMap<>();
+            MediaType contentType = headers.getContentType();
+            return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                    new Class<?>[] { HttpServletRequest.class }, (proxy, invoked, args) -> switch (invoked.getName()) {
+                        case "getMethod" -> method.name();
+                        case "getRequestURI" -> uri.getRawPath();
+                        case "getQueryString" -> uri.getRawQuery();
+                        case "getContextPath", "getServletPath" -> "";
+                        case "getDispatcherType" -> DispatcherType.REQUEST;
+                        case "getHeader" -> headers.getFirst((String) args[0]);
+                        case "getHeaders" -> Collections.enumeration(headers.getOrEmpty((String) args[0]));
+                        case "getHeaderNames" -> Collections.enumeration(headers.headerNames());
+                        case "getContentType" -> contentType != null ? contentType.toString() : null;
+                        case "getCharacterEncoding" -> contentType != null && contentType.getCharset() != null
+                                ? contentType.getCharset().name()
+                                : null;
+                        case "getContentLength" -> body.size();
+                        case "getContentLengthLong" -> (long) body.size();
+                        case "getParameter" -> query.containsKey((String) args[0]) && !query.get(args[0]).isEmpty()
+                                ? query.get(args[0]).get(0)
+                                : null;
+                        case "getParameterValues" -> query.containsKey((String) args[0])
+                                ? query.get(args[0]).toArray(new String[0])
+                                : null;
+                        case "getParameterNames" -> Collections.enumeration(query.keySet());
+                        case "getParameterMap" -> parameterMap(query);
+                        case "getAttribute" -> attributes.get((String) args[0]);
+                        case "getAttributeNames" -> Collections.enumeration(attributes.keySet());
+                        case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                        case "removeAttribute" -> attributes.remove((String) args[0]);
+                        case "toString" -> "LocalRequest " + method + " " + uri;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> throw new UnsupportedOperationException(
+                                "Not available in local dispatch: HttpServletRequest." + invoked.getName());
+                    });
+        }
+    }
+
+    private static Map<String, String[]> parameterMap(Map<String, List<String>> query) {
+        Map<String, String[]> result = new LinkedHashMap<>();
+        query.forEach((name, values) -> result.put(name, values.toArray(new String[0])));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static HttpStatusCode statusOf(Throwable ex) {
+        if (ex instanceof ErrorResponse errorResponse) {
+            return errorResponse.getStatusCode();
+        }
+        if (ex instanceof TypeMismatchException || ex instanceof HttpMessageNotReadableException) {
+            // DefaultHandlerExceptionResolver와 같이 형 변환·본문 읽기 실패는 400
+            return HttpStatus.BAD_REQUEST;
+        }
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        if (responseStatus != null) {
+            return responseStatus.code();
+        }
+        // 그 외 처리되지 않은 예외는 HTTP 전송과 동일하게 500
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /** 메모리 버퍼 기반 응답 */
+    private static class LocalResponse implements ClientHttpResponse {
+
+        private final HttpStatusCode status;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        LocalResponse(HttpStatusCode status) {
+            this.status = status;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public String getStatusText() {
+            return status instanceof HttpStatus httpStatus ? httpStatus.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body.toByteArray());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /** 메시지 컨버터가 응답 본문을 쓰는 출력 대상 */
+        HttpOutputMessage output() {
+            return new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            };
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.v4.global.resetclient;
 
+import java.util.function.Supplier;
+
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -7,6 +9,7 @@ import org.springframework.web.client.RestClient;
 
 import com.example.v4.global.exception.RestClientErrorException;
 import com.example.v4.global.exception.RestServerErrorException;
+import com.example.v4.global.monitor.LatencyMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,12 +18,15 @@ import lombok.extern.slf4j.Slf4j;
 public class RestClients {
 
     private final RestClient restClient;
+    private final LatencyMetrics metrics;
 
     /**
      * 생성자를 통해 RestClient를 주입받으며, 기본적으로 공통 에러 핸들러를 등록합니다.
      * Bean 등록 시 설정을 따르되, 여기서 공통 statusHandler를 강제할 수 있습니다.
+     * 모든 호출의 응답 시간은 "RestClients {METHOD} {URI 템플릿}" 이름으로 {@link LatencyMetrics}에 기록합니다.
      */
-    public RestClients(RestClient.Builder restClientBuilder) {
+    public RestClients(RestClient.Builder restClientBuilder, LatencyMetrics metrics) {
+        this.metrics = metrics;
         this.restClient = restClientBuilder
                 .defaultStatusHandler(HttpStatusCode::isError, (request, response) -> {
                     HttpStatusCode status = response.getStatusCode();
@@ -47,10 +53,10 @@ public class RestClients {
      * </pre>
      */
     public <T> T get(String uri, Class<T> responseType, Object... uriVariables) {
-        return restClient.get()
+        return timed("GET", uri, () -> restClient.get()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .body(responseType);
+                .body(responseType));
     }
 
     /**
@@ -61,10 +67,10 @@ public class RestClients {
      * </pre>
      */
     public void getBodiless(String uri, Object... uriVariables) {
-        restClient.get()
+        timed("GET", uri, () -> restClient.get()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     // ---- POST Methods ----
@@ -77,10 +83,10 @@ public class RestClients {
      * </pre>
      */
     public void post(String uri, Object... uriVariables) {
-        restClient.post()
+        timed("POST", uri, () -> restClient.post()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     /**
@@ -91,12 +97,12 @@ public class RestClients {
      * </pre>
      */
     public void post(String uri, Object body, Object... uriVariables) {
-        restClient.post()
+        timed("POST", uri, () -> restClient.post()
                 .uri(uri, uriVariables)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     /**
@@ -108,12 +114,12 @@ public class RestClients {
      * </pre>
      */
     public <T> T post(String uri, Object body, Class<T> responseType, Object... uriVariables) {
-        return restClient.post()
+        return timed("POST", uri, () -> restClient.post()
                 .uri(uri, uriVariables)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body)
                 .retrieve()
-                .body(responseType);
+                .body(responseType));
     }
 
     // ---- PUT Methods ----
@@ -126,10 +132,10 @@ public class RestClients {
      * </pre>
      */
     public void put(String uri, Object... uriVariables) {
-        restClient.put()
+        timed("PUT", uri, () -> restClient.put()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     /**
@@ -140,12 +146,12 @@ public class RestClients {
      * </pre>
      */
     public void put(String uri, Object body, Object... uriVariables) {
-        restClient.put()
+        timed("PUT", uri, () -> restClient.put()
                 .uri(uri, uriVariables)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     /**
@@ -157,12 +163,12 @@ public class RestClients {
      * </pre>
      */
     public <T> T put(String uri, Object body, Class<T> responseType, Object... uriVariables) {
-        return restClient.put()
+        return timed("PUT", uri, () -> restClient.put()
                 .uri(uri, uriVariables)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(body)
                 .retrieve()
-                .body(responseType);
+                .body(responseType));
     }
 
     // ---- DELETE Methods ----
@@ -175,10 +181,10 @@ public class RestClients {
      * </pre>
      */
     public void delete(String uri, Object... uriVariables) {
-        restClient.delete()
+        timed("DELETE", uri, () -> restClient.delete()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .toBodilessEntity();
+                .toBodilessEntity());
     }
 
     /**
@@ -190,9 +196,19 @@ public class RestClients {
      * </pre>
      */
     public <T> T delete(String uri, Class<T> responseType, Object... uriVariables) {
-        return restClient.delete()
+        return timed("DELETE", uri, () -> restClient.delete()
                 .uri(uri, uriVariables)
                 .retrieve()
-                .body(responseType);
+                .body(responseType));
+    }
+
+    /** 호출 시간을 URI 템플릿 기준으로 기록한다 (변수 치환 전 문자열이므로 ID별로 흩어지지 않음). */
+    private <T> T timed(String method, String uri, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            metrics.record("RestClients " + method + " " + uri, System.nanoTime() - start);
+        }
     }
 }
@@ -0,0 +1,24 @@
+package com.example.v4.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL을 현재 스레드의 {@link SqlStatementCounter}에 기록한다. SQL은 바꾸지 않는다.
+ *
+ * <p>
+ * hibernate.session_factory.statement_inspector 설정으로 등록하며 세션 팩토리 전체에서 하나의
+ * 인스턴스를 공유한다 (상태 없음).
+ */
+public class SqlCountingInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if (counter != null) {
+            counter.record(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.v4.global.sql;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드(HTTP 요청 또는 테스트)에서 실행된 SQL 문 수를 센다.
+ *
+ * <p>
+ * {@link SqlCountingInspector}가 Hibernate가 준비하는 모든 SQL을 전달한다. 바인딩 전 SQL(? 자리표시자)을
+ * 기준으로 세므로, 같은 SQL이 여러 번 실행되었다면 바인딩 값만 바꿔 반복 조회한 것(N+1 의심)이다.
+ * 범위가 열려 있지 않으면 {@link #current()}는 null이며 집계하지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int count;
+
+    private SqlStatementCounter() {
+    }
+
+    /** 현재 스레드에서 집계를 시작한다. */
+    public static SqlStatementCounter begin() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /** 현재 스레드의 집계 (범위 밖이면 null) */
+    public static SqlStatementCounter current() {
+        return CURRENT.get();
+    }
+
+    /** 현재 스레드의 집계를 끝낸다. */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql) {
+        count++;
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    /** 지금까지 실행된 SQL 문 수 */
+    public int count() {
+        return count;
+    }
+
+    /** SQL별 실행 횟수 (각 SQL이 처음 실행된 순서) */
+    public Map<String, Integer> statements() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(statements));
+    }
+
+    /**
+     * 같은 SQL이 threshold회 이상 실행된 목록 (N+1 의심).
+     *
+     * @return SQL → 실행 횟수
+     */
+    public Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        statements.forEach((sql, times) -> {
+            if (times >= threshold) {
+                result.put(sql, times);
+            }
+        });
+        return result;
+    }
+
+    /** 집계를 0으로 되돌린다 (테스트에서 준비 단계 SQL을 제외할 때 사용). */
+    public void reset() {
+        count = 0;
+        statements.clear();
+    }
+}
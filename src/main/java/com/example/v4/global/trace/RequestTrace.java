@@ -0,0 +1,147 @@
+package com.example.v4.global.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 1건의 구간(span) 기록기. 요청 스레드의 ThreadLocal에 보관한다.
+ *
+ * <p>
+ * 분류별로 가장 바깥 구간의 시간만 합산하므로(같은 분류의 중첩 호출은 중복 합산하지 않음)
+ * Server-Timing 헤더의 각 항목은 해당 계층에서 보낸 실제 시간이다.
+ * 추적이 꺼져 있으면 {@link #current()}가 null이며, 호출 측은 null 확인만 하고 지나간다.
+ */
+public final class RequestTrace {
+
+    /** Server-Timing 항목 (헤더 이름, 설명) */
+    public enum Category {
+        CTRL("ctrl", "Controller"),
+        SVC("svc", "Service"),
+        REPO("repo", "Repository"),
+        DB("db", "JDBC"),
+        REST("rest", "RestClients"),
+        VIEW("view", "View");
+
+        private final String metric;
+        private final String description;
+
+        Category(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    /** 덤프용으로 보관하는 최대 구간 수 */
+    private static final int MAX_SPANS = 256;
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] totals = new long[Category.values().length];
+    private final int[] counts = new int[Category.values().length];
+    private final int[] depths = new int[Category.values().length];
+    private final List<Span> spans = new ArrayList<>();
+    private int openSpans;
+    private int droppedSpans;
+
+    private RequestTrace() {
+    }
+
+    /** 현재 스레드의 추적 (추적 중이 아니면 null) */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /** 현재 스레드에서 추적을 시작한다 ({@link com.example.v4.global.filter.ServerTimingFilter}). */
+    public static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /** 현재 스레드의 추적을 해제한다. */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 구간을 시작한다.
+     *
+     * @return 시작 시각 (나노초, {@link #stop}에 그대로 전달)
+     */
+    public long start(Category category) {
+        depths[category.ordinal()]++;
+        openSpans++;
+        return System.nanoTime();
+    }
+
+    /**
+     * 구간을 끝낸다.
+     *
+     * @param name 덤프에 표시할 이름 (예: "BoardService#boardDto")
+     */
+    public void stop(Category category, long spanStartNanos, String name) {
+        long elapsed = System.nanoTime() - spanStartNanos;
+        int i = category.ordinal();
+        if (--depths[i] == 0) {
+            totals[i] += elapsed;
+        }
+        counts[i]++;
+        openSpans--;
+        if (spans.size() < MAX_SPANS) {
+            spans.add(new Span(category, name, spanStartNanos - startNanos, elapsed, openSpans));
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    /** 추적 시작 후 경과 시간 (나노초) */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값.
+     * 예: {@code ctrl;desc="Controller";dur=12.3, db;desc="JDBC x3";dur=4.1, total;dur=15.0}
+     */
+    public String serverTiming(long totalNanos) {
+        StringBuilder sb = new StringBuilder(160);
+        for (Category category : Category.values()) {
+            int i = category.ordinal();
+            if (counts[i] == 0) {
+                continue;
+            }
+            sb.append(category.metric).append(";desc=\"").append(category.description);
+            if (counts[i] > 1) {
+                sb.append(" x").append(counts[i]);
+            }
+            sb.append("\";dur=").append(millis(totals[i])).append(", ");
+        }
+        return sb.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    /** 구간 목록 (시작 오프셋, 소요 시간, 중첩 깊이 들여쓰기) */
+    public String dump(String request, long totalNanos) {
+        StringBuilder sb = new StringBuilder(request).append(" (").append(millis(totalNanos)).append("ms)");
+        spans.sort(Comparator.comparingLong(Span::offsetNanos));
+        for (Span span : spans) {
+            sb.append("\n  ").append(String.format(Locale.ROOT, "+%9sms %9sms ", millis(span.offsetNanos()),
+                    millis(span.elapsedNanos())));
+            sb.append("  ".repeat(span.depth())).append(span.category().metric).append(' ').append(span.name());
+        }
+        if (droppedSpans > 0) {
+            sb.append("\n  ... ").append(droppedSpans).append(" spans dropped");
+        }
+        return sb.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    /** 덤프용 구간 (종료 순서로 쌓이며 덤프 시 시작 시각 순으로 정렬) */
+    private record Span(Category category, String name, long offsetNanos, long elapsedNanos, int depth) {
+    }
+}
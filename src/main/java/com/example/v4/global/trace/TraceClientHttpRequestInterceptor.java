@@ -0,0 +1,30 @@
+package com.example.v4.global.trace;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * RestClient 호출(요청 전송 ~ 응답 수신) 시간을 현재 요청의 {@link RequestTrace}에 기록한다.
+ * 프로세스 내 직접 호출(local transport)도 같은 구간으로 기록된다.
+ */
+public class TraceClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return execution.execute(request, body);
+        }
+        long start = trace.start(RequestTrace.Category.REST);
+        try {
+            return execution.execute(request, body);
+        } finally {
+            trace.stop(RequestTrace.Category.REST, start, request.getMethod() + " " + request.getURI().getRawPath());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.v4.global.trace;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시간을 현재 요청의 {@link RequestTrace}에 DB 구간으로 기록한다.
+ *
+ * <p>
+ * hibernate.session.events.auto 설정으로 세션마다 생성된다. 세션은 한 스레드에서만 사용하므로
+ * 시작 시각을 필드에 보관한다. 추적 중이 아니면 ThreadLocal 조회만 하고 끝난다.
+ */
+public class TraceSessionEventListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient RequestTrace trace;
+    private transient long startNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        begin();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        finish("execute");
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        begin();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        finish("batch");
+    }
+
+    private void begin() {
+        trace = RequestTrace.current();
+        if (trace != null) {
+            startNanos = trace.start(RequestTrace.Category.DB);
+        }
+    }
+
+    private void finish(String name) {
+        if (trace != null) {
+            trace.stop(RequestTrace.Category.DB, startNanos, name);
+            trace = null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.v4.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 색인·캐시 변경을 트랜잭션 커밋 후로 미룬다 (롤백된 변경은 반영하지 않음).
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /** 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행한다. */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.v4.reply.controller;
 
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.example.v4.global.annotation.LoginUser;
 import com.example.v4.global.dto.SessionUser;
@@ -17,6 +20,20 @@ public class ReplyController {
 
     final ReplyService service;
 
+    /**
+     * 게시글 댓글의 다음 페이지를 JSON으로 반환한다 (상세 화면 "댓글 더보기").
+     *
+     * @param boardId 게시글 ID
+     * @param cursor 이 ID보다 오래된 댓글부터 (없으면 첫 페이지)
+     * @return 댓글 목록과 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    @GetMapping("/api/boards/{boardId}/replies")
+    @ResponseBody
+    public ReplyService.ReplyPage replies(@PathVariable("boardId") Integer boardId,
+            @RequestParam(value = "cursor", required = false) Integer cursor, @LoginUser SessionUser user) {
+        return service.page(boardId, cursor, user);
+    }
+
     @PostMapping("/reply/save")
     public String saveReply(ReplyRequestDto dto, @LoginUser SessionUser user) {
         ReplyService.Result result = service.save(dto, user);
@@ -0,0 +1,34 @@
+package com.example.v4.reply.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.v4.global.annotation.LoginUser;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.reply.service.ReplyBulkService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class ReplyRestController {
+
+    final ReplyBulkService bulkService;
+
+    /**
+     * 댓글을 일괄 등록한다 (작성자는 로그인 사용자).
+     *
+     * @param dtos 댓글 목록 (예: [{"boardId":"1","comment":"..."}, ...])
+     * @return 등록 건수, 건너뛴 항목 위치, 배치별 소요 시간
+     */
+    @PostMapping("/replies/bulk")
+    public ReplyBulkService.BulkResult saveAll(@RequestBody List<ReplyRequestDto> dtos, @LoginUser SessionUser user) {
+        return bulkService.saveAll(dtos, user);
+    }
+}
@@ -2,17 +2,17 @@ package com.example.v4.reply.entity;
 
 import java.time.LocalDateTime;
 
-import org.hibernate.annotations.CreationTimestamp;
-
 import com.example.v4.board.entity.Board;
+import com.example.v4.global.id.PooledSequence;
 import com.example.v4.user.entity.User;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,25 +20,32 @@ import lombok.ToString;
 
 @Data
 @Entity
-@Table(name = "reply_tb")
+@Table(name = "reply_tb", indexes = @Index(name = "idx_reply_board_id", columnList = "board_id, id"))
 @NoArgsConstructor
 public class Reply {
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("reply_tb_seq")
     private Integer id;
 
     @Column
     private String comment;
 
     @ToString.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Board board;
 
     @ToString.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
-    @CreationTimestamp
+    /** 작성 시각. 서비스가 게시글의 최근 댓글 시각(last_reply_at)과 같은 값으로 지정하며, 지정하지 않으면 저장 시점 */
     private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
@@ -1,9 +1,30 @@
 package com.example.v4.reply.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.v4.reply.entity.Reply;
 
 public interface ReplyRepository extends JpaRepository<Reply, Integer> {
 
+    /*
+     * 댓글 키셋(커서) 페이지네이션
+     * - WHERE board_id = :boardId AND id < :cursor ORDER BY id DESC LIMIT :n 형태로
+     *   reply_tb(board_id, id) 인덱스를 따라 요청한 구간만 읽습니다.
+     * - ReplySummary 프로젝션으로 작성자 이름까지 조인 1회로 읽습니다.
+     */
+    @Query("select new com.example.v4.reply.repository.ReplySummary(r.id, r.comment, u.id, u.userName) "
+            + "from Reply r join r.user u where r.board.id = :boardId and r.id < :cursor order by r.id desc")
+    List<ReplySummary> findPage(@Param("boardId") Integer boardId, @Param("cursor") Integer cursor, Limit limit);
+
+    // 게시글 삭제 전 댓글 일괄 삭제: 게시글 작성자가 writerId일 때만 DELETE 1회로 삭제
+    @Modifying
+    @Query("delete from Reply r where r.board.id in "
+            + "(select b.id from Board b where b.id = :boardId and b.writerId = :writerId)")
+    int deleteAllByBoardIdAndWriterId(@Param("boardId") Integer boardId, @Param("writerId") Integer writerId);
 }
@@ -0,0 +1,11 @@
+package com.example.v4.reply.repository;
+
+/**
+ * 댓글 목록용 프로젝션 (Projection)
+ *
+ * 역할:
+ * - 댓글 한 페이지에 필요한 id, comment와 작성자 id, 이름만 조회하기 위한 읽기 전용 모델입니다.
+ * - 엔티티를 로딩하지 않으므로 게시글(board_tb)과 영속성 컨텍스트를 건드리지 않습니다.
+ */
+public record ReplySummary(Integer id, String comment, Integer userId, String userName) {
+}
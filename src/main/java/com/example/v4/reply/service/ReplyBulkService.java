@@ -0,0 +1,194 @@
+package com.example.v4.reply.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.v4.board.entity.Board;
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardVersions;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.exception.BoardAccessDeniedException;
+import com.example.v4.global.exception.InvalidReplyRequestException;
+import com.example.v4.global.monitor.LatencyMetrics;
+import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.reply.entity.Reply;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 댓글 일괄 등록 (관리·이관용).
+ *
+ * <p>
+ * 특징:
+ * <ul>
+ * <li>게시글·사용자는 참조 프록시(getReference)로만 연결하여 엔티티를 로딩하지 않음</li>
+ * <li>게시글 존재 여부는 요청의 게시글 ID를 모아 SQL 1회로 확인</li>
+ * <li>app.reply.bulk.batch-size 건씩 persist 후 flush/clear하며, 이 세션의 JDBC 배치 크기도 같은 값으로 설정
+ * (ID는 시퀀스 풀에서 미리 할당되므로 INSERT가 배치로 묶임). 배치별 소요 시간을 결과와 {@link LatencyMetrics}에 기록</li>
+ * <li>게시글의 댓글 통계(reply_count, last_reply_at)는 게시글마다 UPDATE 1회로 등록 건수만큼 증가하고,
+ * 댓글이 등록된 게시글의 상세 캐시({@link BoardDetailCache})와 게시글·목록의 비로그인 {@link PageCache} 페이지를 무효화하고
+ * 조건부 GET용 {@link BoardVersions}를 올림 (커밋 후 반영)</li>
+ * <li>전체가 한 트랜잭션이며, 검증에 실패한 항목은 건너뛰고 요청 내 위치(index)를 결과로 반환</li>
+ * </ul>
+ */
+@Service
+public class ReplyBulkService {
+
+    private static final String BATCH_METRIC = "ReplyBulkService batch";
+
+    private final EntityManager em;
+    private final BoardRepository boardRepository;
+    private final LatencyMetrics latencyMetrics;
+    private final PageCache pageCache;
+    private final BoardDetailCache detailCache;
+    private final BoardVersions versions;
+    private final int batchSize;
+    private final int maxSize;
+
+    public ReplyBulkService(EntityManager em, BoardRepository boardRepository, LatencyMetrics latencyMetrics,
+            PageCache pageCache, BoardDetailCache detailCache, BoardVersions versions, @Value("${app.reply.bulk.batch-size:500}") int batchSize,
+            @Value("${app.reply.bulk.max-size:10000}") int maxSize) {
+        this.em = em;
+        this.boardRepository = boardRepository;
+        this.latencyMetrics = latencyMetrics;
+        this.pageCache = pageCache;
+        this.detailCache = detailCache;
+        this.versions = versions;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 로그인 사용자를 작성자로 하여 댓글을 일괄 등록한다.
+     *
+     * @param dtos 등록할 댓글 목록 (boardId, comment)
+     * @param user 로그인 사용자
+     * @return 요청/등록 건수, 건너뛴 항목 위치, 배치별 소요 시간
+     * @throws BoardAccessDeniedException 로그인하지 않은 경우
+     * @throws InvalidReplyRequestException 목록이 비었거나 app.reply.bulk.max-size를 넘는 경우
+     */
+    @Transactional
+    public BulkResult saveAll(List<ReplyRequestDto> dtos, SessionUser user) {
+        if (user == null) {
+            throw new BoardAccessDeniedException("로그인이 필요합니다.");
+        }
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InvalidReplyRequestException("등록할 댓글이 없습니다.");
+        }
+        if (dtos.size() > maxSize) {
+            throw new InvalidReplyRequestException("한 번에 등록할 수 있는 댓글은 최대 " + maxSize + "개입니다.");
+        }
+
+        List<Row> rows = new ArrayList<>(dtos.size());
+        List<Integer> rejected = new ArrayList<>();
+        Set<Integer> boardIds = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            Row row = toRow(dtos.get(i));
+            if (row == null) {
+                rejected.add(i);
+            } else {
+                rows.add(new Row(i, row.boardId(), row.comment()));
+                boardIds.add(row.boardId());
+            }
+        }
+
+        Set<Integer> existing = boardIds.isEmpty() ? Set.of() : new HashSet<>(boardRepository.findExistingIds(boardIds));
+        List<Row> valid = new ArrayList<>(rows.size());
+        Map<Integer, Integer> countsByBoard = new TreeMap<>();
+        for (Row row : rows) {
+            if (existing.contains(row.boardId())) {
+                valid.add(row);
+                countsByBoard.merge(row.boardId(), 1, Integer::sum);
+            } else {
+                rejected.add(row.index());
+            }
+        }
+        rejected.sort(null);
+
+        // 게시글 ID 순으로 갱신하여 동시에 실행되는 일괄 등록 사이의 행 잠금 순서를 맞춘다
+        // 댓글 작성 시각도 같은 now로 저장하여 최근 댓글 시각(last_reply_at)이 max(created_at)과 일치하게 한다
+        LocalDateTime now = LocalDateTime.now();
+        countsByBoard.forEach((boardId, count) -> boardRepository.addReplies(boardId, count, now));
+        if (!countsByBoard.isEmpty()) {
+            List<String> tags = new ArrayList<>(countsByBoard.size() + 1);
+            countsByBoard.keySet().forEach(boardId -> {
+                tags.add(PageCache.board(boardId));
+                detailCache.invalidate(boardId);
+                versions.touch(boardId);
+            });
+            tags.add(PageCache.INDEX);
+            pageCache.invalidate(tags.toArray(String[]::new));
+        }
+
+        Session session = em.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            // 작성자 프록시는 FK 값(ID)만 쓰이므로 clear로 분리된 뒤에도 모든 배치에서 재사용한다
+            User writer = em.getReference(User.class, user.id());
+            List<BatchTiming> batches = new ArrayList<>((valid.size() + batchSize - 1) / batchSize);
+            for (int from = 0; from < valid.size(); from += batchSize) {
+                List<Row> chunk = valid.subList(from, Math.min(from + batchSize, valid.size()));
+                batches.add(insertBatch(batches.size(), chunk, writer, now));
+            }
+            return new BulkResult(dtos.size(), valid.size(), rejected, batches);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    private BatchTiming insertBatch(int index, List<Row> chunk, User writer, LocalDateTime createdAt) {
+        long start = System.nanoTime();
+        for (Row row : chunk) {
+            Reply reply = new Reply();
+            reply.setBoard(em.getReference(Board.class, row.boardId()));
+            reply.setUser(writer);
+            reply.setComment(row.comment());
+            reply.setCreatedAt(createdAt);
+            em.persist(reply);
+        }
+        em.flush();
+        em.clear();
+        long elapsed = System.nanoTime() - start;
+        latencyMetrics.record(BATCH_METRIC, elapsed);
+        return new BatchTiming(index, chunk.size(), elapsed / 1_000_000.0);
+    }
+
+    /** 게시글 ID 형식과 댓글 내용을 검증한다. 잘못된 항목이면 null */
+    private static Row toRow(ReplyRequestDto dto) {
+        if (dto == null || dto.getComment() == null || dto.getComment().isBlank()
+                || dto.getBoardId() == null || dto.getBoardId().isBlank()) {
+            return null;
+        }
+        try {
+            return new Row(-1, Integer.parseInt(dto.getBoardId().trim()), dto.getComment().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** 검증을 통과한 INSERT 대상 (index: 요청 내 위치) */
+    private record Row(int index, int boardId, String comment) {
+    }
+
+    /** 일괄 등록 결과 (rejected: 건너뛴 항목의 요청 내 위치, 오름차순) */
+    public record BulkResult(int requested, int inserted, List<Integer> rejected, List<BatchTiming> batches) {
+    }
+
+    /** JDBC 배치 1회의 건수와 소요 시간 (ms) */
+    public record BatchTiming(int index, int size, double elapsedMs) {
+    }
+}
@@ -1,19 +1,37 @@
 package com.example.v4.reply.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.v4.board.entity.Board;
 import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardVersions;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
+import com.example.v4.global.dto.Dto;
 import com.example.v4.global.dto.SessionUser;
 import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.reply.dto.ReplyResponseDto;
 import com.example.v4.reply.entity.Reply;
 import com.example.v4.reply.repository.ReplyRepository;
+import com.example.v4.reply.repository.ReplySummary;
 import com.example.v4.user.entity.User;
 import com.example.v4.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 댓글 조회·등록·삭제를 담당하는 서비스.
+ *
+ * <p>등록·삭제 시 게시글의 댓글 통계를 함께 갱신하고, 해당 게시글의 상세 캐시({@link BoardDetailCache})와
+ * 비로그인 {@link PageCache}의 상세·목록(댓글 수 표시) 페이지를 무효화하며, 조건부 GET용 {@link BoardVersions}를 올린다
+ * (커밋 후 반영).
+ */
 @Service
 @RequiredArgsConstructor
 public class ReplyService {
@@ -21,6 +39,39 @@ public class ReplyService {
     final ReplyRepository repository;
     final BoardRepository boardRepository;
     final UserRepository userRepository;
+    final WriterCache writerCache;
+    final PageCache pageCache;
+    final BoardDetailCache detailCache;
+    final BoardVersions versions;
+
+    /** 댓글 한 페이지(상세 화면 첫 렌더링, 더보기 1회)당 댓글 수 */
+    public static final int PAGE_SIZE = 20;
+
+    /**
+     * 게시글의 댓글을 최신순으로 한 페이지 조회한다 (ID 기준 키셋 페이지네이션).
+     *
+     * <p>페이지 크기보다 한 건 더 읽어 다음 페이지 존재 여부를 판단한다.
+     *
+     * @param boardId 게시글 ID
+     * @param cursor 이 ID보다 오래된 댓글부터 (null이면 첫 페이지)
+     * @param user 로그인 사용자 (null 가능, 본인 댓글 삭제 버튼 표시용)
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    public ReplyPage page(Integer boardId, Integer cursor, SessionUser user) {
+        List<ReplySummary> rows = repository.findPage(boardId, cursor != null ? cursor : Integer.MAX_VALUE,
+                Limit.of(PAGE_SIZE + 1));
+        boolean hasMore = rows.size() > PAGE_SIZE;
+        List<ReplySummary> page = hasMore ? rows.subList(0, PAGE_SIZE) : rows;
+        List<ReplyResponseDto> replies = page.stream()
+                .map(reply -> new ReplyResponseDto(
+                        reply.id(),
+                        reply.comment(),
+                        reply.userId(),
+                        reply.userName(),
+                        user != null && reply.userId().equals(user.id())))
+                .toList();
+        return new ReplyPage(replies, hasMore ? page.get(page.size() - 1).id() : null);
+    }
 
     @Transactional
     public Result save(ReplyRequestDto dto, SessionUser user) {
@@ -34,22 +85,40 @@ public class ReplyService {
             return new Result(false, "댓글 내용을 입력해주세요.");
         }
 
-        Board board = boardRepository.findById(Integer.parseInt(dto.getBoardId())).orElse(null);
-        User replyUser = userRepository.findById(user.id()).orElse(null);
+        // 세션의 사용자가 그 사이 삭제되었으면 INSERT의 FK 위반(500) 대신 실패 결과를 돌려준다.
+        // 작성자 캐시를 거치므로 이미 조회된 사용자는 SQL 없이 확인한다 (통계 갱신 전에 확인해야 롤백할 변경이 없음)
+        if (writerCache.get(user.id(), this::findWriter) == null) {
+            return new Result(false, "저장에 실패했습니다.");
+        }
 
-        if (board == null || replyUser == null) {
+        // 게시글의 댓글 통계를 먼저 원자적으로 갱신하고, 갱신된 행이 없으면 게시글이 없는 것으로 판단한다 (별도 존재 확인 없음).
+        // 게시글·사용자는 FK 설정용 참조 프록시로만 사용한다 (그래프 로딩 없음)
+        // 최근 댓글 시각과 댓글 작성 시각은 같은 값으로 저장한다 (재계산이 max(created_at)과 비교하므로)
+        Integer boardId = Integer.parseInt(dto.getBoardId());
+        LocalDateTime now = LocalDateTime.now();
+        if (boardRepository.addReplies(boardId, 1, now) == 0) {
             return new Result(false, "저장에 실패했습니다.");
         }
+        Board board = boardRepository.getReferenceById(boardId);
+        User replyUser = userRepository.getReferenceById(user.id());
 
         Reply reply = new Reply();
         reply.setBoard(board);
         reply.setUser(replyUser);
         reply.setComment(dto.getComment().trim());
+        reply.setCreatedAt(now);
         repository.save(reply);
+        pageCache.invalidate(PageCache.board(boardId), PageCache.INDEX);
+        detailCache.invalidate(boardId);
+        versions.touch(boardId);
 
         return new Result(true, dto.getBoardId());
     }
 
+    private Dto.User findWriter(Integer userId) {
+        return userRepository.findById(userId).map(Dto.User::from).orElse(null);
+    }
+
     @Transactional
     public Result delete(Integer replyId, SessionUser user) {
         if (user == null) {
@@ -65,11 +134,19 @@ public class ReplyService {
             return new Result(false, null);
         }
 
-        String boardId = String.valueOf(reply.getBoard().getId());
+        Integer boardId = reply.getBoard().getId();
         repository.delete(reply);
-        return new Result(true, boardId);
+        boardRepository.removeReply(boardId);
+        pageCache.invalidate(PageCache.board(boardId), PageCache.INDEX);
+        detailCache.invalidate(boardId);
+        versions.touch(boardId);
+        return new Result(true, String.valueOf(boardId));
     }
 
     public record Result(boolean isSuccess, String message) {
     }
+
+    /** 댓글 한 페이지 (nextCursor: 더 오래된 댓글이 없으면 null) */
+    public record ReplyPage(List<ReplyResponseDto> replies, Integer nextCursor) {
+    }
 }
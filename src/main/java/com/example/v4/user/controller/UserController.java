@@ -10,7 +10,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
 import com.example.v4.global.annotation.ValidateOnError;
-import com.example.v4.global.dto.SessionUser;
 import com.example.v4.user.dto.UserRequestDto;
 import com.example.v4.user.service.UserService;
 
@@ -76,8 +75,7 @@ public class UserController {
     @ValidateOnError(viewName = "user/login-form")
     @PostMapping("/login")
     public ResponseEntity<Void> login(@Valid UserRequestDto.Login loginDto, BindingResult br, HttpSession session) {
-        var user = service.authenticate(loginDto);
-        session.setAttribute(SESSION_USER, SessionUser.from(user));
+        session.setAttribute(SESSION_USER, service.authenticate(loginDto));
         return ResponseEntity.status(HttpStatus.FOUND).location(URI.create("/")).build();
     }
 
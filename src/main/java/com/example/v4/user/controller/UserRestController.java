@@ -1,12 +1,13 @@
 package com.example.v4.user.controller;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.v4.global.dto.Dto;
-import com.example.v4.user.entity.User;
 import com.example.v4.user.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -20,9 +21,18 @@ public class UserRestController {
 
     @GetMapping("/user/info")
     public Dto.User userInfo(@RequestParam("writerId") Integer param) {
-        User user = userService.userInfo(param).orElseThrow();
+        return userService.userInfo(param).orElseThrow();
+    }
 
-        return Dto.User.from(user);
+    /**
+     * 여러 작성자 정보를 한 번에 조회한다. 존재하지 않는 ID는 결과에서 제외된다.
+     *
+     * @param params 작성자 ID 목록 (예: writerIds=1,2,3)
+     * @return 작성자 정보 목록
+     */
+    @GetMapping("/user/infos")
+    public List<Dto.User> userInfos(@RequestParam("writerIds") List<Integer> params) {
+        return userService.userInfos(params);
     }
 
 }
@@ -2,10 +2,12 @@ package com.example.v4.user.entity;
 
 import java.time.LocalDateTime;
 
+import com.example.v4.global.cache.WriterCacheListener;
+import com.example.v4.global.id.PooledSequence;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -17,13 +19,14 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Table(name = "user_tb")
+@EntityListeners(WriterCacheListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
     @Id
     @Column
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("user_tb_seq")
     private Integer id;
 
     @Column(name = "user_name", unique = true, nullable = false, length = 50)
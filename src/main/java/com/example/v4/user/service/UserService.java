@@ -2,6 +2,8 @@ package com.example.v4.user.service;
 
 import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
@@ -9,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.v4.global.dto.Dto;
+import com.example.v4.global.dto.SessionUser;
 import com.example.v4.global.exception.InvalidCredentialsException;
 import com.example.v4.global.exception.UserDuplicationException;
 import com.example.v4.user.dto.UserRequestDto.Join;
@@ -22,6 +26,7 @@ import lombok.RequiredArgsConstructor;
  * 회원 조회·가입·인증을 담당하는 서비스.
  *
  * <p>비밀번호는 BCrypt로 해싱하여 저장·검증한다.
+ * 조회·인증 결과는 엔티티가 아닌 DTO로 반환한다 (OSIV 없이 컨트롤러·뷰에서 그대로 사용).
  */
 @Service
 @RequiredArgsConstructor
@@ -36,8 +41,8 @@ public class UserService {
      * @param email 이메일
      * @return 회원 Optional
      */
-    public Optional<User> userInfoByEmail(String email) {
-        return repository.findByEmail(email);
+    public Optional<Dto.User> userInfoByEmail(String email) {
+        return repository.findByEmail(email).map(Dto.User::from);
     }
 
     /**
@@ -46,8 +51,8 @@ public class UserService {
      * @param userName 사용자명
      * @return 회원 Optional
      */
-    public Optional<User> userInfoByName(String userName) {
-        return repository.findByUserName(userName);
+    public Optional<Dto.User> userInfoByName(String userName) {
+        return repository.findByUserName(userName).map(Dto.User::from);
     }
 
     /**
@@ -56,8 +61,18 @@ public class UserService {
      * @param id 회원 ID
      * @return 회원 Optional
      */
-    public Optional<User> userInfo(Integer id) {
-        return repository.findById(id);
+    public Optional<Dto.User> userInfo(Integer id) {
+        return repository.findById(id).map(Dto.User::from);
+    }
+
+    /**
+     * 여러 ID의 회원을 한 번의 쿼리로 조회한다.
+     *
+     * @param ids 회원 ID 목록
+     * @return 존재하는 회원 목록 (순서 보장 없음)
+     */
+    public List<Dto.User> userInfos(Collection<Integer> ids) {
+        return repository.findAllById(ids).stream().map(Dto.User::from).toList();
     }
 
     /**
@@ -87,15 +102,16 @@ public class UserService {
     }
 
     /**
-     * 로그인 인증을 수행한다. 사용자명과 비밀번호가 일치하면 회원을 반환한다.
+     * 로그인 인증을 수행한다. 사용자명과 비밀번호가 일치하면 세션에 저장할 사용자 정보를 반환한다.
      *
      * @param loginDto 로그인 요청 DTO
-     * @return 인증 성공 시 회원
+     * @return 인증 성공 시 세션 사용자
      * @throws InvalidCredentialsException 아이디 또는 비밀번호가 틀린 경우
      */
-    public User authenticate(Login loginDto) {
+    public SessionUser authenticate(Login loginDto) {
         return repository.findByUserName(loginDto.username())
                 .filter(user -> passwordEncoder.matches(loginDto.password(), user.getPassword()))
+                .map(SessionUser::from)
                 .orElseThrow(() -> new InvalidCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.", loginDto));
     }
 }
@@ -1,16 +1,22 @@
-insert into board_tb (title, content, writer_id, created_at) values ('title1', 'content1', '1', now());
-insert into board_tb (title, content, writer_id, created_at) values ('title2', 'content2', '1', now());
-insert into board_tb (title, content, writer_id, created_at) values ('title3', 'content3', '2', now());
-insert into board_tb (title, content, writer_id, created_at) values ('title4', 'content4', '2', now());
-insert into board_tb (title, content, writer_id, created_at) values ('title5', 'content5', '1', now());
-insert into board_tb (title, content, writer_id, created_at) values ('title6', 'content6', '1', now());
+insert into board_tb (id, title, writer_id, created_at) values (1, 'title1', '1', now());
+insert into board_tb (id, title, writer_id, created_at) values (2, 'title2', '1', now());
+insert into board_tb (id, title, writer_id, created_at) values (3, 'title3', '2', now());
+insert into board_tb (id, title, writer_id, created_at) values (4, 'title4', '2', now());
+insert into board_tb (id, title, writer_id, created_at) values (5, 'title5', '1', now());
+insert into board_tb (id, title, writer_id, created_at) values (6, 'title6', '1', now());
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (1, 'PLAIN', stringtoutf8('content1'), 8, 8);
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (2, 'PLAIN', stringtoutf8('content2'), 8, 8);
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (3, 'PLAIN', stringtoutf8('content3'), 8, 8);
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (4, 'PLAIN', stringtoutf8('content4'), 8, 8);
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (5, 'PLAIN', stringtoutf8('content5'), 8, 8);
+insert into board_content_tb (board_id, encoding, data, original_length, stored_length) values (6, 'PLAIN', stringtoutf8('content6'), 8, 8);
 
 -- BCrypt 해시 (비밀번호: 1234) - RULE 1.5.6
-insert into user_tb (user_name, user_password, user_email, created_at) values ('ssar', '$2a$10$9Q3oZ5qqnDM14ad/.klzkeXgby5Qx5lMhOkwj0g8xw/zP/HwQ1FqO', 'ssar@email.com', now());
-insert into user_tb (user_name, user_password, user_email, created_at) values ('cos', '$2a$10$9Q3oZ5qqnDM14ad/.klzkeXgby5Qx5lMhOkwj0g8xw/zP/HwQ1FqO', 'cos@email.com', now());
+insert into user_tb (id, user_name, user_password, user_email, created_at) values (1, 'ssar', '$2a$10$9Q3oZ5qqnDM14ad/.klzkeXgby5Qx5lMhOkwj0g8xw/zP/HwQ1FqO', 'ssar@email.com', now());
+insert into user_tb (id, user_name, user_password, user_email, created_at) values (2, 'cos', '$2a$10$9Q3oZ5qqnDM14ad/.klzkeXgby5Qx5lMhOkwj0g8xw/zP/HwQ1FqO', 'cos@email.com', now());
 
-insert into reply_tb (user_id, board_id, comment, created_at) values(1, 6, 'comment1', now());
-insert into reply_tb (user_id, board_id, comment, created_at) values(1, 6, 'comment2', now());
-insert into reply_tb (user_id, board_id, comment, created_at) values(2, 6, 'comment3', now());
-insert into reply_tb (user_id, board_id, comment, created_at) values(1, 5, 'comment4', now());
-insert into reply_tb (user_id, board_id, comment, created_at) values(2, 5, 'comment5', now());
+insert into reply_tb (id, user_id, board_id, comment, created_at) values(1, 1, 6, 'comment1', now());
+insert into reply_tb (id, user_id, board_id, comment, created_at) values(2, 1, 6, 'comment2', now());
+insert into reply_tb (id, user_id, board_id, comment, created_at) values(3, 2, 6, 'comment3', now());
+insert into reply_tb (id, user_id, board_id, comment, created_at) values(4, 1, 5, 'comment4', now());
+insert into reply_tb (id, user_id, board_id, comment, created_at) values(5, 2, 5, 'comment5', now());
@@ -0,0 +1,9 @@
+-- 게시글 댓글 통계(reply_count, last_reply_at) 비정규화 컬럼 추가와 초기값 계산 (H2)
+-- ddl-auto=update 환경에서는 Hibernate가 컬럼을 추가하며, 여러 번 실행해도 안전하다.
+-- 이후에는 댓글 등록·삭제 시 원자적 UPDATE로 유지되고, BoardReplyStatsReconciler가 주기적으로 보정한다.
+alter table board_tb add column if not exists reply_count integer default 0 not null;
+alter table board_tb add column if not exists last_reply_at timestamp(6);
+
+update board_tb b set
+    reply_count = (select count(*) from reply_tb r where r.board_id = b.id),
+    last_reply_at = (select max(r.created_at) from reply_tb r where r.board_id = b.id);
@@ -0,0 +1,12 @@
+-- IDENTITY → 시퀀스(pooled-lo) ID 전환 마이그레이션 (H2)
+-- 1) 시퀀스가 없으면 생성 (INCREMENT BY는 app.id.allocation-size와 같아야 함)
+-- 2) 기존 데이터의 max(id) + 1부터 할당하도록 시퀀스를 재시작
+-- 운영 DB에는 애플리케이션을 모두 내린 상태에서 한 번 실행한다 (실행 중인 노드가 받아 둔 ID 구간과 겹치지 않도록).
+-- 기존 id 컬럼의 IDENTITY 기본값은 남아 있어도 무방하다 (INSERT 시 Hibernate가 ID를 지정).
+create sequence if not exists user_tb_seq start with 1 increment by 50;
+create sequence if not exists board_tb_seq start with 1 increment by 50;
+create sequence if not exists reply_tb_seq start with 1 increment by 50;
+
+alter sequence user_tb_seq restart with (select coalesce(max(id), 0) + 1 from user_tb);
+alter sequence board_tb_seq restart with (select coalesce(max(id), 0) + 1 from board_tb);
+alter sequence reply_tb_seq restart with (select coalesce(max(id), 0) + 1 from reply_tb);
@@ -0,0 +1,3 @@
+-- 댓글 페이지 조회(WHERE board_id = ? AND id < ? ORDER BY id DESC)용 복합 인덱스 (H2)
+-- ddl-auto=update 환경에서는 Hibernate가 생성하며, 여러 번 실행해도 안전하다.
+create index if not exists idx_reply_board_id on reply_tb (board_id, id);
@@ -27,3 +27,114 @@
     }
   }
 })();
+
+(function () {
+  // 상세 화면 댓글 더보기: 커서 기준 다음 페이지를 댓글 API로 읽어 목록 뒤에 붙인다
+  const moreButton = document.querySelector("#moreReplies");
+  const replyList = document.querySelector("#replyList");
+
+  if (!moreButton || !replyList) {
+    return;
+  }
+
+  function replyItem(reply) {
+    const item = document.createElement("div");
+    item.className = "list-group-item d-flex justify-content-between align-items-center";
+
+    const body = document.createElement("div");
+    body.className = "d-flex";
+    const writer = document.createElement("div");
+    writer.className = "px-1 me-1 bg-secondary text-white rounded";
+    writer.textContent = reply.replyWriterNm;
+    const comment = document.createElement("div");
+    comment.textContent = reply.comment;
+    body.append(writer, comment);
+    item.append(body);
+
+    if (reply.replyWriter) {
+      const form = document.createElement("form");
+      form.action = "/reply/" + reply.id + "/delete";
+      form.method = "post";
+      form.className = "d-inline";
+      const button = document.createElement("button");
+      button.type = "submit";
+      button.className = "btn btn-link p-0";
+      button.textContent = "🗑";
+      button.addEventListener("click", function (e) {
+        if (!confirm("댓글을 삭제하시겠습니까?")) {
+          e.preventDefault();
+        }
+      });
+      form.append(button);
+      item.append(form);
+    }
+    return item;
+  }
+
+  moreButton.addEventListener("click", function () {
+    moreButton.disabled = true;
+    const url = "/api/boards/" + moreButton.dataset.boardId + "/replies?cursor=" + moreButton.dataset.cursor;
+    fetch(url, { headers: { Accept: "application/json" } })
+      .then(function (res) {
+        if (!res.ok) {
+          throw new Error(res.status);
+        }
+        return res.json();
+      })
+      .then(function (page) {
+        page.replies.forEach(function (reply) {
+          replyList.append(replyItem(reply));
+        });
+        if (page.nextCursor == null) {
+          moreButton.remove();
+        } else {
+          moreButton.dataset.cursor = page.nextCursor;
+          moreButton.disabled = false;
+        }
+      })
+      .catch(function () {
+        moreButton.disabled = false;
+        alert("댓글을 불러오지 못했습니다.");
+      });
+  });
+})();
+
+(function () {
+  // 목록 화면 검색창 제목 자동완성: 입력이 멈춘 뒤 한 번만 요청하고, 늦게 도착한 이전 요청의 응답은 무시한다
+  const input = document.querySelector("#keywordInput");
+  const list = document.querySelector("#titleSuggestions");
+  if (!input || !list) {
+    return;
+  }
+  let timer = null;
+  let latest = 0;
+
+  input.addEventListener("input", function () {
+    clearTimeout(timer);
+    const q = input.value.trim();
+    if (q === "") {
+      list.replaceChildren();
+      return;
+    }
+    timer = setTimeout(function () {
+      const seq = ++latest;
+      fetch("/api/boards/suggest?q=" + encodeURIComponent(q), { headers: { Accept: "application/json" } })
+        .then(function (res) {
+          return res.ok ? res.json() : [];
+        })
+        .then(function (suggestions) {
+          if (seq !== latest) {
+            return;
+          }
+          list.replaceChildren(
+            ...suggestions.map(function (s) {
+              const option = document.createElement("option");
+              option.value = s.title;
+              return option;
+            })
+          );
+        })
+        .catch(function () {});
+    }, 150);
+  });
+})();
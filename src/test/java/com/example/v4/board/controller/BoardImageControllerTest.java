@@ -0,0 +1,125 @@
+package com.example.v4.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.v4.board.service.BoardImageStore;
+
+@DisplayName("게시글 이미지 응답 단위 테스트")
+class BoardImageControllerTest {
+
+    private static final byte[] IMAGE = "0123456789".getBytes();
+
+    @TempDir
+    private Path dir;
+
+    private BoardImageController controller;
+    private String name;
+
+    @BeforeEach
+    void setUp() {
+        BoardImageStore store = new BoardImageStore(dir.toString());
+        name = store.put(IMAGE, "png");
+        controller = new BoardImageController(store);
+    }
+
+    @Test
+    @DisplayName("image - 전체 이미지를 immutable 캐시 헤더, 해시 ETag와 함께 응답한다")
+    void image_전체를응답한다() throws Exception {
+        // when
+        MockHttpServletResponse response = get(new MockHttpServletRequest());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(IMAGE);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + name.substring(0, 64) + "\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("image - 단일 Range 요청은 해당 구간만 206으로 응답한다")
+    void image_Range요청이면_206() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        MockHttpServletResponse response = get(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("image - 범위를 벗어난 Range는 416, If-None-Match가 맞으면 304로 응답한다")
+    void image_범위밖이면_416_검증자가맞으면_304() throws Exception {
+        // given
+        MockHttpServletRequest outOfRange = new MockHttpServletRequest();
+        outOfRange.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletRequest conditional = new MockHttpServletRequest();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + name.substring(0, 64) + "\"");
+
+        // when
+        MockHttpServletResponse unsatisfiable = get(outOfRange);
+        MockHttpServletResponse notModified = get(conditional);
+
+        // then
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("image - sendfile을 지원하는 커넥터에는 본문 대신 파일 구간을 요청 속성으로 넘긴다")
+    void image_sendfile지원시_요청속성으로넘긴다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(BoardImageController.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        MockHttpServletResponse response = get(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(BoardImageController.SENDFILE_FILENAME)).isEqualTo(dir
+                .toAbsolutePath().normalize().resolve(name.substring(0, 2)).resolve(name).toString());
+        assertThat(request.getAttribute(BoardImageController.SENDFILE_START)).isEqualTo(7L);
+        assertThat(request.getAttribute(BoardImageController.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("ByteRange.parse - 여러 구간이나 잘못된 형식은 전체 응답(null)으로 처리한다")
+    void parse_지원하지않는형식이면_null() {
+        assertThat(BoardImageController.ByteRange.parse("bytes=0-1,3-4", 10)).isNull();
+        assertThat(BoardImageController.ByteRange.parse("bytes=5-2", 10)).isNull();
+        assertThat(BoardImageController.ByteRange.parse("items=0-1", 10)).isNull();
+        assertThat(BoardImageController.ByteRange.parse("bytes=3-100", 10))
+                .isEqualTo(new BoardImageController.ByteRange(3, 9));
+        assertThat(BoardImageController.ByteRange.parse("bytes=-0", 10))
+                .isSameAs(BoardImageController.ByteRange.UNSATISFIABLE);
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        request.setMethod("GET");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.image(name, request, response);
+        return response;
+    }
+}
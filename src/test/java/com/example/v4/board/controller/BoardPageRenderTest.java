@@ -0,0 +1,83 @@
+package com.example.v4.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.v4.global.dto.SessionUser;
+
+/**
+ * OSIV를 끈 상태(spring.jpa.open-in-view=false)에서 목록과 상세 페이지가 끝까지 렌더링되는지 확인한다.
+ * 뷰 렌더링 중 지연 로딩이 일어나면 EntityManager가 없어 LazyInitializationException으로 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:page-render",
+        "spring.jpa.open-in-view=false",
+        "app.cache.page.enabled=false",
+        "app.board.image.dir=build/test-board-images" })
+@AutoConfigureMockMvc
+@DisplayName("OSIV 없이 게시글 페이지 렌더링 통합 테스트")
+class BoardPageRenderTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("OSIV 인터셉터가 등록되지 않는다")
+    void OSIV_인터셉터가_없다() {
+        // then
+        assertThat(context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET / - 게시글 목록을 렌더링한다")
+    void 목록을_렌더링한다() throws Exception {
+        // when & then
+        mvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index"))
+                .andExpect(content().string(Matchers.containsString("title6")))
+                .andExpect(content().string(Matchers.containsString("title1")));
+    }
+
+    @Test
+    @DisplayName("GET /board/detail/{id} - 비로그인 사용자에게 본문, 작성자, 댓글을 렌더링한다")
+    void 상세를_렌더링한다() throws Exception {
+        // when & then
+        mvc.perform(get("/board/detail/6"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("board/detail"))
+                .andExpect(content().string(Matchers.containsString("content6")))
+                .andExpect(content().string(Matchers.containsString("작성자 : ssar")))
+                .andExpect(content().string(Matchers.containsString("comment3")));
+    }
+
+    @Test
+    @DisplayName("GET /board/detail/{id} - 작성자에게는 수정·삭제 버튼과 본인 댓글 삭제 버튼을 렌더링한다")
+    void 작성자에게_상세를_렌더링한다() throws Exception {
+        // given
+        SessionUser user = new SessionUser(1, "ssar", "ssar@nate.com");
+
+        // when & then
+        mvc.perform(get("/board/detail/6").sessionAttr("sessionUser", user))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("/board/update-form/6")))
+                .andExpect(content().string(Matchers.containsString("/reply/1/delete")))
+                .andExpect(content().string(Matchers.not(Matchers.containsString("/reply/3/delete"))));
+    }
+}
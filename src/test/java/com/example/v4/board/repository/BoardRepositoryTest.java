@@ -1,18 +1,30 @@
 package com.example.v4.board.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDateTime;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import com.example.v4.board.entity.Board;
+import com.example.v4.global.sql.SqlCountExtension;
+import com.example.v4.global.sql.SqlStatementCounter;
+import com.example.v4.reply.entity.Reply;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
+@ExtendWith(SqlCountExtension.class)
 @DisplayName("게시글 저장소")
 class BoardRepositoryTest {
 
@@ -21,6 +33,9 @@ class BoardRepositoryTest {
     @Autowired
     private BoardRepository repository;
 
+    @Autowired
+    private EntityManager em;
+
     @Test
     @DisplayName("save - 게시글 저장 시 ID가 부여되고 저장된 값이 반환된다")
     void save_게시글저장시_ID가부여된다() {
@@ -43,33 +58,6 @@ class BoardRepositoryTest {
                 .containsExactly("테스트 제목", "테스트 내용", 1);
     }
 
-    @Test
-    @DisplayName("findAllByOrderByIdDesc - 여러 게시글이 있으면 ID 내림차순으로 반환한다")
-    void findAllByOrderByIdDesc_여러게시글이있으면_최신순으로반환한다() {
-        // given
-        repository.save(Board.builder()
-                .title("첫 번째")
-                .content("내용1")
-                .writerId(1)
-                .createdAt(CREATED_AT)
-                .build());
-
-        repository.save(Board.builder()
-                .title("두 번째")
-                .content("내용2")
-                .writerId(1)
-                .createdAt(CREATED_AT)
-                .build());
-
-        // when
-        var boards = repository.findAllByOrderByIdDesc();
-
-        // then
-        assertThat(boards).hasSizeGreaterThanOrEqualTo(2);
-        assertThat(boards.get(0).getId()).isGreaterThan(boards.get(1).getId());
-        assertThat(boards.get(0).getTitle()).isEqualTo("두 번째");
-    }
-
     @Test
     @DisplayName("findById - 존재하는 ID로 조회하면 해당 게시글을 반환한다")
     void findById_존재하는ID면_게시글을반환한다() {
@@ -92,35 +80,109 @@ class BoardRepositoryTest {
     }
 
     @Test
-    @DisplayName("findByTitleContainingOrderByIdDesc - 제목에 키워드가 포함된 게시글만 반환한다")
-    void findByTitleContainingOrderByIdDesc_키워드포함게시글만_반환한다() {
+    @DisplayName("findByIdLessThanOrderByIdDesc - 커서보다 작은 ID를 내림차순으로 limit 건만 반환한다")
+    void findByIdLessThanOrderByIdDesc_커서보다작은ID를_limit건만반환한다() {
         // given
-        repository.save(Board.builder()
-                .title("Spring 학습")
-                .content("내용1")
-                .writerId(1)
-                .createdAt(CREATED_AT)
-                .build());
+        Board first = repository.save(Board.builder().title("키셋1").content("내용").writerId(1).createdAt(CREATED_AT).build());
+        Board second = repository.save(Board.builder().title("키셋2").content("내용").writerId(1).createdAt(CREATED_AT).build());
+        Board third = repository.save(Board.builder().title("키셋3").content("내용").writerId(1).createdAt(CREATED_AT).build());
 
-        repository.save(Board.builder()
-                .title("Java 기본")
-                .content("내용2")
-                .writerId(1)
-                .createdAt(CREATED_AT)
-                .build());
+        // when
+        var boards = repository.findByIdLessThanOrderByIdDesc(third.getId(), Limit.of(2));
 
-        repository.save(Board.builder()
-                .title("Spring Boot 실습")
-                .content("내용3")
-                .writerId(1)
-                .createdAt(CREATED_AT)
-                .build());
+        // then
+        assertThat(boards)
+                .extracting(BoardSummary::id)
+                .containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    @DisplayName("findByTitleContainingAndIdGreaterThanOrderByIdAsc - 커서보다 최신인 검색 결과를 오름차순으로 반환한다")
+    void findByTitleContainingAndIdGreaterThanOrderByIdAsc_커서보다최신인검색결과를_반환한다() {
+        // given
+        Board cursor = repository.save(Board.builder().title("Keyset 기준").content("내용").writerId(1).createdAt(CREATED_AT).build());
+        repository.save(Board.builder().title("Other").content("내용").writerId(1).createdAt(CREATED_AT).build());
+        Board newer = repository.save(Board.builder().title("Keyset 최신").content("내용").writerId(1).createdAt(CREATED_AT).build());
 
         // when
-        var boards = repository.findByTitleContainingOrderByIdDesc("Spring");
+        var boards = repository.findByTitleContainingAndIdGreaterThanOrderByIdAsc("Keyset", cursor.getId(), Limit.of(10));
 
         // then
-        assertThat(boards).hasSize(2);
-        assertThat(boards).allMatch(b -> b.getTitle().contains("Spring"));
+        assertThat(boards)
+                .extracting(BoardSummary::id, BoardSummary::title)
+                .containsExactly(tuple(newer.getId(), "Keyset 최신"));
+    }
+
+    @Test
+    @DisplayName("목록 fetch plan - 프로젝션 조회는 SQL 1회이며 댓글을 읽지 않는다")
+    void 목록_프로젝션조회는_SQL1회다(SqlStatementCounter sql) {
+        // given
+        Board board = givenBoardWithReplies(3);
+        sql.reset();
+
+        // when
+        var boards = repository.findByIdLessThanOrderByIdDesc(board.getId() + 1, Limit.of(11));
+
+        // then
+        assertThat(boards).isNotEmpty();
+        assertThat(sql.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정 폼 fetch plan - 게시글 행만 SQL 1회로 읽고 댓글은 로딩하지 않는다")
+    void 수정폼_findById는_댓글을로딩하지않는다(SqlStatementCounter sql) {
+        // given
+        Board board = givenBoardWithReplies(3);
+        sql.reset();
+
+        // when
+        Board found = repository.findById(board.getId()).orElseThrow();
+
+        // then
+        assertThat(Hibernate.isInitialized(found.getReplies())).isFalse();
+        assertThat(sql.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성자 확인 fetch plan - writer_id만 SQL 1회로 조회한다")
+    void 작성자확인_findWriterIdById는_SQL1회다(SqlStatementCounter sql) {
+        // given
+        Board board = givenBoardWithReplies(3);
+        sql.reset();
+
+        // when
+        var writerId = repository.findWriterIdById(board.getId());
+
+        // then
+        assertThat(writerId).contains(board.getWriterId());
+        assertThat(sql.count()).isEqualTo(1);
+    }
+
+    private Board givenBoardWithReplies(int replyCount) {
+        User user = User.builder()
+                .userName("fetch-plan-user")
+                .password("1234")
+                .email("fetch@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+
+        Board board = repository.save(Board.builder()
+                .title("fetch plan")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(CREATED_AT)
+                .build());
+
+        for (int i = 0; i < replyCount; i++) {
+            Reply reply = new Reply();
+            reply.setComment("댓글" + i);
+            reply.setBoard(board);
+            reply.setUser(user);
+            em.persist(reply);
+        }
+        em.flush();
+        em.clear();
+        return board;
     }
 }
@@ -0,0 +1,152 @@
+package com.example.v4.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardText;
+
+@DisplayName("게시글 검색 색인 단위 테스트")
+class BoardSearchIndexTest {
+
+    private final BoardRepository repository = mock(BoardRepository.class);
+    private final BoardSearchIndex index = new BoardSearchIndex(repository, 2);
+
+    @Test
+    @DisplayName("search - 어절 중간의 한국어 부분 문자열로 본문 텍스트를 찾고, HTML 태그와 속성은 색인하지 않는다")
+    void search_한국어부분문자열로_본문을찾는다() {
+        // given
+        index.index(1, "공지", "<p>스프링부트에서 <b>트랜잭션</b>을 사용하는 방법</p>");
+        index.index(2, "잡담", "<p><a href=\"https://example.com/트랜잭션\">링크</a></p>");
+
+        // when
+        BoardSearchIndex.Hits hits = index.search("트랜잭", 0, 10);
+        BoardSearchIndex.Hits middle = index.search("부트", 0, 10);
+
+        // then
+        assertThat(hits.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1);
+        assertThat(middle.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("search - 한 글자 검색어는 LIKE 검색처럼 그 글자가 들어간 어절을 찾는다")
+    void search_한글자검색어로_어절안의글자를찾는다() {
+        // given
+        index.index(1, "책상 정리", "내용");
+        index.index(2, "일상", "책을 읽었다");
+        index.index(3, "의자", "내용");
+
+        // when
+        BoardSearchIndex.Hits single = index.search("책", 0, 10);
+        BoardSearchIndex.Hits mixed = index.search("책 정리", 0, 10);
+
+        // then
+        assertThat(single.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1, 2);
+        assertThat(mixed.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("search - 검색어의 n-gram을 모두 포함한 게시글만 찾고, 제목 일치를 본문 일치보다 높은 순위로 반환한다")
+    void search_제목일치가_높은순위다() {
+        // given
+        index.index(1, "일상", "오늘은 스프링 공부");
+        index.index(2, "스프링 정리", "내용");
+        index.index(3, "스프링", "배치 설정");
+
+        // when
+        BoardSearchIndex.Hits all = index.search("스프링", 0, 10);
+        BoardSearchIndex.Hits both = index.search("스프링 배치", 0, 10);
+
+        // then
+        assertThat(all.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3, 2, 1);
+        assertThat(all.total()).isEqualTo(3);
+        assertThat(both.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("index/remove - 수정하면 이전 내용으로는 찾지 않고, 삭제하면 결과에서 제외한다")
+    void index_수정과삭제를_반영한다() {
+        // given
+        index.index(1, "자바", "컬렉션");
+        index.index(2, "자바", "스트림");
+
+        // when
+        index.index(1, "코틀린", "코루틴");
+        index.remove(2);
+
+        // then
+        assertThat(index.search("자바", 0, 10).hits()).isEmpty();
+        assertThat(index.search("코루틴", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1);
+        assertThat(index.stats().documents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("search - offset/limit으로 한 페이지만 반환하고 전체 일치 건수를 함께 반환한다")
+    void search_페이지단위로_반환한다() {
+        // given
+        for (int id = 1; id <= 25; id++) {
+            index.index(id, "게시판 " + id, "본문");
+        }
+
+        // when
+        BoardSearchIndex.Hits page = index.search("게시판", 20, 10);
+
+        // then
+        assertThat(page.total()).isEqualTo(25);
+        assertThat(page.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(5, 4, 3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("rebuild - board_tb를 ID 구간으로 나누어 읽어 색인을 새로 구성한다")
+    void rebuild_저장소에서_색인을구성한다() {
+        // given: 재구성 전 색인에만 있던 게시글은 사라진다
+        index.index(99, "지난 글", "삭제됨");
+        given(repository.findTextsAfter(eq(0), any(Limit.class))).willReturn(List.of(
+                new BoardText(1, "첫 글", "<p>검색 색인</p>"),
+                new BoardText(2, "둘째 글", "내용")));
+        given(repository.findTextsAfter(eq(2), any(Limit.class))).willReturn(List.of(
+                new BoardText(5, "셋째 글", "검색 엔진")));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.search("검색", 0, 10).hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(5, 1);
+        assertThat(index.search("지난", 0, 10).hits()).isEmpty();
+        assertThat(index.stats().documents()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("compact - 삭제 표시된 문서가 많아지면 압축하여 삭제 표시를 없애고 검색 결과는 유지한다")
+    void compact_삭제표시가많으면_압축한다() {
+        // given
+        int total = 2200;
+        for (int id = 1; id <= total; id++) {
+            index.index(id, "제목 " + id, id % 2 == 0 ? "짝수 본문" : "홀수 본문");
+        }
+        long bytesBefore = index.stats().postingBytes();
+
+        // when
+        for (int id = 1; id <= 1200; id++) {
+            index.remove(id);
+        }
+
+        // then
+        BoardSearchIndex.Stats stats = index.stats();
+        assertThat(stats.documents()).isEqualTo(1000);
+        assertThat(stats.deletedDocuments()).isLessThan(stats.documents());
+        assertThat(stats.postingBytes()).isLessThan(bytesBefore);
+        BoardSearchIndex.Hits even = index.search("짝수", 0, 3);
+        assertThat(even.total()).isEqualTo(500);
+        assertThat(even.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(2200, 2198, 2196);
+    }
+}
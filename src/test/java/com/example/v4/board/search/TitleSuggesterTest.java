@@ -0,0 +1,116 @@
+package com.example.v4.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardSummary;
+
+@DisplayName("게시글 제목 자동완성 단위 테스트")
+class TitleSuggesterTest {
+
+    private final BoardRepository repository = mock(BoardRepository.class);
+    private final TitleSuggester suggester = new TitleSuggester(repository, 3, 2);
+
+    @Test
+    @DisplayName("suggest - 제목 또는 제목 안 단어가 접두사로 시작하는 게시글을 최신순으로 반환한다 (대소문자·공백 정규화)")
+    void suggest_접두사로_최신순반환한다() {
+        // given
+        suggester.index(1, "스프링 부트 입문");
+        suggester.index(2, "스프링  배치");
+        suggester.index(3, "Spring Data JPA");
+        suggester.index(4, "부트캠프 후기");
+
+        // when & then
+        assertThat(ids(suggester.suggest("스프", 10))).containsExactly(2, 1);
+        assertThat(ids(suggester.suggest("스프링 배", 10))).containsExactly(2);
+        assertThat(ids(suggester.suggest("부트", 10))).containsExactly(4, 1);
+        assertThat(ids(suggester.suggest("  SPRING d", 10))).containsExactly(3);
+        assertThat(suggester.suggest("data", 10)).extracting(TitleSuggester.Suggestion::title)
+                .containsExactly("Spring Data JPA");
+        assertThat(suggester.suggest("자바", 10)).isEmpty();
+        assertThat(suggester.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest - 노드마다 상위 k개만 유지하며, 요청 건수가 k보다 크면 k개까지만 반환한다")
+    void suggest_상위k개만_반환한다() {
+        // given
+        for (int id = 1; id <= 5; id++) {
+            suggester.index(id, "공지 " + id);
+        }
+
+        // when & then
+        assertThat(ids(suggester.suggest("공지", 10))).containsExactly(5, 4, 3);
+        assertThat(ids(suggester.suggest("공지", 2))).containsExactly(5, 4);
+    }
+
+    @Test
+    @DisplayName("remove - 삭제하면 하위 트리에서 다음 순위 게시글로 상위 k개를 다시 채운다")
+    void remove_상위k개를_다시채운다() {
+        // given
+        for (int id = 1; id <= 5; id++) {
+            suggester.index(id, "공지 " + id);
+        }
+
+        // when
+        suggester.remove(5);
+        suggester.remove(3);
+
+        // then
+        assertThat(ids(suggester.suggest("공지", 10))).containsExactly(4, 2, 1);
+        assertThat(suggester.suggest("5", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index - 제목을 수정하면 이전 제목으로는 찾지 않고, 빈 노드는 정리된다")
+    void index_제목수정을_반영한다() {
+        // given
+        suggester.index(1, "abc");
+        suggester.index(2, "abd");
+
+        // when
+        suggester.index(2, "xyz");
+
+        // then
+        assertThat(suggester.suggest("abd", 10)).isEmpty();
+        assertThat(ids(suggester.suggest("ab", 10))).containsExactly(1);
+        assertThat(ids(suggester.suggest("x", 10))).containsExactly(2);
+        // 루트 + "ab"(분기) + "c" + "d" 에서 "d"가 제거되고 "ab"와 "c"가 "abc"로 병합, "xyz" 추가
+        assertThat(suggester.stats().nodes()).isEqualTo(3);
+        assertThat(suggester.stats().boards()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rebuild - board_tb의 제목을 ID 구간으로 나누어 읽어 새로 구성한다")
+    void rebuild_저장소에서_구성한다() {
+        // given
+        suggester.index(99, "지난 글");
+        given(repository.findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class))).willReturn(List.of(
+                new BoardSummary(1, "첫 글", 1, 0),
+                new BoardSummary(2, "둘째 글", 1, 0)));
+        given(repository.findByIdGreaterThanOrderByIdAsc(eq(2), any(Limit.class))).willReturn(List.of(
+                new BoardSummary(7, "첫눈", 2, 0)));
+
+        // when
+        suggester.rebuild();
+
+        // then
+        assertThat(ids(suggester.suggest("첫", 10))).containsExactly(7, 1);
+        assertThat(suggester.suggest("지난", 10)).isEmpty();
+        assertThat(suggester.stats().boards()).isEqualTo(3);
+    }
+
+    private static List<Integer> ids(List<TitleSuggester.Suggestion> suggestions) {
+        return suggestions.stream().map(TitleSuggester.Suggestion::id).toList();
+    }
+}
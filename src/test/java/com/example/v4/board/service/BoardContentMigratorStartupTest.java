@@ -0,0 +1,49 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 기존 DB(본문이 board_tb.content에 있음)로 시작할 때, 웹 서버가 요청을 받기 시작한 시점에
+ * 이미 본문이 board_content_tb로 옮겨져 있는지 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:legacy-content",
+        "spring.sql.init.data-locations=classpath:db/data.sql,classpath:db/legacy-board-content.sql,"
+                + "classpath:db/migration/id-sequences.sql",
+        "app.board.image.dir=build/test-board-images" })
+@DisplayName("시작 시 본문 이관 순서 통합 테스트")
+class BoardContentMigratorStartupTest {
+
+    @TestConfiguration
+    static class Config {
+        /** 웹 서버가 요청을 받기 시작한 직후의 본문 */
+        static final AtomicReference<String> CONTENT_WHEN_SERVING = new AtomicReference<>();
+
+        @Bean
+        ApplicationListener<WebServerInitializedEvent> contentWhenServing(BoardContentStore contentStore) {
+            return event -> CONTENT_WHEN_SERVING.set(contentStore.read(900));
+        }
+    }
+
+    @Autowired
+    private BoardContentStore contentStore;
+
+    @Test
+    @DisplayName("웹 서버가 요청을 받기 전에 board_tb.content의 본문을 옮긴다")
+    void 요청을받기전에_본문을옮긴다() {
+        // then
+        assertThat(Config.CONTENT_WHEN_SERVING.get()).isEqualTo("legacy content");
+        assertThat(contentStore.read(900)).isEqualTo("legacy content");
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("게시글 내용 변환기 단위 테스트")
+class BoardContentRewriterTest {
+
+    private final BoardContentRewriter rewriter = new BoardContentRewriter();
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "plain-text-url",
+            "summernote-paragraphs",
+            "youtube-anchors",
+            "text-urls",
+            "non-youtube",
+            "existing-embed",
+            "unclosed-tags" })
+    @DisplayName("rewrite - 골든 파일과 동일한 HTML을 출력한다")
+    void rewrite_골든파일과_동일하게출력한다(String name) throws IOException {
+        // given
+        String content = resource(name + ".html");
+        String expected = resource(name + ".expected.html");
+
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("rewrite - YouTube URL이 포함되면 iframe으로 변환한다")
+    void rewrite_youtubeURL이면_iframe으로변환한다() {
+        // given
+        String content = "영상 링크: https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        assertThat(result).contains("iframe");
+        assertThat(result).contains("youtube.com/embed/dQw4w9WgXcQ");
+    }
+
+    @Test
+    @DisplayName("rewrite - youtu.be 짧은 URL도 iframe으로 변환한다")
+    void rewrite_youtuBe짧은URL도_iframe으로변환한다() {
+        // given
+        String content = "https://youtu.be/dQw4w9WgXcQ";
+
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        assertThat(result).contains("iframe");
+        assertThat(result).contains("youtube.com/embed/dQw4w9WgXcQ");
+    }
+
+    @Test
+    @DisplayName("rewrite - null 또는 빈 문자열이면 그대로 반환한다")
+    void rewrite_null이면_그대로반환한다() {
+        // given & when
+        String nullResult = rewriter.rewrite(null);
+        String blankResult = rewriter.rewrite("   ");
+
+        // then
+        assertThat(nullResult).isNull();
+        assertThat(blankResult).isEqualTo("   ");
+    }
+
+    @Test
+    @DisplayName("rewrite - script 요소, on* 속성, javascript: URL을 제거한다")
+    void rewrite_스크립트를_제거한다() {
+        // given
+        String content = "<p onclick=\"alert(1)\">본문<script>alert(2)</script></p>"
+                + "<a href=\" JavaScript:alert(3)\" title=\"링크\">링크</a>"
+                + "<img src=\"a.png\" onerror=\"alert(4)\">";
+
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        assertThat(result).doesNotContain("alert", "script", "onclick", "onerror", "href");
+        assertThat(result).contains("<p>본문</p>", "title=\"링크\"", "<img src=\"a.png\">");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "<a href=\"java\tscript:alert(1)\">탭</a>",
+            "<a href=\"java&#x09;script:alert(1)\">엔티티 탭</a>",
+            "<a href=\"jav&#x61;script&colon;alert(1)\">엔티티 분할</a>",
+            "<a href=\"\u0001javascript:alert(1)\">제어 문자</a>",
+            "<iframe srcdoc=\"<script>alert(1)</script>\"></iframe>",
+            "<iframe src=\"https://evil.example/\"></iframe>",
+            "<svg><a xlink:href=\"javascript:alert(1)\"><text x=\"20\" y=\"20\">svg</text></a></svg>",
+            "<embed src=\"data:text/html,<script>alert(1)</script>\">",
+            "<object data=\"javascript:alert(1)\"></object>",
+            "<base href=\"javascript:alert(1)//\">",
+            "<form><button formaction=\"javascript:alert(1)\">전송</button></form>",
+            "<img src=\"data:text/html,<script>alert(1)</script>\">",
+            "<a title=\"https://youtu.be/dQw4w9WgXcQ<img src=x onerror=alert(1)>\">속성 안의 URL</a>" })
+    @DisplayName("rewrite - 허용 목록을 우회하려는 스크립트 실행 경로를 모두 제거한다")
+    void rewrite_우회페이로드를_제거한다(String content) {
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        Document output = Jsoup.parse(result);
+        assertThat(output.body().select("script, embed, object, base, svg, form, button")).isEmpty();
+        assertThat(output.body().getAllElements()).allSatisfy(element -> assertThat(element.attributes().asList())
+                .allSatisfy(attribute -> {
+                    assertThat(attribute.getKey()).doesNotStartWith("on")
+                            .isNotIn("srcdoc", "formaction", "xlink:href", "data");
+                    assertThat(attribute.getValue().toLowerCase(Locale.ROOT).replaceAll("[\\x00-\\x20]", ""))
+                            .doesNotContain("javascript:", "data:text");
+                }));
+        assertThat(output.select("iframe[src]")).allSatisfy(iframe -> assertThat(iframe.attr("src"))
+                .startsWith("https://www.youtube.com/embed/"));
+    }
+
+    @Test
+    @DisplayName("rewrite - 저장된 이미지 경로, Summernote 영상 iframe, 링크 target은 유지한다")
+    void rewrite_허용된Summernote내용은_유지한다() {
+        // given
+        String content = "<p><img src=\"/images/abc.png\" style=\"width: 25%;\"></p>"
+                + "<iframe src=\"//www.youtube.com/embed/dQw4w9WgXcQ\" class=\"note-video-clip\"></iframe>"
+                + "<p><a href=\"https://example.com\" target=\"_blank\">링크</a></p>";
+
+        // when
+        String result = rewriter.rewrite(content);
+
+        // then
+        assertThat(result).contains("<img src=\"/images/abc.png\" style=\"width: 25%;\">",
+                "<iframe src=\"//www.youtube.com/embed/dQw4w9WgXcQ\" class=\"note-video-clip\"></iframe>",
+                "<a href=\"https://example.com\" target=\"_blank\">링크</a>");
+    }
+
+    private String resource(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/content-rewriter/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
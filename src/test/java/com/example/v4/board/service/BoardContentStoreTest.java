@@ -0,0 +1,104 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.v4.board.entity.BoardContent;
+import com.example.v4.global.monitor.LatencyMetrics;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = { "app.board.content.compress-threshold=64",
+        "app.board.content.migration.batch-size=2" })
+@Import({ BoardContentStore.class, BoardContentMigrator.class, LatencyMetrics.class })
+@DisplayName("게시글 본문 저장소와 이관")
+class BoardContentStoreTest {
+
+    private static final String LONG_HTML = "<p>게시글 본문 paragraph 반복</p>".repeat(50);
+
+    @Autowired
+    private BoardContentStore store;
+
+    @Autowired
+    private BoardContentMigrator migrator;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("create/read - 임계값보다 작은 본문은 그대로, 큰 본문은 deflate로 압축해 저장하고 원문으로 복원한다")
+    void create_임계값이상이면_압축해저장한다() {
+        // when
+        store.create(101, "짧은 본문");
+        store.create(102, LONG_HTML);
+        em.flush();
+        em.clear();
+
+        // then
+        BoardContent small = em.find(BoardContent.class, 101);
+        BoardContent large = em.find(BoardContent.class, 102);
+        assertThat(small.getEncoding()).isEqualTo(BoardContent.Encoding.PLAIN);
+        assertThat(large.getEncoding()).isEqualTo(BoardContent.Encoding.DEFLATE);
+        assertThat(large.getStoredLength()).isLessThan(large.getOriginalLength() / 5);
+        assertThat(store.read(101)).isEqualTo("짧은 본문");
+        assertThat(store.read(102)).isEqualTo(LONG_HTML);
+        assertThat(store.read(999)).isNull();
+        assertThat(store.stats().compressionRatio()).isLessThan(1.0);
+    }
+
+    @Test
+    @DisplayName("update - 본문 행이 있으면 교체하고, 없으면 새로 저장한다")
+    void update_없으면_새로저장한다() {
+        // given
+        store.create(101, "수정 전");
+        em.flush();
+
+        // when
+        store.update(101, LONG_HTML);
+        store.update(102, "행 없던 게시글");
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(store.read(101)).isEqualTo(LONG_HTML);
+        assertThat(store.read(102)).isEqualTo("행 없던 게시글");
+    }
+
+    @Test
+    @DisplayName("migrate - board_tb.content의 본문을 배치로 옮기고, 이미 본문 행이 있는 게시글은 덮어쓰지 않는다")
+    void migrate_기존본문을_배치로옮긴다() {
+        // given: 본문이 board_tb에 있던 DB (게시글 3건, 그중 1건은 이미 새 저장소에 수정본이 있음)
+        em.createNativeQuery("alter table board_tb add column if not exists content text").executeUpdate();
+        for (int id = 1001; id <= 1003; id++) {
+            em.createNativeQuery("insert into board_tb (id, title, content, writer_id, created_at, reply_count) "
+                    + "values (:id, '제목', :content, 1, now(), 0)")
+                    .setParameter("id", id)
+                    .setParameter("content", id == 1002 ? LONG_HTML : "본문" + id)
+                    .executeUpdate();
+        }
+        store.create(1003, "이관 전에 수정된 본문");
+        em.flush();
+
+        // when
+        int moved = migrator.migrate();
+        int movedAgain = migrator.migrate();
+
+        // then
+        assertThat(moved).isEqualTo(2);
+        assertThat(movedAgain).isZero();
+        em.clear();
+        assertThat(store.read(1001)).isEqualTo("본문1001");
+        assertThat(store.read(1002)).isEqualTo(LONG_HTML);
+        assertThat(store.read(1003)).isEqualTo("이관 전에 수정된 본문");
+        assertThat(em.find(BoardContent.class, 1002).getEncoding()).isEqualTo(BoardContent.Encoding.DEFLATE);
+        List<?> remaining = em.createNativeQuery("select id from board_tb where content is not null").getResultList();
+        assertThat(remaining).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("게시글 이미지 저장소 단위 테스트")
+class BoardImageStoreTest {
+
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 13, 'I', 'H' };
+    private static final Pattern IMAGE_URL = Pattern.compile("/images/([0-9a-f]{64}\\.png)");
+
+    @TempDir
+    private Path dir;
+
+    private BoardImageStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new BoardImageStore(dir.toString());
+    }
+
+    @Test
+    @DisplayName("extract - base64 이미지를 파일로 저장하고 src를 이미지 URL로 바꾼다")
+    void extract_base64이미지를_URL로바꾼다() throws IOException {
+        // given
+        String html = "<p>사진</p><p><img style=\"width: 50%;\" src=\"data:image/png;base64,"
+                + Base64.getEncoder().encodeToString(PNG) + "\" data-filename=\"a.png\"></p>";
+
+        // when
+        String result = store.extract(html);
+
+        // then
+        Matcher m = IMAGE_URL.matcher(result);
+        assertThat(m.find()).isTrue();
+        assertThat(result).isEqualTo("<p>사진</p><p><img style=\"width: 50%;\" src=\"/images/" + m.group(1)
+                + "\" data-filename=\"a.png\"></p>");
+        assertThat(Files.readAllBytes(store.resolve(m.group(1)))).isEqualTo(PNG);
+        assertThat(BoardImageStore.contentType(m.group(1))).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("extract - 같은 이미지는 게시글이 달라도 파일 하나만 저장한다")
+    void extract_같은이미지는_한번만저장한다() throws IOException {
+        // given
+        String img = "<img src='data:image/png;base64," + Base64.getMimeEncoder().encodeToString(PNG) + "'>";
+
+        // when
+        String first = store.extract("<p>" + img + img + "</p>");
+        String second = store.extract(img);
+
+        // then
+        Matcher m = IMAGE_URL.matcher(second);
+        assertThat(m.find()).isTrue();
+        assertThat(first).isEqualTo("<p><img src='/images/" + m.group(1) + "'><img src='/images/" + m.group(1)
+                + "'></p>");
+        try (var files = Files.walk(dir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+        BoardImageStore.Stats stats = store.stats();
+        assertThat(stats.extracted()).isEqualTo(3);
+        assertThat(stats.storedFiles()).isEqualTo(1);
+        assertThat(stats.storedBytes()).isEqualTo(PNG.length);
+        assertThat(stats.deduplicated()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("extract - img 속성이 아닌 data URI, svg, 잘못된 base64는 그대로 둔다")
+    void extract_대상이아니면_그대로둔다() {
+        // given
+        String html = "<p>data:image/png;base64,iVBORw0KGgo=</p>"
+                + "<img src=\"data:image/svg+xml;base64,PHN2Zz48L3N2Zz4=\">"
+                + "<img src=\"data:image/png;base64,====\">"
+                + "<a href=\"data:image/png;base64,iVBORw0KGgo=\">링크</a>";
+
+        // when
+        String result = store.extract(html);
+
+        // then
+        assertThat(result).isEqualTo(html);
+        assertThat(store.stats().storedFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("resolve - 형식이 다르거나 없는 파일 이름은 null을 반환한다")
+    void resolve_잘못된이름이면_null() {
+        // given
+        String name = store.put(PNG, "png");
+
+        // when & then
+        assertThat(store.resolve(name)).isNotNull();
+        assertThat(store.resolve("../" + name)).isNull();
+        assertThat(store.resolve(name.replace(".png", ".svg"))).isNull();
+        assertThat(store.resolve("0".repeat(64) + ".png")).isNull();
+    }
+}
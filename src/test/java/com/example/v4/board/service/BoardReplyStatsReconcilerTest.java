@@ -0,0 +1,146 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.example.v4.board.entity.Board;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.monitor.LatencyMetrics;
+import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.reply.entity.Reply;
+import com.example.v4.reply.service.ReplyBulkService;
+import com.example.v4.reply.service.ReplyService;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "app.board.reply-stats.chunk-size=2")
+@Import({ BoardReplyStatsReconciler.class, PageCache.class, WriterCache.class, BoardVersions.class,
+        BoardDetailCache.class, ReplyService.class, ReplyBulkService.class, BoardReplyStatsReconcilerTest.Config.class })
+@DisplayName("게시글 댓글 통계 재계산")
+class BoardReplyStatsReconcilerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        LatencyMetrics latencyMetrics() {
+            return new LatencyMetrics(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        }
+    }
+
+    @Autowired
+    private BoardReplyStatsReconciler reconciler;
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Autowired
+    private ReplyBulkService replyBulkService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("reconcile - 어긋난 게시글만 reply_tb 기준으로 보정하고, 다시 실행하면 보정할 게시글이 없다")
+    void reconcile_어긋난게시글만_보정한다() {
+        // given: 댓글 통계를 거치지 않고 댓글 3건을 직접 저장 (reply_count = 0으로 어긋남)
+        User user = User.builder()
+                .userName("stats-user")
+                .password("1234")
+                .email("stats@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        for (int i = 0; i < 3; i++) {
+            Reply reply = new Reply();
+            reply.setComment("댓글" + i);
+            reply.setBoard(board);
+            reply.setUser(user);
+            em.persist(reply);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        int repaired = reconciler.reconcile();
+        int repairedAgain = reconciler.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(repairedAgain).isZero();
+        em.clear();
+        Board reconciled = em.find(Board.class, board.getId());
+        assertThat(reconciled.getReplyCount()).isEqualTo(3);
+        assertThat(reconciled.getLastReplyAt()).isEqualTo(
+                em.createQuery("select max(r.createdAt) from Reply r where r.board.id = :id", LocalDateTime.class)
+                        .setParameter("id", board.getId())
+                        .getSingleResult());
+    }
+
+    @Test
+    @DisplayName("reconcile - 댓글 서비스(단건·일괄 등록)로 저장한 댓글의 통계는 보정할 것이 없다")
+    void reconcile_서비스로저장한댓글은_보정하지않는다() {
+        // given
+        User user = User.builder()
+                .userName("stats-user2")
+                .password("1234")
+                .email("stats2@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        em.flush();
+        SessionUser sessionUser = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        String boardId = String.valueOf(board.getId());
+
+        replyService.save(reply(boardId, "댓글1"), sessionUser);
+        replyService.save(reply(boardId, "댓글2"), sessionUser);
+        replyBulkService.saveAll(List.of(reply(boardId, "일괄1"), reply(boardId, "일괄2")),
+                sessionUser);
+        em.flush();
+        em.clear();
+
+        // when
+        int repaired = reconciler.reconcile();
+
+        // then
+        assertThat(repaired).isZero();
+        Board stats = em.find(Board.class, board.getId());
+        assertThat(stats.getReplyCount()).isEqualTo(4);
+    }
+
+    private static ReplyRequestDto reply(String boardId, String comment) {
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId(boardId);
+        dto.setComment(comment);
+        return dto;
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.entity.Board;
+import com.example.v4.board.entity.BoardContent;
+import com.example.v4.board.mapper.BoardMapper;
+import com.example.v4.board.search.BoardSearchIndex;
+import com.example.v4.board.search.TitleSuggester;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
+import com.example.v4.global.dto.Dto;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.exception.BoardAccessDeniedException;
+import com.example.v4.global.monitor.LatencyMetrics;
+import com.example.v4.global.resetclient.RestClients;
+import com.example.v4.global.sql.SqlCountExtension;
+import com.example.v4.global.sql.SqlStatementCounter;
+import com.example.v4.reply.entity.Reply;
+import com.example.v4.reply.service.ReplyService;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 게시글 서비스의 화면별 SQL 문 수 검증 (실제 JPA + 내부 API 호출만 목).
+ */
+@DataJpaTest
+@Import({ BoardService.class, BoardMapper.class, BoardContentRewriter.class, WriterCache.class, ReplyService.class,
+        BoardSearchIndex.class, TitleSuggester.class, PageCache.class, BoardDetailCache.class, BoardVersions.class,
+        BoardContentStore.class, BoardImageStore.class, LatencyMetrics.class })
+@ExtendWith(SqlCountExtension.class)
+@DisplayName("게시글 서비스 SQL 문 수")
+class BoardServiceSqlTest {
+
+    @Autowired
+    private BoardService service;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockitoBean
+    private RestClients rc;
+
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userName("sql-count-user")
+                .password("1234")
+                .email("sql@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+
+        board = Board.builder()
+                .title("SQL 문 수")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        em.persist(BoardContent.of(board.getId(), "내용", 1024));
+        for (int i = 0; i < 5; i++) {
+            Reply reply = new Reply();
+            reply.setComment("댓글" + i);
+            reply.setBoard(board);
+            reply.setUser(user);
+            em.persist(reply);
+        }
+        em.flush();
+        em.clear();
+
+        Dto.User writer = new Dto.User(user.getId(), user.getUserName());
+        given(rc.get(anyString(), eq(Dto.User[].class), anyString())).willReturn(new Dto.User[] { writer });
+        given(rc.get(anyString(), eq(Dto.User.class), eq(user.getId()))).willReturn(writer);
+    }
+
+    @Test
+    @DisplayName("list - 게시글 목록은 SQL 1회로 조회한다")
+    void list_SQL1회다(SqlStatementCounter sql) {
+        // given
+        sql.reset();
+
+        // when
+        var result = service.list(null, null, null);
+
+        // then
+        assertThat(result.boards()).isNotEmpty();
+        assertThat(sql.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getBoardDetail - 게시글 행 1회, 본문 1회, 댓글 첫 페이지(작성자 조인) 1회로 조회하고 반복 조회가 없다")
+    void getBoardDetail_SQL3회이고_N플러스1이없다(SqlStatementCounter sql) {
+        // given
+        SessionUser su = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        sql.reset();
+
+        // when
+        var result = service.getBoardDetail(String.valueOf(board.getId()), su);
+
+        // then
+        assertThat(result.board().getContent()).isEqualTo("내용");
+        assertThat(result.board().getReplies()).hasSize(5);
+        assertThat(result.replyCursor()).isNull();
+        assertThat(sql.count()).isEqualTo(3);
+        assertThat(sql.repeated(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getBoardDetail - 두 번째 조회부터는 상세 캐시에서 읽어 SQL을 실행하지 않고, 본인 댓글 여부는 조회자 기준이다")
+    void getBoardDetail_캐시적중이면_SQL0회다(SqlStatementCounter sql) {
+        // given
+        SessionUser writer = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        SessionUser other = new SessionUser(user.getId() + 1000, "other", "other@email.com");
+        assertThat(service.getBoardDetail(String.valueOf(board.getId()), writer).board().getReplies())
+                .allMatch(reply -> reply.isReplyWriter());
+        sql.reset();
+
+        // when
+        var result = service.getBoardDetail(String.valueOf(board.getId()), other);
+
+        // then
+        assertThat(sql.count()).isZero();
+        assertThat(result.isModify()).isFalse();
+        assertThat(result.board().getReplies()).hasSize(5).noneMatch(reply -> reply.isReplyWriter());
+    }
+
+    @Test
+    @DisplayName("updateBoardIfOwner - 작성자 확인과 제목 수정을 조건부 UPDATE 1회, 본문 교체를 UPDATE 1회로 실행한다")
+    void updateBoardIfOwner_SQL2회다(SqlStatementCounter sql) {
+        // given
+        SessionUser su = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        sql.reset();
+
+        // when
+        service.updateBoardIfOwner(String.valueOf(board.getId()), su, new BoardRequestDto("수정 제목", "수정 내용"));
+
+        // then
+        assertThat(sql.count()).isEqualTo(2);
+        Board updated = em.find(Board.class, board.getId());
+        assertThat(updated.getTitle()).isEqualTo("수정 제목");
+        assertThat(updated.getCreatedAt()).isEqualTo(board.getCreatedAt());
+        assertThat(em.find(BoardContent.class, board.getId()).text()).isEqualTo("수정 내용");
+    }
+
+    @Test
+    @DisplayName("deleteBoardIfOwner - 댓글 일괄 DELETE, 게시글 DELETE, 본문 DELETE 3회로 삭제한다")
+    void deleteBoardIfOwner_SQL3회다(SqlStatementCounter sql) {
+        // given
+        SessionUser su = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        sql.reset();
+
+        // when
+        service.deleteBoardIfOwner(String.valueOf(board.getId()), su);
+
+        // then
+        assertThat(sql.count()).isEqualTo(3);
+        assertThat(em.find(Board.class, board.getId())).isNull();
+        assertThat(em.find(BoardContent.class, board.getId())).isNull();
+        assertThat(em.createQuery("select count(r) from Reply r where r.board.id = :id", Long.class)
+                .setParameter("id", board.getId()).getSingleResult()).isZero();
+    }
+
+    @Test
+    @DisplayName("deleteBoardIfOwner - 작성자가 아니면 댓글과 게시글이 그대로 남는다")
+    void deleteBoardIfOwner_작성자아니면_삭제하지않는다() {
+        // given
+        SessionUser other = new SessionUser(user.getId() + 1000, "other", "other@email.com");
+
+        // when & then
+        assertThatThrownBy(() -> service.deleteBoardIfOwner(String.valueOf(board.getId()), other))
+                .isInstanceOf(BoardAccessDeniedException.class);
+        assertThat(em.createQuery("select count(r) from Reply r where r.board.id = :id", Long.class)
+                .setParameter("id", board.getId()).getSingleResult()).isEqualTo(5);
+    }
+}
@@ -2,14 +2,19 @@ package com.example.v4.board.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -17,18 +22,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.example.v4.board.dto.BoardReponseDto;
 import com.example.v4.board.dto.BoardRequestDto;
+import com.example.v4.board.dto.BoardSummaryDto;
 import com.example.v4.board.entity.Board;
 import com.example.v4.board.mapper.BoardMapper;
 import com.example.v4.board.repository.BoardRepository;
+import com.example.v4.board.repository.BoardSummary;
+import com.example.v4.board.search.BoardSearchIndex;
+import com.example.v4.board.search.TitleSuggester;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
 import com.example.v4.global.dto.Dto;
 import com.example.v4.global.dto.SessionUser;
 import com.example.v4.global.exception.BoardAccessDeniedException;
 import com.example.v4.global.exception.BoardNotFoundException;
 import com.example.v4.global.resetclient.RestClients;
+import com.example.v4.reply.repository.ReplyRepository;
+import com.example.v4.reply.service.ReplyService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("게시글 서비스 단위 테스트")
@@ -40,12 +55,143 @@ class BoardServiceTest {
     @Mock
     private BoardRepository repository;
 
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @Mock
+    private ReplyService replyService;
+
     @Mock
     private RestClients rc;
 
+    @Mock
+    private BoardSearchIndex searchIndex;
+
+    @Mock
+    private TitleSuggester titleSuggester;
+
+    @Mock
+    private PageCache pageCache;
+
+    @Mock
+    private BoardContentStore contentStore;
+
+    @Mock
+    private BoardVersions versions;
+
+    @Spy
+    private BoardDetailCache detailCache = new BoardDetailCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private WriterCache writerCache = new WriterCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private BoardContentRewriter contentRewriter = new BoardContentRewriter();
+
+    // 테스트 본문에 base64 이미지가 없으므로 파일은 만들지 않는다
+    @Spy
+    private BoardImageStore imageStore = new BoardImageStore("build/test-board-images");
+
     @InjectMocks
     private BoardService boardService;
 
+    @Test
+    @DisplayName("list - 작성자 이름은 중복 없는 ID로 내부 API를 한 번만 호출하여 결합한다")
+    void list_작성자이름은_내부API한번호출로_결합한다() {
+        // given
+        given(repository.findByIdLessThanOrderByIdDesc(eq(Integer.MAX_VALUE), any(Limit.class)))
+                .willReturn(List.of(
+                        new BoardSummary(3, "제목3", 1, 0),
+                        new BoardSummary(2, "제목2", 2, 0),
+                        new BoardSummary(1, "제목1", 1, 0)));
+        given(rc.get(anyString(), eq(Dto.User[].class), eq("1,2")))
+                .willReturn(new Dto.User[] { new Dto.User(1, "user1"), new Dto.User(2, "user2") });
+        given(mapper.toSummaryDto(any(BoardSummary.class), anyString())).willAnswer(inv -> {
+            BoardSummary b = inv.getArgument(0);
+            return new BoardSummaryDto(String.valueOf(b.id()), b.title(), String.valueOf(b.writerId()),
+                    inv.getArgument(1), b.replyCount());
+        });
+
+        // when
+        var result = boardService.list(null, null, null);
+
+        // then
+        assertThat(result.boards())
+                .extracting("id", "writeName")
+                .containsExactly(
+                        tuple("3", "user1"),
+                        tuple("2", "user2"),
+                        tuple("1", "user1"));
+        assertThat(result.prevCursor()).isNull();
+        assertThat(result.nextCursor()).isNull();
+        then(rc).should(times(1)).get(anyString(), eq(Dto.User[].class), eq("1,2"));
+    }
+
+    @Test
+    @DisplayName("list - 페이지 크기보다 많으면 다음 커서를, 커서로 이동했으면 이전 커서를 반환한다")
+    void list_커서로이동하면_이전다음커서를반환한다() {
+        // given
+        List<BoardSummary> boards = new ArrayList<>();
+        for (int id = 50; id > 50 - BoardService.PAGE_SIZE - 1; id--) {
+            boards.add(new BoardSummary(id, "제목" + id, 1, 0));
+        }
+        given(repository.findByIdLessThanOrderByIdDesc(eq(51), any(Limit.class))).willReturn(boards);
+        given(rc.get(anyString(), eq(Dto.User[].class), eq("1")))
+                .willReturn(new Dto.User[] { new Dto.User(1, "user1") });
+
+        // when
+        var result = boardService.list(null, 51, null);
+
+        // then
+        assertThat(result.boards()).hasSize(BoardService.PAGE_SIZE);
+        assertThat(result.prevCursor()).isEqualTo(50);
+        assertThat(result.nextCursor()).isEqualTo(50 - BoardService.PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("list - 작성자 캐시에 있는 작성자는 내부 API를 다시 호출하지 않는다")
+    void list_캐시된작성자는_내부API를다시호출하지않는다() {
+        // given
+        given(repository.findByIdLessThanOrderByIdDesc(eq(Integer.MAX_VALUE), any(Limit.class)))
+                .willReturn(List.of(new BoardSummary(2, "제목2", 1, 0), new BoardSummary(1, "제목1", 1, 0)));
+        given(rc.get(anyString(), eq(Dto.User[].class), eq("1")))
+                .willReturn(new Dto.User[] { new Dto.User(1, "user1") });
+
+        // when
+        boardService.list(null, null, null);
+        boardService.list(null, null, null);
+
+        // then
+        then(rc).should(times(1)).get(anyString(), eq(Dto.User[].class), eq("1"));
+        assertThat(writerCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("search - 색인의 순위대로 게시글을 조회하고 전체 일치 건수로 다음 페이지 여부를 판단한다")
+    void search_색인순위대로_게시글을반환한다() {
+        // given
+        given(searchIndex.search("스프링", 10, BoardService.PAGE_SIZE)).willReturn(new BoardSearchIndex.Hits(
+                List.of(new BoardSearchIndex.Hit(3, 2.0), new BoardSearchIndex.Hit(1, 1.0)), 22));
+        given(repository.findByIdIn(List.of(3, 1)))
+                .willReturn(List.of(new BoardSummary(1, "제목1", 1, 0), new BoardSummary(3, "제목3", 1, 0)));
+        given(rc.get(anyString(), eq(Dto.User[].class), eq("1")))
+                .willReturn(new Dto.User[] { new Dto.User(1, "user1") });
+        given(mapper.toSummaryDto(any(BoardSummary.class), anyString())).willAnswer(inv -> {
+            BoardSummary b = inv.getArgument(0);
+            return new BoardSummaryDto(String.valueOf(b.id()), b.title(), String.valueOf(b.writerId()),
+                    inv.getArgument(1), b.replyCount());
+        });
+
+        // when
+        BoardService.BoardSearchResult result = boardService.search("  스프링 ", 1);
+
+        // then
+        assertThat(result.boards()).extracting(BoardSummaryDto::getId).containsExactly("3", "1");
+        assertThat(result.query()).isEqualTo("스프링");
+        assertThat(result.total()).isEqualTo(22);
+        assertThat(result.hasNext()).isTrue();
+    }
+
     @Test
     @DisplayName("insert - 로그인 사용자가 있으면 게시글이 저장된다")
     void insert_로그인사용자면_게시글이저장된다() {
@@ -65,7 +211,11 @@ class BoardServiceTest {
         boardService.insert(dto, user);
 
         // then
-        // insert 내부에서 save 호출 후 예외 없이 완료되면 성공
+        // insert 내부에서 save 호출 후 예외 없이 완료되면 성공, 본문은 별도 저장소에 INSERT하고 검색 색인에 반영
+        then(contentStore).should().create(1, "내용");
+        then(searchIndex).should().index(1, "제목", "내용");
+        then(titleSuggester).should().index(1, "제목");
+        then(pageCache).should().invalidate("board:1", PageCache.INDEX);
     }
 
     @Test
@@ -86,25 +236,17 @@ class BoardServiceTest {
         // given
         SessionUser user = new SessionUser(1, "user1", "user1@email.com");
         BoardRequestDto dto = new BoardRequestDto("수정 제목", "수정 내용");
-        Board board = Board.builder()
-                .id(1)
-                .title("원본")
-                .content("내용")
-                .writerId(1)
-                .build();
-        BoardReponseDto responseDto = new BoardReponseDto("1", "원본", "내용", "1", "user1", new ArrayList<>());
-
-        given(repository.findById(1)).willReturn(Optional.of(board));
-        given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
-        given(mapper.toResponseDto(any(Board.class), anyString(), eq(user))).willReturn(responseDto);
-        given(mapper.toBoard(eq(1), eq(1), any(BoardRequestDto.class))).willReturn(board);
-        given(repository.save(any(Board.class))).willReturn(board);
+        given(repository.updateTitleByIdAndWriterId(1, 1, "수정 제목")).willReturn(1);
 
         // when
         boardService.updateBoardIfOwner("1", user, dto);
 
         // then
-        // 예외 없이 완료되면 성공
+        then(repository).should(times(0)).findWriterIdById(anyInt());
+        then(contentStore).should().update(eq(1), anyString());
+        then(searchIndex).should().index(eq(1), eq("수정 제목"), anyString());
+        then(titleSuggester).should().index(1, "수정 제목");
+        then(pageCache).should().invalidate("board:1", PageCache.INDEX);
     }
 
     @Test
@@ -113,22 +255,33 @@ class BoardServiceTest {
         // given
         SessionUser differentUser = new SessionUser(2, "user2", "user2@email.com");
         BoardRequestDto dto = new BoardRequestDto("수정 제목", "수정 내용");
-        Board board = Board.builder()
-                .id(1)
-                .title("원본")
-                .content("내용")
-                .writerId(1)
-                .build();
-        BoardReponseDto responseDto = new BoardReponseDto("1", "원본", "내용", "1", "user1", new ArrayList<>());
-
-        given(repository.findById(1)).willReturn(Optional.of(board));
-        given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
-        given(mapper.toResponseDto(any(Board.class), anyString(), eq(differentUser))).willReturn(responseDto);
+        given(repository.updateTitleByIdAndWriterId(eq(1), eq(2), anyString())).willReturn(0);
+        given(repository.findWriterIdById(1)).willReturn(Optional.of(1));
 
         // when & then
         assertThatThrownBy(() -> boardService.updateBoardIfOwner("1", differentUser, dto))
                 .isInstanceOf(BoardAccessDeniedException.class)
                 .hasMessage("수정 권한이 없습니다.");
+        then(imageStore).shouldHaveNoInteractions();
+        then(contentStore).shouldHaveNoInteractions();
+        then(searchIndex).shouldHaveNoInteractions();
+        then(titleSuggester).shouldHaveNoInteractions();
+        then(pageCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("updateBoardIfOwner - 존재하지 않는 게시글이면 예외를 던진다")
+    void updateBoardIfOwner_존재하지않으면_예외를던진다() {
+        // given
+        SessionUser user = new SessionUser(1, "user1", "user1@email.com");
+        BoardRequestDto dto = new BoardRequestDto("수정 제목", "수정 내용");
+        given(repository.updateTitleByIdAndWriterId(eq(999), eq(1), anyString())).willReturn(0);
+        given(repository.findWriterIdById(999)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> boardService.updateBoardIfOwner("999", user, dto))
+                .isInstanceOf(BoardNotFoundException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
     }
 
     @Test
@@ -148,23 +301,19 @@ class BoardServiceTest {
     void deleteBoardIfOwner_작성자본인이면_삭제된다() {
         // given
         SessionUser user = new SessionUser(1, "user1", "user1@email.com");
-        Board board = Board.builder()
-                .id(1)
-                .title("제목")
-                .content("내용")
-                .writerId(1)
-                .build();
-        BoardReponseDto responseDto = new BoardReponseDto("1", "제목", "내용", "1", "user1", new ArrayList<>());
-
-        given(repository.findById(1)).willReturn(Optional.of(board));
-        given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
-        given(mapper.toResponseDto(any(Board.class), anyString(), eq(user))).willReturn(responseDto);
+        given(repository.deleteByIdAndWriterId(1, 1)).willReturn(1);
 
         // when
         boardService.deleteBoardIfOwner("1", user);
 
         // then
-        // 예외 없이 완료되면 성공 (delete 내부에서 repository.delete 호출)
+        then(replyRepository).should().deleteAllByBoardIdAndWriterId(1, 1);
+        then(repository).should(times(0)).findWriterIdById(anyInt());
+        then(contentStore).should().delete(1);
+        then(searchIndex).should().remove(1);
+        then(titleSuggester).should().remove(1);
+        then(pageCache).should().invalidate("board:1", PageCache.INDEX);
+        then(versions).should().remove(1);
     }
 
     @Test
@@ -172,17 +321,8 @@ class BoardServiceTest {
     void deleteBoardIfOwner_작성자아니면_예외를던진다() {
         // given
         SessionUser differentUser = new SessionUser(2, "user2", "user2@email.com");
-        Board board = Board.builder()
-                .id(1)
-                .title("제목")
-                .content("내용")
-                .writerId(1)
-                .build();
-        BoardReponseDto responseDto = new BoardReponseDto("1", "제목", "내용", "1", "user1", new ArrayList<>());
-
-        given(repository.findById(1)).willReturn(Optional.of(board));
-        given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
-        given(mapper.toResponseDto(any(Board.class), anyString(), eq(differentUser))).willReturn(responseDto);
+        given(repository.deleteByIdAndWriterId(1, 2)).willReturn(0);
+        given(repository.findWriterIdById(1)).willReturn(Optional.of(1));
 
         // when & then
         assertThatThrownBy(() -> boardService.deleteBoardIfOwner("1", differentUser))
@@ -190,6 +330,20 @@ class BoardServiceTest {
                 .hasMessage("삭제 권한이 없습니다.");
     }
 
+    @Test
+    @DisplayName("deleteBoardIfOwner - 존재하지 않는 게시글이면 예외를 던진다")
+    void deleteBoardIfOwner_존재하지않으면_예외를던진다() {
+        // given
+        SessionUser user = new SessionUser(1, "user1", "user1@email.com");
+        given(repository.deleteByIdAndWriterId(999, 1)).willReturn(0);
+        given(repository.findWriterIdById(999)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> boardService.deleteBoardIfOwner("999", user))
+                .isInstanceOf(BoardNotFoundException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
+    }
+
     @Test
     @DisplayName("getBoardDetail - 존재하지 않는 게시글이면 예외를 던진다")
     void getBoardDetail_존재하지않으면_예외를던진다() {
@@ -214,11 +368,15 @@ class BoardServiceTest {
                 .content("내용")
                 .writerId(1)
                 .build();
+        BoardDetailCache.Detail detail = new BoardDetailCache.Detail(1, "제목", "내용", 1, "user1", List.of(), 30);
         BoardReponseDto responseDto = new BoardReponseDto("1", "제목", "내용", "1", "user1", new ArrayList<>());
 
         given(repository.findById(1)).willReturn(Optional.of(board));
+        given(contentStore.read(1)).willReturn("내용");
+        given(replyService.page(1, null, null)).willReturn(new ReplyService.ReplyPage(List.of(), 30));
         given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
-        given(mapper.toResponseDto(any(Board.class), anyString(), eq(user))).willReturn(responseDto);
+        given(mapper.toDetail(board, "user1", List.of(), 30)).willReturn(detail);
+        given(mapper.toResponseDto(detail, user)).willReturn(responseDto);
 
         // when
         var result = boardService.getBoardDetail("1", user);
@@ -226,45 +384,37 @@ class BoardServiceTest {
         // then
         assertThat(result.board()).isEqualTo(responseDto);
         assertThat(result.isModify()).isTrue();
+        assertThat(result.replyCursor()).isEqualTo(30);
     }
 
     @Test
-    @DisplayName("jsoupYouTubeParser - YouTube URL이 포함되면 iframe으로 변환한다")
-    void jsoupYouTubeParser_youtubeURL이면_iframe으로변환한다() {
+    @DisplayName("getBoardDetail - 같은 게시글은 상세 캐시에서 읽고 수정 가능 여부만 조회자별로 계산하며, 수정하면 다시 읽는다")
+    void getBoardDetail_상세캐시를_사용한다() {
         // given
-        String content = "영상 링크: https://www.youtube.com/watch?v=dQw4w9WgXcQ";
-
-        // when
-        String result = boardService.jsoupYouTubeParser(content);
-
-        // then
-        assertThat(result).contains("iframe");
-        assertThat(result).contains("youtube.com/embed/dQw4w9WgXcQ");
-    }
-
-    @Test
-    @DisplayName("jsoupYouTubeParser - youtu.be 짧은 URL도 iframe으로 변환한다")
-    void jsoupYouTubeParser_youtuBe짧은URL도_iframe으로변환한다() {
-        // given
-        String content = "https://youtu.be/dQw4w9WgXcQ";
+        SessionUser writer = new SessionUser(1, "user1", "user1@email.com");
+        SessionUser other = new SessionUser(2, "user2", "user2@email.com");
+        Board board = Board.builder().id(1).title("제목").content("내용").writerId(1).build();
+        BoardDetailCache.Detail detail = new BoardDetailCache.Detail(1, "제목", "내용", 1, "user1", List.of(), null);
+        given(repository.findById(1)).willReturn(Optional.of(board));
+        given(contentStore.read(1)).willReturn("내용");
+        given(replyService.page(1, null, null)).willReturn(new ReplyService.ReplyPage(List.of(), null));
+        given(rc.get(anyString(), eq(Dto.User.class), anyInt())).willReturn(new Dto.User(1, "user1"));
+        given(mapper.toDetail(board, "user1", List.of(), null)).willReturn(detail);
 
         // when
-        String result = boardService.jsoupYouTubeParser(content);
-
-        // then
-        assertThat(result).contains("iframe");
-        assertThat(result).contains("youtube.com/embed/dQw4w9WgXcQ");
-    }
-
-    @Test
-    @DisplayName("jsoupYouTubeParser - null 또는 빈 문자열이면 그대로 반환한다")
-    void jsoupYouTubeParser_null이면_그대로반환한다() {
-        // given & when
-        String nullResult = boardService.jsoupYouTubeParser(null);
-        String blankResult = boardService.jsoupYouTubeParser("   ");
+        boolean writerModify = boardService.getBoardDetail("1", writer).isModify();
+        boolean otherModify = boardService.getBoardDetail("1", other).isModify();
+        boardService.getBoardForUpdateForm("1", writer);
+        given(repository.updateTitleByIdAndWriterId(eq(1), eq(1), anyString())).willReturn(1);
+        boardService.updateBoardIfOwner("1", writer, new BoardRequestDto("수정 제목", "수정 내용"));
+        boardService.getBoardDetail("1", other);
 
         // then
-        assertThat(nullResult).isNull();
-        assertThat(blankResult).isEqualTo("   ");
+        assertThat(writerModify).isTrue();
+        assertThat(otherModify).isFalse();
+        then(repository).should(times(2)).findById(1);
+        then(contentStore).should(times(2)).read(1);
+        then(mapper).should(times(2)).toResponseDto(detail, other);
+        then(mapper).should().toFormDto(detail);
     }
 }
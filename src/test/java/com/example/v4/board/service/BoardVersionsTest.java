@@ -0,0 +1,116 @@
+package com.example.v4.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v4.global.dto.SessionUser;
+
+@DisplayName("게시글 버전 스탬프 단위 테스트")
+class BoardVersionsTest {
+
+    private final BoardVersions versions = new BoardVersions(100, Runnable::run);
+    private final SessionUser user = new SessionUser(1, "user1", "user1@email.com");
+
+    @Test
+    @DisplayName("touch - 해당 게시글과 목록의 검증자만 바꾸고 다른 게시글은 그대로 둔다")
+    void touch_해당게시글과목록만_바꾼다() {
+        // given
+        BoardVersions.Validators board1 = versions.detail(1, null);
+        BoardVersions.Validators board2 = versions.detail(2, null);
+        BoardVersions.Validators index = versions.index(null);
+
+        // when
+        versions.touch(1);
+
+        // then
+        assertThat(versions.detail(1, null).etag()).isNotEqualTo(board1.etag());
+        assertThat(versions.detail(1, null).lastModified()).isGreaterThan(board1.lastModified());
+        assertThat(versions.detail(2, null)).isEqualTo(board2);
+        assertThat(versions.index(null).etag()).isNotEqualTo(index.etag());
+    }
+
+    @Test
+    @DisplayName("touch - 같은 초 안에 연속으로 바뀌어도 Last-Modified가 매번 1초 이상 증가한다")
+    void touch_LastModified가_매번증가한다() {
+        // given
+        long before = versions.detail(1, null).lastModified();
+
+        // when
+        versions.touch(1);
+        versions.touch(1);
+
+        // then
+        assertThat(versions.detail(1, null).lastModified()).isGreaterThanOrEqualTo(before + 2000);
+        assertThat(versions.detail(1, null).lastModified() % 1000).isZero();
+    }
+
+    @Test
+    @DisplayName("detail/index - 비로그인과 로그인 사용자의 ETag가 다르다 (화면이 다름)")
+    void etag_조회자별로_다르다() {
+        // when & then
+        assertThat(versions.detail(1, user).etag()).isNotEqualTo(versions.detail(1, null).etag());
+        assertThat(versions.index(user).etag()).isNotEqualTo(versions.index(null).etag()).startsWith("W/\"");
+    }
+
+    @Test
+    @DisplayName("touchAll - 모든 게시글과 목록의 검증자를 바꾼다")
+    void touchAll_모든검증자를_바꾼다() {
+        // given
+        BoardVersions.Validators board = versions.detail(7, user);
+        BoardVersions.Validators index = versions.index(user);
+
+        // when
+        versions.touchAll();
+
+        // then
+        assertThat(versions.detail(7, user).etag()).isNotEqualTo(board.etag());
+        assertThat(versions.index(user).etag()).isNotEqualTo(index.etag());
+    }
+
+    @Test
+    @DisplayName("remove - 삭제한 게시글의 검증자는 삭제 전·쓰기 전에 내보낸 검증자와 모두 다르다")
+    void remove_삭제전검증자와_겹치지않는다() {
+        // given
+        BoardVersions.Validators untouched = versions.detail(1, null);
+        versions.touch(1);
+        BoardVersions.Validators touched = versions.detail(1, null);
+        BoardVersions.Validators index = versions.index(null);
+
+        // when
+        versions.remove(1);
+
+        // then
+        BoardVersions.Validators removed = versions.detail(1, null);
+        assertThat(removed.etag()).isNotEqualTo(untouched.etag()).isNotEqualTo(touched.etag());
+        assertThat(removed.lastModified()).isGreaterThan(touched.lastModified());
+        assertThat(versions.index(null).etag()).isNotEqualTo(index.etag());
+    }
+
+    @Test
+    @DisplayName("touch - 최대 건수를 넘겨 축출된 게시글도 쓰기 전의 검증자로 돌아가지 않는다")
+    void touch_축출되어도_쓰기전검증자로_돌아가지않는다() {
+        // given
+        BoardVersions bounded = new BoardVersions(2, Runnable::run);
+        Map<Integer, BoardVersions.Validators> untouched = new HashMap<>();
+        Map<Integer, BoardVersions.Validators> touched = new HashMap<>();
+
+        // when
+        for (int boardId = 1; boardId <= 50; boardId++) {
+            untouched.put(boardId, bounded.detail(boardId, null));
+            bounded.touch(boardId);
+            touched.put(boardId, bounded.detail(boardId, null));
+        }
+
+        // then
+        for (int boardId = 1; boardId <= 50; boardId++) {
+            BoardVersions.Validators current = bounded.detail(boardId, null);
+            assertThat(current.etag()).isNotEqualTo(untouched.get(boardId).etag());
+            assertThat(current.lastModified()).isGreaterThanOrEqualTo(touched.get(boardId).lastModified());
+        }
+    }
+}
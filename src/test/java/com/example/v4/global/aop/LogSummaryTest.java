@@ -0,0 +1,64 @@
+package com.example.v4.global.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v4.global.dto.SessionUser;
+
+@DisplayName("AOP 로그 요약 단위 테스트")
+class LogSummaryTest {
+
+    @Test
+    @DisplayName("ofArgs - 민감 타입은 마스킹하고 긴 문자열은 잘라서 전체 길이를 표시한다")
+    void ofArgs_민감타입은_마스킹하고_긴문자열은_자른다() {
+        // given
+        Object[] args = { "1", "a".repeat(50), new SessionUser(1, "ssar", "ssar@nate.com"), null };
+
+        // when
+        String result = LogSummary.ofArgs(args, 10, 3).toString();
+
+        // then
+        assertThat(result).isEqualTo("[1, aaaaaaaaaa...(50 chars), ***, null]");
+    }
+
+    @Test
+    @DisplayName("of - 컬렉션은 앞쪽 요소만 표시하고 크기를 함께 표시한다")
+    void of_컬렉션은_앞쪽요소와_크기만표시한다() {
+        // given
+        List<Object> boards = List.of("b1", "b2", "b3", List.of("r1", "r2"));
+
+        // when
+        String result = LogSummary.of(boards, 200, 2).toString();
+        String nested = LogSummary.of(List.of(List.of("r1", "r2")), 200, 2).toString();
+
+        // then
+        assertThat(result).isEqualTo("[b1, b2, ... (size=4)]");
+        assertThat(nested).isEqualTo("[[size=2]]");
+    }
+
+    @Test
+    @DisplayName("toString 전에는 값을 문자열로 변환하지 않는다")
+    void toString전에는_변환하지않는다() {
+        // given
+        int[] calls = { 0 };
+        Object value = new Object() {
+            @Override
+            public String toString() {
+                calls[0]++;
+                return "value";
+            }
+        };
+
+        // when
+        LogSummary summary = LogSummary.of(value, 200, 3);
+
+        // then
+        assertThat(calls[0]).isZero();
+        assertThat(summary.toString()).isEqualTo("value");
+        assertThat(calls[0]).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.v4.global.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@DisplayName("AOP 로깅 Aspect 단위 테스트")
+class LoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("logAround - 샘플링되지 않은 호출도 예외가 나면 ERROR 로그를 남긴다")
+    void logAround_샘플링되지않은_호출의_예외도_기록한다() throws Throwable {
+        // given
+        LoggingAspect aspect = new LoggingAspect(0.0, "", 200, 3);
+        IllegalStateException failure = new IllegalStateException("실패");
+        ProceedingJoinPoint joinPoint = joinPoint("save");
+        given(joinPoint.proceed()).willThrow(failure);
+
+        // when
+        assertThatThrownBy(() -> aspect.logAround(joinPoint)).isSameAs(failure);
+
+        // then
+        List<ILoggingEvent> events = appender.list;
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLevel()).isEqualTo(Level.ERROR);
+        assertThat(events.get(0).getFormattedMessage()).isEqualTo("[AOP] LoggingAspectTest#save 예외 - 실패");
+        assertThat(events.get(0).getThrowableProxy().getMessage()).isEqualTo("실패");
+    }
+
+    @Test
+    @DisplayName("logAround - 샘플링되지 않은 정상 호출은 로그를 남기지 않는다")
+    void logAround_샘플링되지않은_정상호출은_기록하지않는다() throws Throwable {
+        // given
+        LoggingAspect aspect = new LoggingAspect(0.0, "", 200, 3);
+        ProceedingJoinPoint joinPoint = joinPoint("findById");
+        given(joinPoint.proceed()).willReturn("result");
+
+        // when
+        Object result = aspect.logAround(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(appender.list).isEmpty();
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        given(signature.getName()).willReturn(methodName);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(joinPoint.getThis()).willReturn(this);
+        return joinPoint;
+    }
+}
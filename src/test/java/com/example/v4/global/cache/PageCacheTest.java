@@ -0,0 +1,186 @@
+package com.example.v4.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("비로그인 페이지 캐시 단위 테스트")
+class PageCacheTest {
+
+    private final PageCache cache = new PageCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("get - 처음에는 직접 렌더링해 저장하고, 이후에는 렌더링 없이 저장된 페이지를 반환한다")
+    void get_저장된페이지를_반환한다() throws Exception {
+        // given
+        AtomicInteger renders = new AtomicInteger();
+        PageCache.Renderer renderer = () -> {
+            renders.incrementAndGet();
+            return page("목록", PageCache.INDEX);
+        };
+
+        // when
+        PageCache.Page first = cache.get("/", renderer);
+        PageCache.Page second = cache.get("/", renderer);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(new String(second.body(), StandardCharsets.UTF_8)).isEqualTo("목록");
+        assertThat(renders).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate - 해당 대리 키가 붙은 페이지만 버리고 다른 페이지는 유지한다")
+    void invalidate_대리키가붙은페이지만_버린다() throws Exception {
+        // given
+        cache.get("/board/detail/1", () -> page("글1", "board:1", "writer:1"));
+        cache.get("/board/detail/2", () -> page("글2", "board:2", "writer:2"));
+        cache.get("/", () -> page("목록", PageCache.INDEX, "writer:1", "writer:2"));
+
+        // when
+        cache.invalidate(PageCache.writer(1));
+
+        // then
+        assertThat(cache.get("/board/detail/1", () -> null)).isNull();
+        assertThat(cache.get("/", () -> null)).isNull();
+        assertThat(cache.get("/board/detail/2", () -> null)).isNotNull();
+        assertThat(cache.stats().staleCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("get - 렌더링 도중 무효화되면 렌더링 결과를 저장하지 않는다")
+    void get_렌더링도중무효화되면_저장하지않는다() throws Exception {
+        // given: 렌더링이 변경 전 데이터를 읽은 뒤 쓰기가 커밋된 상황
+        cache.get("/board/detail/1", () -> {
+            cache.invalidate(PageCache.board(1));
+            return page("변경 전", "board:1");
+        });
+
+        // when
+        AtomicInteger renders = new AtomicInteger();
+        PageCache.Page page = cache.get("/board/detail/1", () -> {
+            renders.incrementAndGet();
+            return page("변경 후", "board:1");
+        });
+
+        // then
+        assertThat(page).isNull();
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidate - 무효화 세대는 무효화 전에 저장된 페이지가 만료될 때까지만 기록한다")
+    void invalidate_무효화세대는_페이지TTL이지나면_잊는다() throws Exception {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        PageCache expiring = new PageCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5), nanos::get);
+        expiring.get("/board/detail/1", () -> page("글1", "board:1"));
+        for (int i = 0; i < 100; i++) {
+            expiring.invalidate(PageCache.board(i));
+        }
+
+        // when: 페이지 TTL만 지남
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // then: 무효화 전에 저장된 페이지가 만료될 때까지는 기록을 유지한다
+        assertThat(expiring.get("/board/detail/1", () -> null)).isNull();
+        assertThat(expiring.stats().trackedTags()).isEqualTo(100);
+
+        // when: 페이지 TTL의 2배가 지남
+        nanos.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        // then
+        assertThat(expiring.stats().trackedTags()).isZero();
+    }
+
+    @Test
+    @DisplayName("get - 대리 키가 없는 페이지는 무효화할 수 없으므로 저장하지 않는다")
+    void get_대리키없으면_저장하지않는다() throws Exception {
+        // given
+        cache.get("/", () -> page("목록"));
+
+        // when & then
+        assertThat(cache.get("/", () -> null)).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("get - 같은 키를 동시에 놓친 요청은 한 번만 렌더링하고 나머지는 그 결과를 재사용한다")
+    void get_동시미스는_한번만렌더링한다() throws Exception {
+        // given: 첫 요청의 렌더링이 끝나지 않은 동안 나머지 요청이 도착
+        AtomicInteger renders = new AtomicInteger();
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> call(() -> cache.get("/", () -> {
+            renders.incrementAndGet();
+            rendering.countDown();
+            call(release::await);
+            return page("목록", PageCache.INDEX);
+        })));
+        leader.start();
+        rendering.await();
+
+        int waiters = 8;
+        List<Thread> threads = new ArrayList<>();
+        List<AtomicReference<PageCache.Page>> results = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            AtomicReference<PageCache.Page> result = new AtomicReference<>();
+            results.add(result);
+            Thread thread = new Thread(() -> call(() -> result.set(cache.get("/", () -> {
+                renders.incrementAndGet();
+                return page("중복 렌더링", PageCache.INDEX);
+            }))));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+
+        // when
+        release.countDown();
+        leader.join();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(renders).hasValue(1);
+        assertThat(results).allSatisfy(result -> assertThat(new String(result.get().body(), StandardCharsets.UTF_8))
+                .isEqualTo("목록"));
+        assertThat(cache.stats().coalescedCount()).isEqualTo(waiters);
+    }
+
+    private static PageCache.Page page(String body, String... tags) {
+        return new PageCache.Page(body.getBytes(StandardCharsets.UTF_8), "text/html;charset=UTF-8", Map.of(),
+                Set.of(tags));
+    }
+
+    private static void call(ThrowingRunnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.v4.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.v4.global.dto.Dto;
+
+@DisplayName("작성자 캐시 단위 테스트")
+class WriterCacheTest {
+
+    private final WriterCache cache = new WriterCache(100, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("invalidate - 트랜잭션 안에서는 커밋 전까지 항목을 유지하고 커밋 후에 제거한다")
+    void invalidate_커밋후에_제거한다() {
+        // given
+        cache.get(1, id -> user(id, "변경 전"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidate(1);
+
+        // then: 커밋 전 동시 조회는 캐시된 값을 그대로 쓰고, 변경 전 행을 다시 읽어 저장하지 않는다
+        assertThat(cache.get(1, id -> user(id, "커밋 전 재조회")).name()).isEqualTo("변경 전");
+
+        // when: 커밋
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(cache.get(1, id -> user(id, "변경 후")).name()).isEqualTo("변경 후");
+    }
+
+    @Test
+    @DisplayName("invalidate - 트랜잭션 밖에서는 바로 제거한다")
+    void invalidate_트랜잭션밖에서는_바로제거한다() {
+        // given
+        cache.get(1, id -> user(id, "변경 전"));
+
+        // when
+        cache.invalidate(1);
+
+        // then
+        assertThat(cache.get(1, id -> user(id, "변경 후")).name()).isEqualTo("변경 후");
+    }
+
+    private static Dto.User user(Integer id, String name) {
+        return new Dto.User(id, name);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.v4.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("내부 API 접근 제한 단위 테스트")
+class InternalApiInterceptorTest {
+
+    private final InternalApiInterceptor interceptor = new InternalApiInterceptor("127.0.0.1, ::1, 10.0.0.5");
+
+    @Test
+    @DisplayName("preHandle - 허용한 주소(IPv6 표기 차이 포함)의 요청은 통과시킨다")
+    void preHandle_허용한주소는_통과한다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean loopback = interceptor.preHandle(request("127.0.0.1"), response, null);
+        boolean ipv6 = interceptor.preHandle(request("0:0:0:0:0:0:0:1"), response, null);
+        boolean listed = interceptor.preHandle(request("10.0.0.5"), response, null);
+
+        // then
+        assertThat(loopback).isTrue();
+        assertThat(ipv6).isTrue();
+        assertThat(listed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("preHandle - 허용하지 않은 주소의 요청은 403으로 응답하고 핸들러를 실행하지 않는다")
+    void preHandle_허용하지않은주소는_403이다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean result = interceptor.preHandle(request("203.0.113.7"), response, null);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("생성자 - IP 주소가 아닌 항목은 거부한다")
+    void 생성자_IP주소가아니면_예외() {
+        // when & then
+        assertThatThrownBy(() -> new InternalApiInterceptor("127.0.0.1,example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/internal/latency");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
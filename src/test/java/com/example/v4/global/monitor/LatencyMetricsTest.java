@@ -0,0 +1,54 @@
+package com.example.v4.global.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("응답 시간 히스토그램 단위 테스트")
+class LatencyMetricsTest {
+
+    private final LatencyMetrics metrics = new LatencyMetrics(Duration.ofSeconds(20), Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("snapshot - 잘린 구간의 백분위수와 최댓값을 ms 단위로 계산한다")
+    void snapshot_백분위수를_계산한다() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            metrics.record("BoardController#index", i * 1_000_000L);
+        }
+
+        // when
+        metrics.roll();
+        var snapshot = metrics.snapshot().get(0);
+
+        // then
+        assertThat(snapshot.name()).isEqualTo("BoardController#index");
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50Ms()).isCloseTo(50, within(1.0));
+        assertThat(snapshot.p99Ms()).isCloseTo(99, within(1.0));
+        assertThat(snapshot.maxMs()).isCloseTo(100, within(1.0));
+    }
+
+    @Test
+    @DisplayName("roll - 윈도우를 벗어난 구간은 제외하고 누적 건수는 유지한다")
+    void roll_윈도우를벗어난구간은_제외한다() {
+        // given
+        metrics.record("RestClients GET /api/user/info?writerId={writerId}", 5_000_000L);
+        metrics.roll();
+
+        // when
+        metrics.roll();
+        var inWindow = metrics.snapshot().get(0);
+        metrics.roll();
+        var expired = metrics.snapshot().get(0);
+
+        // then
+        assertThat(inWindow.count()).isEqualTo(1);
+        assertThat(expired.count()).isZero();
+        assertThat(expired.totalCount()).isEqualTo(1);
+    }
+}
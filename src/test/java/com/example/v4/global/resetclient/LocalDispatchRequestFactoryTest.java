@@ -0,0 +1,310 @@
+package com.example.v4.global.resetclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClient;
+
+import com.example.v4.global.exception.BoardNotFoundException;
+import com.example.v4.global.exception.UserDuplicationException;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 같은 요청을 local(프로세스 내 호출)과 http(실제 HTTP) 전송으로 보내
+ * 상태 코드와 본문이 같은지 비교한다. 오류 응답의 timestamp만 비교에서 뺀다.
+ */
+@DisplayName("로컬 호출과 HTTP 호출의 응답 일치 테스트")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.board.image.dir=build/test-board-images")
+@Import(LocalDispatchRequestFactoryTest.DispatchTestController.class)
+class LocalDispatchRequestFactoryTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private RestClient local;
+    private RestClient http;
+
+    @BeforeEach
+    void setUp() {
+        String baseUrl = "http://localhost:" + port;
+        JdkClientHttpRequestFactory remote = new JdkClientHttpRequestFactory();
+        local = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new LocalDispatchRequestFactory(remote, baseUrl, context))
+                .build();
+        http = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(remote)
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공 응답 - 반환 객체를 같은 JSON으로 직렬화한다")
+    void 성공_응답이_같다() {
+        // when
+        Result result = assertSame(HttpMethod.GET, "/api/test-dispatch/greeting?name=ssar", null);
+
+        // then
+        assertThat(result.status()).isEqualTo(200);
+        assertThat(result.body()).isEqualTo("{\"message\":\"hello ssar\"}");
+    }
+
+    @Test
+    @DisplayName("ResponseEntity - 요청 본문을 읽고 상태 코드와 헤더를 그대로 돌려준다")
+    void ResponseEntity_응답이_같다() {
+        // when
+        Result result = assertSame(HttpMethod.POST, "/api/test-dispatch/greeting", "{\"message\":\"hi\"}");
+
+        // then
+        assertThat(result.status()).isEqualTo(201);
+        assertThat(result.body()).isEqualTo("{\"message\":\"hi\"}");
+    }
+
+    @Test
+    @DisplayName("@ExceptionHandler - GlobalExceptionHandler의 상태 코드와 Warning 메시지를 돌려준다")
+    void 예외핸들러_응답이_같다() {
+        // when
+        Result notFound = assertSame(HttpMethod.GET, "/api/test-dispatch/board-not-found", null);
+        Result conflict = assertSame(HttpMethod.GET, "/api/test-dispatch/duplicate", null);
+
+        // then
+        assertThat(notFound.status()).isEqualTo(404);
+        assertThat(notFound.body()).isEqualTo("Warning: 게시글이 없습니다.");
+        assertThat(conflict.status()).isEqualTo(409);
+        assertThat(conflict.body()).isEqualTo("Warning: 이미 존재하는 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외 - @ResponseStatus 또는 500 상태 코드와 Boot 오류 응답 본문을 돌려준다")
+    void 처리되지않은_예외_응답이_같다() {
+        // when
+        Result gone = assertSame(HttpMethod.GET, "/api/test-dispatch/gone", null);
+        Result failure = assertSame(HttpMethod.GET, "/api/test-dispatch/failure", null);
+
+        // then
+        assertThat(gone.status()).isEqualTo(410);
+        assertThat(gone.body()).contains("\"path\":\"/api/test-dispatch/gone\"");
+        assertThat(failure.status()).isEqualTo(500);
+        assertThat(failure.body()).contains("\"error\":\"Internal Server Error\"");
+    }
+
+    @Test
+    @DisplayName("인자 바인딩 실패 - 파라미터 누락과 형 변환 실패는 400과 Boot 오류 응답 본문을 돌려준다")
+    void 바인딩실패_응답이_같다() {
+        // when
+        Result missing = assertSame(HttpMethod.GET, "/api/test-dispatch/greeting", null);
+        Result mismatch = assertSame(HttpMethod.GET, "/api/test-dispatch/number/abc", null);
+
+        // then
+        assertThat(missing.status()).isEqualTo(400);
+        assertThat(mismatch.status()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("매핑 선택 - 겹치는 경로 패턴은 MVC와 같이 가장 구체적인 매핑을 현재 스레드에서 호출한다")
+    void 겹치는패턴은_가장구체적인매핑을_호출한다() {
+        // when
+        Result latest = assertSame(HttpMethod.GET, "/api/test-dispatch/items/latest", null);
+        Result named = assertSame(HttpMethod.GET, "/api/test-dispatch/items/book", null);
+        call(local, HttpMethod.GET, "/api/test-dispatch/items/latest", null);
+
+        // then
+        assertThat(latest.body()).isEqualTo("{\"message\":\"latest\"}");
+        assertThat(named.body()).isEqualTo("{\"message\":\"item book\"}");
+        assertThat(DispatchTestController.lastCaller).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("매핑 선택 - params, headers, consumes 조건으로 같은 경로의 핸들러를 구분한다")
+    void 요청조건으로_핸들러를_구분한다() {
+        // when
+        Result plain = assertSame(HttpMethod.GET, "/api/test-dispatch/mode", null);
+        Result byParam = assertSame(HttpMethod.GET, "/api/test-dispatch/mode?v=2", null);
+        Result byHeader = assertSame(HttpMethod.GET, "/api/test-dispatch/mode?fast=true", null);
+        Result json = assertSame(HttpMethod.POST, "/api/test-dispatch/echo", "{\"message\":\"hi\"}");
+
+        // then
+        assertThat(plain.body()).isEqualTo("{\"message\":\"default\"}");
+        assertThat(byParam.body()).isEqualTo("{\"message\":\"v2\"}");
+        assertThat(byHeader.body()).isEqualTo("{\"message\":\"fast\"}");
+        assertThat(json.body()).isEqualTo("{\"message\":\"json hi\"}");
+    }
+
+    @Test
+    @DisplayName("@Valid 본문 - 검증 실패는 GlobalExceptionHandler의 400 응답, 본문 누락·형식 오류는 400을 돌려준다")
+    void 본문검증실패_응답이_같다() {
+        // when
+        Result invalid = assertSame(HttpMethod.POST, "/api/test-dispatch/named", "{\"name\":\" \"}");
+        Result valid = assertSame(HttpMethod.POST, "/api/test-dispatch/named", "{\"name\":\"ssar\"}");
+        Result malformed = assertSame(HttpMethod.POST, "/api/test-dispatch/named", "{\"name\":");
+        Result missing = assertSame(HttpMethod.POST, "/api/test-dispatch/named", null);
+
+        // then
+        assertThat(invalid.status()).isEqualTo(400);
+        assertThat(invalid.body()).startsWith("Warning: name: ");
+        assertThat(valid.body()).isEqualTo("{\"message\":\"hello ssar\"}");
+        assertThat(malformed.status()).isEqualTo(400);
+        assertThat(missing.status()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("앱 API - /api/user/info의 성공 응답과 없는 사용자 응답이 같다")
+    void 사용자정보_응답이_같다() {
+        // when
+        Result found = assertSame(HttpMethod.GET, "/api/user/info?writerId=1", null);
+        Result missing = assertSame(HttpMethod.GET, "/api/user/info?writerId=999999", null);
+
+        // then
+        assertThat(found.status()).isEqualTo(200);
+        assertThat(missing.status()).isEqualTo(500);
+    }
+
+    private Result assertSame(HttpMethod method, String uri, String jsonBody) {
+        Result viaLocal = call(local, method, uri, jsonBody);
+        Result viaHttp = call(http, method, uri, jsonBody);
+        assertThat(viaLocal).isEqualTo(viaHttp);
+        return viaLocal;
+    }
+
+    private static Result call(RestClient client, HttpMethod method, String uri, String jsonBody) {
+        RestClient.RequestBodySpec spec = client.method(method)
+                .uri(uri)
+                .accept(MediaType.APPLICATION_JSON);
+        if (jsonBody != null) {
+            spec.contentType(MediaType.APPLICATION_JSON).body(jsonBody);
+        }
+        if (uri.contains("fast=true")) {
+            spec.header("X-Mode", "fast");
+        }
+        return spec.exchange((request, response) -> new Result(response.getStatusCode().value(),
+                new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)
+                        .replaceAll("\"timestamp\":\"[^\"]*\",?", "")));
+    }
+
+    private record Result(int status, String body) {
+    }
+
+    record Greeting(String message) {
+    }
+
+    record Named(@NotBlank String name) {
+    }
+
+    @ResponseStatus(HttpStatus.GONE)
+    static class GoneException extends RuntimeException {
+        GoneException() {
+            super("gone");
+        }
+    }
+
+    @RestController
+    static class DispatchTestController {
+
+        static volatile Thread lastCaller;
+
+        @GetMapping("/api/test-dispatch/greeting")
+        public Greeting greeting(@RequestParam String name) {
+            return new Greeting("hello " + name);
+        }
+
+        @PostMapping("/api/test-dispatch/greeting")
+        public ResponseEntity<Greeting> create(@RequestBody Greeting greeting) {
+            return ResponseEntity.status(HttpStatus.CREATED).header("X-Test", "created").body(greeting);
+        }
+
+        @GetMapping("/api/test-dispatch/number/{value}")
+        public Greeting number(@PathVariable int value) {
+            return new Greeting(String.valueOf(value));
+        }
+
+        @GetMapping("/api/test-dispatch/items/{name}")
+        public Greeting item(@PathVariable String name) {
+            lastCaller = Thread.currentThread();
+            return new Greeting("item " + name);
+        }
+
+        @GetMapping("/api/test-dispatch/items/latest")
+        public Greeting latestItem() {
+            lastCaller = Thread.currentThread();
+            return new Greeting("latest");
+        }
+
+        @GetMapping("/api/test-dispatch/mode")
+        public Greeting mode() {
+            return new Greeting("default");
+        }
+
+        @GetMapping(value = "/api/test-dispatch/mode", params = "v=2")
+        public Greeting modeV2() {
+            return new Greeting("v2");
+        }
+
+        @GetMapping(value = "/api/test-dispatch/mode", headers = "X-Mode=fast")
+        public Greeting modeFast(@RequestHeader("X-Mode") String mode) {
+            return new Greeting(mode);
+        }
+
+        @PostMapping(value = "/api/test-dispatch/echo", consumes = MediaType.TEXT_PLAIN_VALUE)
+        public Greeting echoText(@RequestBody String text) {
+            return new Greeting("text " + text);
+        }
+
+        @PostMapping(value = "/api/test-dispatch/echo", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public Greeting echoJson(@RequestBody Greeting greeting) {
+            return new Greeting("json " + greeting.message());
+        }
+
+        @PostMapping("/api/test-dispatch/named")
+        public Greeting named(@Valid @RequestBody Named named) {
+            return new Greeting("hello " + named.name());
+        }
+
+        @GetMapping("/api/test-dispatch/board-not-found")
+        public Greeting boardNotFound() {
+            throw new BoardNotFoundException("게시글이 없습니다.");
+        }
+
+        @GetMapping("/api/test-dispatch/duplicate")
+        public Greeting duplicate() {
+            throw new UserDuplicationException("이미 존재하는 사용자입니다.");
+        }
+
+        @GetMapping("/api/test-dispatch/gone")
+        public Greeting gone() {
+            throw new GoneException();
+        }
+
+        @GetMapping("/api/test-dispatch/failure")
+        public Greeting failure() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
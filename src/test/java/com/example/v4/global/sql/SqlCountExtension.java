@@ -0,0 +1,46 @@
+package com.example.v4.global.sql;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * 테스트 메서드마다 {@link SqlStatementCounter} 범위를 열고, 테스트 메서드 파라미터로 주입하는 JUnit 확장.
+ *
+ * <pre>
+ * &#64;ExtendWith(SqlCountExtension.class)
+ * class BoardRepositoryTest {
+ *     &#64;Test
+ *     void test(SqlStatementCounter sql) {
+ *         // given ...
+ *         sql.reset();
+ *         // when ...
+ *         assertThat(sql.count()).isEqualTo(1);
+ *     }
+ * }
+ * </pre>
+ */
+public class SqlCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementCounter.begin();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.end();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatementCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return SqlStatementCounter.current();
+    }
+}
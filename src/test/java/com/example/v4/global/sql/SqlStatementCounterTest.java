@@ -0,0 +1,38 @@
+package com.example.v4.global.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SQL 문 집계 단위 테스트")
+class SqlStatementCounterTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.end();
+    }
+
+    @Test
+    @DisplayName("statements - SQL을 처음 실행된 순서대로 횟수와 함께 돌려준다")
+    void statements_처음실행된순서로_돌려준다() {
+        // given
+        SqlStatementCounter counter = SqlStatementCounter.begin();
+        String[] sqls = { "select b from board_tb", "select u from user_tb", "select r from reply_tb",
+                "select c from board_content_tb", "update board_tb", "insert into reply_tb", "delete from reply_tb",
+                "select count(*) from board_tb", "select s from board_stats_tb", "select i from image_tb" };
+        for (String sql : sqls) {
+            counter.record(sql);
+        }
+        counter.record(sqls[1]);
+
+        // when
+        var statements = counter.statements();
+
+        // then
+        assertThat(statements.keySet()).containsExactly(sqls);
+        assertThat(statements.get(sqls[1])).isEqualTo(2);
+        assertThat(counter.count()).isEqualTo(sqls.length + 1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.v4.global.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("요청 추적 단위 테스트")
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.end();
+    }
+
+    @Test
+    @DisplayName("serverTiming - 분류별 호출 수와 시간을 Server-Timing 형식으로 만든다")
+    void serverTiming_분류별로_헤더를만든다() {
+        // given
+        RequestTrace trace = RequestTrace.begin();
+        long svc = trace.start(RequestTrace.Category.SVC);
+        long db1 = trace.start(RequestTrace.Category.DB);
+        trace.stop(RequestTrace.Category.DB, db1, "execute");
+        long db2 = trace.start(RequestTrace.Category.DB);
+        trace.stop(RequestTrace.Category.DB, db2, "execute");
+        trace.stop(RequestTrace.Category.SVC, svc, "BoardService#boardDto");
+
+        // when
+        String header = trace.serverTiming(trace.elapsedNanos());
+
+        // then
+        assertThat(header).matches("svc;desc=\"Service\";dur=[0-9.]+, db;desc=\"JDBC x2\";dur=[0-9.]+, total;dur=[0-9.]+");
+        assertThat(RequestTrace.current()).isSameAs(trace);
+    }
+
+    @Test
+    @DisplayName("stop - 같은 분류의 중첩 구간은 바깥 구간 시간만 합산한다")
+    void stop_중첩구간은_바깥구간만_합산한다() throws InterruptedException {
+        // given
+        RequestTrace trace = RequestTrace.begin();
+        long outer = trace.start(RequestTrace.Category.SVC);
+        long inner = trace.start(RequestTrace.Category.SVC);
+        Thread.sleep(20);
+        trace.stop(RequestTrace.Category.SVC, inner, "UserService#userInfos");
+        trace.stop(RequestTrace.Category.SVC, outer, "BoardService#list");
+
+        // when
+        String header = trace.serverTiming(trace.elapsedNanos());
+        String dump = trace.dump("GET /", trace.elapsedNanos());
+
+        // then
+        double svc = Double.parseDouble(header.replaceAll(".*svc;desc=\"Service x2\";dur=([0-9.]+).*", "$1"));
+        double total = Double.parseDouble(header.replaceAll(".*total;dur=([0-9.]+)", "$1"));
+        assertThat(svc).isLessThanOrEqualTo(total);
+        assertThat(dump.indexOf("BoardService#list")).isLessThan(dump.indexOf("UserService#userInfos"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.v4.reply.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.example.v4.board.entity.Board;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardVersions;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.exception.InvalidReplyRequestException;
+import com.example.v4.global.monitor.LatencyMetrics;
+import com.example.v4.global.sql.SqlCountExtension;
+import com.example.v4.global.sql.SqlStatementCounter;
+import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.reply.bulk.batch-size=4",
+        "app.reply.bulk.max-size=20" })
+@Import({ ReplyBulkService.class, PageCache.class, BoardDetailCache.class, BoardVersions.class,
+        ReplyBulkServiceTest.Config.class })
+@ExtendWith(SqlCountExtension.class)
+@DisplayName("댓글 일괄 등록")
+class ReplyBulkServiceTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        LatencyMetrics latencyMetrics() {
+            return new LatencyMetrics(Duration.ofMinutes(1), Duration.ofSeconds(10));
+        }
+    }
+
+    @Autowired
+    private ReplyBulkService service;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userName("bulk-user")
+                .password("1234")
+                .email("bulk@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("saveAll - batch-size 단위 JDBC 배치로 INSERT하고 게시글·사용자 엔티티는 로딩하지 않는다")
+    void saveAll_배치단위로INSERT한다(SqlStatementCounter sql) {
+        // given
+        List<ReplyRequestDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dtos.add(reply(String.valueOf(board.getId()), "댓글" + i));
+        }
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        sql.reset();
+
+        // when
+        ReplyBulkService.BulkResult result = service.saveAll(dtos, sessionUser());
+
+        // then
+        assertThat(result.inserted()).isEqualTo(10);
+        assertThat(result.rejected()).isEmpty();
+        assertThat(result.batches()).extracting(ReplyBulkService.BatchTiming::size).containsExactly(4, 4, 2);
+        assertThat(stats.getEntityLoadCount()).isZero();
+        // INSERT는 행마다가 아니라 JDBC 배치마다 한 번씩 준비된다
+        assertThat(sql.statements()).hasEntrySatisfying(
+                "insert into reply_tb (board_id,comment,created_at,user_id,id) values (?,?,?,?,?)",
+                prepared -> assertThat(prepared).isEqualTo(3));
+        assertThat(replyCount()).isEqualTo(10);
+        assertThat(em.find(Board.class, board.getId()).getReplyCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("saveAll - 형식이 잘못되었거나 존재하지 않는 게시글의 댓글은 건너뛰고 위치를 반환한다")
+    void saveAll_잘못된항목은_건너뛴다() {
+        // given
+        List<ReplyRequestDto> dtos = List.of(
+                reply(String.valueOf(board.getId()), "정상"),
+                reply("abc", "형식 오류"),
+                reply("999999", "없는 게시글"),
+                reply(String.valueOf(board.getId()), " "));
+
+        // when
+        ReplyBulkService.BulkResult result = service.saveAll(dtos, sessionUser());
+
+        // then
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.rejected()).containsExactly(1, 2, 3);
+        assertThat(replyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("saveAll - max-size를 넘으면 예외를 던진다")
+    void saveAll_최대건수초과면_예외를던진다() {
+        // given
+        List<ReplyRequestDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            dtos.add(reply(String.valueOf(board.getId()), "댓글" + i));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> service.saveAll(dtos, sessionUser()))
+                .isInstanceOf(InvalidReplyRequestException.class)
+                .hasMessage("한 번에 등록할 수 있는 댓글은 최대 20개입니다.");
+    }
+
+    private SessionUser sessionUser() {
+        return new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+    }
+
+    private long replyCount() {
+        return em.createQuery("select count(r) from Reply r where r.board.id = :id", Long.class)
+                .setParameter("id", board.getId())
+                .getSingleResult();
+    }
+
+    private static ReplyRequestDto reply(String boardId, String comment) {
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId(boardId);
+        dto.setComment(comment);
+        return dto;
+    }
+}
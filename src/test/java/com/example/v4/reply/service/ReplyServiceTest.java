@@ -0,0 +1,247 @@
+package com.example.v4.reply.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.v4.board.entity.Board;
+import com.example.v4.board.service.BoardDetailCache;
+import com.example.v4.board.service.BoardVersions;
+import com.example.v4.global.cache.PageCache;
+import com.example.v4.global.cache.WriterCache;
+import com.example.v4.global.dto.Dto;
+import com.example.v4.global.dto.SessionUser;
+import com.example.v4.global.sql.SqlCountExtension;
+import com.example.v4.global.sql.SqlStatementCounter;
+import com.example.v4.reply.dto.ReplyRequestDto;
+import com.example.v4.reply.dto.ReplyResponseDto;
+import com.example.v4.reply.entity.Reply;
+import com.example.v4.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ ReplyService.class, PageCache.class, WriterCache.class, BoardDetailCache.class, BoardVersions.class })
+@ExtendWith(SqlCountExtension.class)
+@DisplayName("댓글 서비스")
+class ReplyServiceTest {
+
+    @Autowired
+    private ReplyService service;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private WriterCache writerCache;
+
+    @Test
+    @DisplayName("save - 댓글 통계 UPDATE 1회(게시글 존재 확인 겸)와 INSERT 1회만 실행하고(ID 시퀀스 호출 제외) 게시글·사용자 그래프는 로딩하지 않는다")
+    void save_통계갱신과_INSERT만실행한다(SqlStatementCounter sql) {
+        // given
+        User user = User.builder()
+                .userName("reply-user")
+                .password("1234")
+                .email("reply@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        em.flush();
+        em.clear();
+
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId(String.valueOf(board.getId()));
+        dto.setComment("댓글");
+        SessionUser sessionUser = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        // 로그인 사용자는 목록·상세의 작성자 이름 조회로 이미 작성자 캐시에 있는 상태
+        writerCache.get(user.getId(), id -> new Dto.User(id, user.getUserName()));
+
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        sql.reset();
+
+        // when
+        ReplyService.Result result = service.save(dto, sessionUser);
+        em.flush();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        // ID 시퀀스는 allocation-size 건마다 1회만 호출된다
+        assertThat(sql.statements().keySet()).filteredOn(statement -> !statement.contains("next value for")).hasSize(2);
+        assertThat(sql.count()).isLessThanOrEqualTo(3);
+        assertThat(sql.repeated(2)).isEmpty();
+        assertThat(stats.getEntityLoadCount()).isZero();
+        Board saved = em.find(Board.class, board.getId());
+        assertThat(saved.getReplyCount()).isEqualTo(1);
+        assertThat(saved.getLastReplyAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("delete - 댓글 수를 줄이고 최근 댓글 시각을 남은 댓글 기준으로 다시 계산한다")
+    void delete_댓글통계를_갱신한다() {
+        // given
+        User user = User.builder()
+                .userName("delete-user")
+                .password("1234")
+                .email("delete@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        em.flush();
+        em.clear();
+        SessionUser sessionUser = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId(String.valueOf(board.getId()));
+        dto.setComment("댓글");
+        service.save(dto, sessionUser);
+        service.save(dto, sessionUser);
+        em.flush();
+        em.clear();
+        Reply older = em.createQuery("select r from Reply r where r.board.id = :id order by r.id", Reply.class)
+                .setParameter("id", board.getId())
+                .setMaxResults(1)
+                .getSingleResult();
+        Integer newestId = em.createQuery("select max(r.id) from Reply r where r.board.id = :id", Integer.class)
+                .setParameter("id", board.getId())
+                .getSingleResult();
+        em.clear();
+
+        // when
+        ReplyService.Result result = service.delete(newestId, sessionUser);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        Board updated = em.find(Board.class, board.getId());
+        assertThat(updated.getReplyCount()).isEqualTo(1);
+        assertThat(updated.getLastReplyAt()).isEqualTo(older.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("save - 세션의 사용자가 삭제되었으면 FK 위반 대신 실패 결과를 반환하고 댓글 통계는 바꾸지 않는다")
+    void save_삭제된사용자면_실패한다(SqlStatementCounter sql) {
+        // given
+        User user = User.builder()
+                .userName("deleted-user")
+                .password("1234")
+                .email("deleted@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        SessionUser sessionUser = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        em.remove(user);
+        em.flush();
+        em.clear();
+
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId(String.valueOf(board.getId()));
+        dto.setComment("댓글");
+        sql.reset();
+
+        // when
+        ReplyService.Result result = service.save(dto, sessionUser);
+        em.flush();
+
+        // then: 작성자 캐시에 없으므로 사용자 PK 조회 1회만 실행한다
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.message()).isEqualTo("저장에 실패했습니다.");
+        assertThat(sql.count()).isEqualTo(1);
+        assertThat(em.find(Board.class, board.getId()).getReplyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("save - 존재하지 않는 게시글이면 실패 결과를 반환한다")
+    void save_존재하지않는게시글이면_실패한다() {
+        // given
+        ReplyRequestDto dto = new ReplyRequestDto();
+        dto.setBoardId("999999");
+        dto.setComment("댓글");
+
+        // when
+        ReplyService.Result result = service.save(dto, new SessionUser(1, "ssar", "ssar@email.com"));
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.message()).isEqualTo("저장에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("page - 댓글을 최신순으로 PAGE_SIZE개씩 커서로 이어 읽고, 페이지마다 SQL 1회만 실행한다")
+    void page_커서로_이어읽는다(SqlStatementCounter sql) {
+        // given
+        User user = User.builder()
+                .userName("page-user")
+                .password("1234")
+                .email("page@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(user);
+        Board board = Board.builder()
+                .title("제목")
+                .content("내용")
+                .writerId(user.getId())
+                .createdAt(Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")))
+                .build();
+        em.persist(board);
+        int total = ReplyService.PAGE_SIZE + 5;
+        for (int i = 0; i < total; i++) {
+            Reply reply = new Reply();
+            reply.setComment("댓글" + i);
+            reply.setBoard(board);
+            reply.setUser(user);
+            em.persist(reply);
+        }
+        em.flush();
+        em.clear();
+        SessionUser sessionUser = new SessionUser(user.getId(), user.getUserName(), user.getEmail());
+        sql.reset();
+
+        // when
+        ReplyService.ReplyPage first = service.page(board.getId(), null, sessionUser);
+        ReplyService.ReplyPage second = service.page(board.getId(), first.nextCursor(), null);
+
+        // then
+        assertThat(first.replies()).hasSize(ReplyService.PAGE_SIZE);
+        assertThat(first.replies().get(0).getComment()).isEqualTo("댓글" + (total - 1));
+        assertThat(first.replies()).allMatch(ReplyResponseDto::isReplyWriter);
+        assertThat(first.nextCursor()).isEqualTo(first.replies().get(ReplyService.PAGE_SIZE - 1).getId());
+        assertThat(second.replies()).extracting(ReplyResponseDto::getComment)
+                .containsExactly("댓글4", "댓글3", "댓글2", "댓글1", "댓글0");
+        assertThat(second.replies()).noneMatch(ReplyResponseDto::isReplyWriter);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(sql.count()).isEqualTo(2);
+    }
+}
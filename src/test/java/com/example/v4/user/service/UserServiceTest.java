@@ -19,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.example.v4.global.dto.Dto;
+import com.example.v4.global.dto.SessionUser;
 import com.example.v4.global.exception.InvalidCredentialsException;
 import com.example.v4.global.exception.UserDuplicationException;
 import com.example.v4.user.dto.UserRequestDto.Join;
@@ -86,8 +88,8 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("authenticate - 일치하는 사용자명과 비밀번호가 주어지면 회원을 반환한다")
-    void authenticate_일치하는사용자명비밀번호면_회원을반환한다() {
+    @DisplayName("authenticate - 일치하는 사용자명과 비밀번호가 주어지면 세션 사용자를 반환한다")
+    void authenticate_일치하는사용자명비밀번호면_세션사용자를반환한다() {
         // given
         Login loginDto = new Login("testuser", "password123");
         User savedUser = User.builder()
@@ -101,12 +103,10 @@ class UserServiceTest {
         given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
 
         // when
-        User actual = userService.authenticate(loginDto);
+        SessionUser actual = userService.authenticate(loginDto);
 
         // then
-        assertThat(actual)
-                .extracting("userName", "email")
-                .containsExactly("testuser", "test@email.com");
+        assertThat(actual).isEqualTo(new SessionUser(1, "testuser", "test@email.com"));
     }
 
     @Test
@@ -157,14 +157,10 @@ class UserServiceTest {
         given(repository.findByUserName("findme")).willReturn(Optional.of(expected));
 
         // when
-        Optional<User> actual = userService.userInfoByName("findme");
+        Optional<Dto.User> actual = userService.userInfoByName("findme");
 
         // then
-        assertThat(actual)
-                .isPresent()
-                .get()
-                .extracting("id", "userName")
-                .containsExactly(1, "findme");
+        assertThat(actual).contains(new Dto.User(1, "findme"));
     }
 
     @Test
@@ -174,7 +170,7 @@ class UserServiceTest {
         given(repository.findByUserName("nobody")).willReturn(Optional.empty());
 
         // when
-        Optional<User> actual = userService.userInfoByName("nobody");
+        Optional<Dto.User> actual = userService.userInfoByName("nobody");
 
         // then
         assertThat(actual).isEmpty();
@@ -194,13 +190,9 @@ class UserServiceTest {
         given(repository.findById(1)).willReturn(Optional.of(expected));
 
         // when
-        Optional<User> actual = userService.userInfo(1);
+        Optional<Dto.User> actual = userService.userInfo(1);
 
         // then
-        assertThat(actual)
-                .isPresent()
-                .get()
-                .hasFieldOrPropertyWithValue("id", 1)
-                .hasFieldOrPropertyWithValue("userName", "user1");
+        assertThat(actual).contains(new Dto.User(1, "user1"));
     }
 }
@@ -0,0 +1,3 @@
+-- 본문이 board_tb.content에 있던 기존 DB (BoardContentMigratorStartupTest)
+alter table board_tb add column if not exists content clob;
+insert into board_tb (id, title, content, writer_id, created_at) values (900, 'legacy', 'legacy content', 1, now());